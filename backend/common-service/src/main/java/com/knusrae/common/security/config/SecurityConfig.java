@@ -87,6 +87,7 @@ public class SecurityConfig {
                 "Authorization",
                 "Content-Type",
                 "X-Requested-With",
+                "X-Visitor-Id",
                 "Cross-Origin-Opener-Policy",
                 "Cross-Origin-Embedder-Policy"
         ));
@@ -0,0 +1,162 @@
+package com.knusrae.common.utils;
+
+/**
+ * 한글 자모 분해 유틸.
+ * 초성 검색("ㄱㅊㅉㄱ" -> 김치찌개)과 조합 중인 글자 검색("김칯" -> 김치찌개)에 쓰는
+ * 초성 문자열·자모 문자열을 만든다. 자모는 모두 호환 자모(U+3131~U+318E)로 표기한다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char JAMO_BEGIN = 'ㄱ';
+    private static final char JAMO_END = 'ㆎ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    /** 종성 (0번은 받침 없음) */
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    /**
+     * 쌍자음·겹받침·이중모음을 기본 자모로 풀어쓴 표 (호환 자모 오프셋 기준).
+     * "김칮"처럼 다음 글자의 초성이 받침으로 붙어 있는 입력도 풀어쓰면 같은 자모열이 된다.
+     */
+    private static final String[] COMPOUND = new String[JAMO_END - JAMO_BEGIN + 1];
+
+    static {
+        String[][] table = {
+                {"ㄲ", "ㄱㄱ"}, {"ㄸ", "ㄷㄷ"}, {"ㅃ", "ㅂㅂ"}, {"ㅆ", "ㅅㅅ"}, {"ㅉ", "ㅈㅈ"},
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+                {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+                {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+                {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] entry : table) {
+            COMPOUND[entry[0].charAt(0) - JAMO_BEGIN] = entry[1];
+        }
+    }
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 완성형 한글 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 호환 자모(낱자) 여부
+     */
+    public static boolean isJamo(char c) {
+        return c >= JAMO_BEGIN && c <= JAMO_END;
+    }
+
+    /**
+     * 낱자 자모가 하나라도 포함되어 있는지 (초성 입력, 조합 중인 입력)
+     */
+    public static boolean containsJamo(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (isJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음 낱자인지 (초성 검색어)
+     * 예: "ㄱㅊ ㅉㄱ" -> true, "김ㅊ" -> false
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < JAMO_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 초성 문자열. 음절은 초성으로 바꾸고 공백은 지우며, 그 밖의 글자는 그대로 둔다.
+     * 예: "김치 찌개" -> "ㄱㅊㅉㄱ"
+     */
+    public static String toChosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 문자열. 음절을 초성·중성·종성으로 나누고 겹자모는 기본 자모로 풀어쓰며, 공백은 지운다.
+     * 예: "김치찌개" -> "ㄱㅣㅁㅊㅣㅈㅈㅣㄱㅐ", "김칮" -> "ㄱㅣㅁㅊㅣㅈ"
+     */
+    public static String toJamo(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                appendJamo(sb, CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                appendJamo(sb, JUNGSUNG[(offset / JONGSUNG_COUNT) % JUNGSUNG_COUNT]);
+                char jong = JONGSUNG[offset % JONGSUNG_COUNT];
+                if (jong != 0) {
+                    appendJamo(sb, jong);
+                }
+            } else if (isJamo(c)) {
+                appendJamo(sb, c);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String expanded = COMPOUND[jamo - JAMO_BEGIN];
+        if (expanded != null) {
+            sb.append(expanded);
+        } else {
+            sb.append(jamo);
+        }
+    }
+}
@@ -20,7 +20,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "com.knusrae.common.domain.entity",
         "com.knusrae.cook.api.recipe.domain.entity",
         "com.knusrae.cook.api.ingredient.domain.entity",
-        "com.knusrae.cook.api.theme.domain.entity"
+        "com.knusrae.cook.api.theme.domain.entity",
+        "com.knusrae.cook.api.search.domain.entity",
+        "com.knusrae.cook.api.scheduler.domain.entity"
 })
 public class CookServiceApplication {
 
@@ -2,6 +2,7 @@ package com.knusrae.cook.api.admin.domain.service;
 
 import com.knusrae.common.custom.storage.ImageStorage;
 import com.knusrae.cook.api.ingredient.domain.entity.Ingredient;
+import com.knusrae.cook.api.ingredient.domain.event.IngredientChangedEvent;
 import com.knusrae.cook.api.ingredient.domain.entity.IngredientGroup;
 import com.knusrae.cook.api.ingredient.domain.entity.IngredientPreparation;
 import com.knusrae.cook.api.ingredient.domain.entity.IngredientStorage;
@@ -14,6 +15,7 @@ import com.knusrae.cook.api.recipe.domain.constants.RecipeConstants;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +35,7 @@ public class AdminIngredientService {
     private final IngredientStorageRepository storageRepository;
     private final IngredientPreparationRepository preparationRepository;
     private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public IngredientGroupDto createGroup(String name, String imageUrl, Integer sortOrder) {
@@ -46,6 +49,7 @@ public class AdminIngredientService {
                 .sortOrder(order)
                 .build();
         IngredientGroup saved = groupRepository.save(group);
+        eventPublisher.publishEvent(IngredientChangedEvent.group(saved.getId()));
         return IngredientGroupDto.fromEntity(saved);
     }
 
@@ -67,6 +71,7 @@ public class AdminIngredientService {
                 .sortOrder(order)
                 .build();
         Ingredient saved = ingredientRepository.save(ingredient);
+        eventPublisher.publishEvent(IngredientChangedEvent.ingredient(saved.getId()));
         return IngredientDto.fromEntity(saved);
     }
 
@@ -155,6 +160,7 @@ public class AdminIngredientService {
                 order
         );
         IngredientGroup saved = groupRepository.save(group);
+        eventPublisher.publishEvent(IngredientChangedEvent.group(saved.getId()));
         return IngredientGroupDto.fromEntity(saved);
     }
 
@@ -170,6 +176,7 @@ public class AdminIngredientService {
             ingredientRepository.delete(ingredient);
         }
         groupRepository.delete(group);
+        eventPublisher.publishEvent(IngredientChangedEvent.group(groupId));
     }
 
     /**
@@ -192,6 +199,7 @@ public class AdminIngredientService {
                 order
         );
         Ingredient saved = ingredientRepository.save(ingredient);
+        eventPublisher.publishEvent(IngredientChangedEvent.ingredient(saved.getId()));
         return IngredientDto.fromEntity(saved);
     }
 
@@ -204,6 +212,7 @@ public class AdminIngredientService {
             throw new EntityNotFoundException("재료를 찾을 수 없습니다: " + ingredientId);
         }
         ingredientRepository.deleteById(ingredientId);
+        eventPublisher.publishEvent(IngredientChangedEvent.ingredient(ingredientId));
     }
 
     @Transactional
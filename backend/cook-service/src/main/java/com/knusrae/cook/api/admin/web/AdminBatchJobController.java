@@ -0,0 +1,38 @@
+package com.knusrae.cook.api.admin.web;
+
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJobRunner;
+import com.knusrae.cook.api.scheduler.dto.BatchJobDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 청크 배치 작업 현황 관리자 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cook/admin/batch-jobs")
+@RequiredArgsConstructor
+public class AdminBatchJobController {
+
+    private final ChunkJobRunner chunkJobRunner;
+
+    /**
+     * 작업별 체크포인트(진행 위치·누적 건수)와 이 인스턴스의 마지막 실행 시간 통계
+     */
+    @GetMapping
+    public ResponseEntity<List<BatchJobDto>> getJobs() {
+        try {
+            return ResponseEntity.ok(chunkJobRunner.getJobs());
+        } catch (Exception e) {
+            log.error("GET /api/cook/admin/batch-jobs - 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
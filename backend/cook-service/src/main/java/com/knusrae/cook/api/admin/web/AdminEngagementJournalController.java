@@ -0,0 +1,28 @@
+package com.knusrae.cook.api.admin.web;
+
+import com.knusrae.cook.api.recipe.domain.journal.EngagementJournal;
+import com.knusrae.cook.api.recipe.dto.EngagementJournalStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 참여 이벤트 저널 현황 관리자 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/cook/admin/engagement-journal")
+@RequiredArgsConstructor
+public class AdminEngagementJournalController {
+
+    private final EngagementJournal engagementJournal;
+
+    /**
+     * 세그먼트 수·오프셋 범위·소비자별 커밋 오프셋
+     */
+    @GetMapping
+    public ResponseEntity<EngagementJournalStatsDto> getStats() {
+        return ResponseEntity.ok(engagementJournal.getStats());
+    }
+}
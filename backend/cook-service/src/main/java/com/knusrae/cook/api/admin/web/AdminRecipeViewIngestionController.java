@@ -0,0 +1,28 @@
+package com.knusrae.cook.api.admin.web;
+
+import com.knusrae.cook.api.recipe.domain.view.RecipeViewBuffer;
+import com.knusrae.cook.api.recipe.dto.RecipeViewIngestionStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 조회 기록 쓰기 버퍼 현황 관리자 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/cook/admin/recipe-view-ingestion")
+@RequiredArgsConstructor
+public class AdminRecipeViewIngestionController {
+
+    private final RecipeViewBuffer recipeViewBuffer;
+
+    /**
+     * 대기 수·합쳐진 조회 수·직접 저장(backpressure) 수·마지막 저장 시간
+     */
+    @GetMapping
+    public ResponseEntity<RecipeViewIngestionStatsDto> getStats() {
+        return ResponseEntity.ok(recipeViewBuffer.getStats());
+    }
+}
@@ -0,0 +1,38 @@
+package com.knusrae.cook.api.admin.web;
+
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import com.knusrae.cook.api.scheduler.dto.SchedulerLeaseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 배치 작업 임대 현황 관리자 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cook/admin/scheduler-leases")
+@RequiredArgsConstructor
+public class AdminSchedulerLeaseController {
+
+    private final SchedulerLock schedulerLock;
+
+    /**
+     * 작업별 현재 임대 보유자와 이 인스턴스의 획득·건너뜀·상실 횟수
+     */
+    @GetMapping
+    public ResponseEntity<List<SchedulerLeaseDto>> getLeases() {
+        try {
+            return ResponseEntity.ok(schedulerLock.getLeases());
+        } catch (Exception e) {
+            log.error("GET /api/cook/admin/scheduler-leases - 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
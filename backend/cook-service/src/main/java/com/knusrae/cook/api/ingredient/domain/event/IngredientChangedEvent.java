@@ -0,0 +1,24 @@
+package com.knusrae.cook.api.ingredient.domain.event;
+
+/**
+ * 재료 마스터(재료 그룹/재료) 변경 이벤트.
+ * 트랜잭션 커밋 이후(AFTER_COMMIT)에 재료 그룹 캐시, 자동완성 사전 등 파생 데이터 갱신에 사용한다.
+ *
+ * @param target 변경 대상
+ * @param id     변경된 재료 그룹 ID 또는 재료 ID
+ */
+public record IngredientChangedEvent(Target target, Long id) {
+
+    public enum Target {
+        GROUP,
+        INGREDIENT
+    }
+
+    public static IngredientChangedEvent group(Long groupId) {
+        return new IngredientChangedEvent(Target.GROUP, groupId);
+    }
+
+    public static IngredientChangedEvent ingredient(Long ingredientId) {
+        return new IngredientChangedEvent(Target.INGREDIENT, ingredientId);
+    }
+}
@@ -3,20 +3,25 @@ package com.knusrae.cook.api.ingredient.domain.service;
 import com.knusrae.cook.api.ingredient.domain.entity.Ingredient;
 import com.knusrae.cook.api.ingredient.domain.entity.IngredientPreparation;
 import com.knusrae.cook.api.ingredient.domain.entity.IngredientStorage;
+import com.knusrae.cook.api.ingredient.domain.event.IngredientChangedEvent;
 import com.knusrae.cook.api.ingredient.domain.repository.IngredientGroupRepository;
 import com.knusrae.cook.api.ingredient.domain.repository.IngredientPreparationRepository;
 import com.knusrae.cook.api.ingredient.domain.repository.IngredientRepository;
 import com.knusrae.cook.api.ingredient.domain.repository.IngredientStorageRepository;
 import com.knusrae.cook.api.ingredient.dto.*;
+import com.knusrae.cook.api.search.domain.index.SpellingIndex;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Collections;
 import java.util.List;
@@ -31,12 +36,38 @@ public class IngredientService {
     private final IngredientGroupRepository groupRepository;
     private final IngredientStorageRepository storageRepository;
     private final IngredientPreparationRepository preparationRepository;
+    private final SpellingIndex spellingIndex;
+
+    /** 재료 그룹 목록 캐시 유지 시간. 변경 이벤트는 이 인스턴스에서만 오므로 다른 인스턴스의 변경은 이 시간 안에 반영된다. */
+    @Value("${app.ingredient.group-cache-ttl-ms:60000}")
+    private long groupCacheTtlMs;
+
+    /** 재료 그룹 목록 캐시. 관리자 변경 시 또는 TTL 이 지나면 다시 조회하므로 재료 검색마다 조회하지 않는다. */
+    private volatile CachedGroups cachedGroups;
 
     public List<IngredientGroupDto> getAllGroups() {
-        return groupRepository.findAllByOrderBySortOrderAsc()
-                .stream()
-                .map(IngredientGroupDto::fromEntity)
-                .collect(Collectors.toList());
+        CachedGroups cached = cachedGroups;
+        long now = System.currentTimeMillis();
+        if (cached == null || now - cached.loadedAt() >= groupCacheTtlMs) {
+            List<IngredientGroupDto> groups = groupRepository.findAllByOrderBySortOrderAsc()
+                    .stream()
+                    .map(IngredientGroupDto::fromEntity)
+                    .toList();
+            cached = new CachedGroups(groups, now);
+            cachedGroups = cached;
+        }
+        return cached.groups();
+    }
+
+    /**
+     * 재료 그룹 변경 시 캐시 제거 (커밋 이후)
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        if (event.target() == IngredientChangedEvent.Target.GROUP) {
+            cachedGroups = null;
+        }
     }
 
     private List<IngredientGroupDto> getGroupsForType(String type) {
@@ -63,7 +94,31 @@ public class IngredientService {
         return getAllGroups();
     }
 
+    /**
+     * 재료 목록 조회. 검색어로 찾은 재료가 없으면 오타 교정한 재료명으로 한 번 더 찾는다.
+     */
     public IngredientListResponseDto getIngredients(Long groupId, String searchQuery, String type, int limit, int offset) {
+        Pageable pageable = PageRequest.of(offset / limit, limit);
+        Page<Ingredient> page = ingredientRepository.findAll(ingredientSpec(groupId, searchQuery), pageable);
+        String correctedQuery = null;
+        if (page.isEmpty() && offset == 0 && searchQuery != null && !searchQuery.isBlank()) {
+            correctedQuery = spellingIndex.correct(searchQuery);
+            if (correctedQuery != null) {
+                page = ingredientRepository.findAll(ingredientSpec(groupId, correctedQuery), pageable);
+            }
+        }
+        List<IngredientGroupDto> groups = getAllGroups();
+        return IngredientListResponseDto.builder()
+                .groups(groups)
+                .ingredients(page.getContent().stream()
+                        .map(IngredientDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .totalCount(page.getTotalElements())
+                .correctedQuery(correctedQuery)
+                .build();
+    }
+
+    private Specification<Ingredient> ingredientSpec(Long groupId, String searchQuery) {
         Specification<Ingredient> spec = Specification.where(null);
         if (groupId != null) {
             spec = spec.and((root, query, cb) ->
@@ -76,16 +131,7 @@ public class IngredientService {
                     cb.like(cb.lower(root.get("name")), searchPattern)
             );
         }
-        Pageable pageable = PageRequest.of(offset / limit, limit);
-        Page<Ingredient> page = ingredientRepository.findAll(spec, pageable);
-        List<IngredientGroupDto> groups = getAllGroups();
-        return IngredientListResponseDto.builder()
-                .groups(groups)
-                .ingredients(page.getContent().stream()
-                        .map(IngredientDto::fromEntity)
-                        .collect(Collectors.toList()))
-                .totalCount(page.getTotalElements())
-                .build();
+        return spec;
     }
 
     public IngredientStorageDto getStorage(Long ingredientId) {
@@ -105,4 +151,7 @@ public class IngredientService {
                 ));
         return IngredientPreparationDto.fromEntity(preparation);
     }
+
+    private record CachedGroups(List<IngredientGroupDto> groups, long loadedAt) {
+    }
 }
@@ -14,4 +14,6 @@ public class IngredientListResponseDto {
     private List<IngredientGroupDto> groups;
     private List<IngredientDto> ingredients;
     private Long totalCount;
+    /** 검색 결과가 없어 오타 교정한 재료명으로 다시 찾은 경우 그 재료명 */
+    private String correctedQuery;
 }
@@ -1,40 +1,129 @@
 package com.knusrae.cook.api.popular.config;
 
+import com.knusrae.cook.api.popular.domain.service.PopularRecipeLeaderboard;
 import com.knusrae.cook.api.popular.domain.service.PopularityCalculationService;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기도 배치 스케줄.
+ * 전체 계산·순위 스냅샷 저장·스냅샷 축약은 DB에 결과를 쓰는 작업이라 {@link SchedulerLock} 임대를 잡은 한 인스턴스만 실행한다.
+ * 증분 계산(재계산 대상이 인스턴스 메모리에 있음)과 순위 스냅샷 갱신(조회용 메모리 캐시)은 인스턴스마다 실행한다.
+ */
 @Configuration
 @EnableScheduling
 @RequiredArgsConstructor
 @Slf4j
 public class BatchSchedulerConfig {
-    
+
     private final PopularityCalculationService popularityCalculationService;
-    
+    private final PopularRecipeLeaderboard popularRecipeLeaderboard;
+    private final SchedulerLock schedulerLock;
+    /** 전체 계산과 증분 계산이 같은 인기도 행을 동시에 쓰지 않도록 */
+    private final ReentrantLock popularityLock = new ReentrantLock();
+
+    /**
+     * 기동 시 전체 인기도 계산 (메모리의 재계산 대상·만료 큐를 다시 채운다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void calculatePopularityScoresOnReady() {
+        Thread.ofVirtual()
+                .name("popularity-initial-calculation")
+                .start(this::recalculateAllPopularityScores);
+    }
+
     /**
-     * 인기도 점수 계산 및 순위 추적 - 매 1시간마다
+     * 증분 인기도 계산 - 기본 5분마다
+     * 마지막 실행 이후 활동이 있었거나 집계 윈도우가 만료된 레시피만 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${app.popularity.incremental-interval-ms:300000}",
+            initialDelayString = "${app.popularity.incremental-interval-ms:300000}")
+    public void calculateDirtyPopularityScores() {
+        if (!popularityLock.tryLock()) {
+            log.debug("Popularity calculation in progress, skipping incremental run");
+            return;
+        }
+        try {
+            popularityCalculationService.calculateDirtyPopularityScores();
+            popularRecipeLeaderboard.refresh();
+        } catch (Exception e) {
+            log.error("Error during incremental popularity score calculation", e);
+        } finally {
+            popularityLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 인기도 계산 - 매일 자정 직후
+     * 점수가 작성 후 경과 일수로 나뉘므로 날짜가 바뀌면 활동이 없는 레시피의 점수도 달라진다
+     */
+    @Scheduled(cron = "${app.popularity.full-calculation-cron:0 5 0 * * *}")
+    public void recalculateAllPopularityScores() {
+        log.info("Starting scheduled full popularity score calculation");
+        popularityLock.lock();
+        try {
+            boolean executed = schedulerLock.runExclusively("popularity-full-calculation",
+                    popularityCalculationService::calculateAllPopularityScores);
+            if (executed) {
+                log.info("Full popularity score calculation completed");
+            }
+            popularRecipeLeaderboard.refresh();
+        } catch (Exception e) {
+            log.error("Error during full popularity score calculation", e);
+        } finally {
+            popularityLock.unlock();
+        }
+    }
+
+    /**
+     * 순위 스냅샷 저장 - 매 1시간마다
      * 매시 정각에 실행
      */
     @Scheduled(cron = "0 0 * * * *")
-    public void calculatePopularityScores() {
-        log.info("Starting scheduled popularity score calculation");
+    public void trackRankingChanges() {
         try {
-            // 1. 인기도 점수 계산
-            popularityCalculationService.calculateAllPopularityScores();
-            log.info("Popularity score calculation completed");
-            
-            // 2. 순위 변동 추적
-            popularityCalculationService.trackRankingChanges();
-            log.info("Ranking change tracking completed");
-            
-            log.info("Scheduled popularity score calculation completed successfully");
+            if (schedulerLock.runExclusively("popularity-ranking-snapshot", popularityCalculationService::trackRankingChanges)) {
+                log.info("Ranking change tracking completed");
+            }
+            // 이전 순위(24시간 전 히스토리) 기준이 바뀌었으므로 트렌드 상태를 다시 계산
+            popularRecipeLeaderboard.refresh();
         } catch (Exception e) {
-            log.error("Error during scheduled popularity score calculation", e);
+            log.error("Error during ranking change tracking", e);
+        }
+    }
+
+    /**
+     * 순위 스냅샷 축약 - 매일 새벽
+     * 오래된 시간 단위 스냅샷을 날짜별 하나로 줄이고, 보관 기간이 지난 일 단위 스냅샷은 삭제
+     */
+    @Scheduled(cron = "${app.popularity.ranking-snapshot.downsample-cron:0 30 4 * * *}")
+    public void downsampleRankingSnapshots() {
+        try {
+            schedulerLock.runExclusively("popularity-ranking-snapshot-downsample",
+                    popularityCalculationService::downsampleRankingSnapshots);
+        } catch (Exception e) {
+            log.error("Error during ranking snapshot downsampling", e);
         }
     }
-}
 
+    /**
+     * 실시간 24시간 인기 순위 갱신 - 기본 1분마다
+     */
+    @Scheduled(fixedDelayString = "${app.popularity.leaderboard.live-refresh-ms:60000}",
+            initialDelayString = "${app.popularity.leaderboard.live-refresh-ms:60000}")
+    public void refreshLiveLeaderboard() {
+        try {
+            popularRecipeLeaderboard.refreshLive();
+        } catch (Exception e) {
+            log.error("Error during live popular recipe leaderboard refresh", e);
+        }
+    }
+}
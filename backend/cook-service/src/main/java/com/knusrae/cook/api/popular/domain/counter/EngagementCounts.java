@@ -0,0 +1,13 @@
+package com.knusrae.cook.api.popular.domain.counter;
+
+/**
+ * 레시피 실시간 조회·찜 집계
+ *
+ * @param recipeId            레시피 ID
+ * @param hits24h             최근 24시간 조회수
+ * @param hits7d              최근 7일 조회수
+ * @param hits30d             최근 30일 조회수
+ * @param favoriteIncrease24h 최근 24시간 찜 증가 수
+ */
+public record EngagementCounts(long recipeId, long hits24h, long hits7d, long hits30d, long favoriteIncrease24h) {
+}
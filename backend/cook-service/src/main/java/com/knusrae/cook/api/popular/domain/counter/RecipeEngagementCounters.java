@@ -0,0 +1,300 @@
+package com.knusrae.cook.api.popular.domain.counter;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 레시피별 실시간 조회·찜 집계기 (시간 단위 링 버퍼).
+ * 레시피마다 최근 30일 조회수를 720칸, 최근 24시간 찜 수를 24칸 int 배열에 시간 단위로 담고,
+ * 24시간/7일/30일 합계는 따로 유지한다. 시간이 지나면 레시피를 건드릴 때 지나간 칸만큼 합계에서 빼고 칸을 비운다.
+ * 그래서 조회·집계 모두 recipe_view 범위 COUNT 없이 레시피당 상수 시간이다.
+ *
+ * 최근 30일 활동이 있는 레시피만 메모리에 둔다. 칸에는 클러스터 전체 값을 담는다.
+ * 이 인스턴스가 받은 이벤트는 칸과 함께 버킷별 증감분으로도 쌓아 두었다가 {@link #drainPendingDeltas()} 로 꺼내
+ * DB 버킷에 더하고, 다른 인스턴스가 더한 몫은 {@link #sync} 로 DB 버킷 값을 받아 칸에 맞춘다.
+ */
+@Component
+public class RecipeEngagementCounters {
+    static final int HOURS_24H = 24;
+    static final int HOURS_7D = 24 * 7;
+    static final int HOURS_30D = 24 * 30;
+
+    private final Map<Long, Counter> counters = new HashMap<>();
+    /** 이 인스턴스가 받았지만 아직 DB 버킷에 더하지 않은 증감분 (조회, 찜) */
+    private final Map<BucketKey, int[]> pendingDeltas = new HashMap<>();
+
+    /**
+     * 조회 증감 반영 (30일보다 오래된 시각은 무시)
+     */
+    public synchronized void addView(long recipeId, LocalDateTime viewedAt, int delta) {
+        long currentHour = currentHour();
+        long hour = Math.min(epochHour(viewedAt, currentHour), currentHour);
+        if (currentHour - hour >= HOURS_30D) {
+            return;
+        }
+        Counter counter = counters.computeIfAbsent(recipeId, id -> new Counter(currentHour));
+        counter.roll(currentHour);
+        int applied = counter.addView(hour, currentHour, delta);
+        pendingDeltas.computeIfAbsent(new BucketKey(recipeId, hour), key -> new int[2])[0] += applied;
+    }
+
+    /**
+     * 찜 증감 반영 (24시간보다 오래된 시각은 무시)
+     */
+    public synchronized void addFavorite(long recipeId, LocalDateTime createdAt, int delta) {
+        long currentHour = currentHour();
+        long hour = Math.min(epochHour(createdAt, currentHour), currentHour);
+        if (currentHour - hour >= HOURS_24H) {
+            return;
+        }
+        Counter counter = counters.computeIfAbsent(recipeId, id -> new Counter(currentHour));
+        counter.roll(currentHour);
+        int applied = counter.addFavorite(hour, delta);
+        pendingDeltas.computeIfAbsent(new BucketKey(recipeId, hour), key -> new int[2])[1] += applied;
+    }
+
+    /**
+     * DB 버킷 값(클러스터 전체)에 칸을 맞춘다. 아직 DB에 더하지 않은 이 인스턴스의 증감분은 그 위에 얹는다.
+     * 기동 시 복원과 다른 인스턴스가 바꾼 버킷 동기화에 쓰며, 증감분으로 기록하지 않는다.
+     */
+    public synchronized void sync(long recipeId, LocalDateTime bucketHour, int viewCount, int favoriteCount) {
+        long currentHour = currentHour();
+        long hour = epochHour(bucketHour, currentHour);
+        if (hour > currentHour || currentHour - hour >= HOURS_30D) {
+            return;
+        }
+        int[] pending = pendingDeltas.getOrDefault(new BucketKey(recipeId, hour), new int[2]);
+        int views = viewCount + pending[0];
+        int favorites = currentHour - hour < HOURS_24H ? favoriteCount + pending[1] : 0;
+        Counter counter = counters.get(recipeId);
+        if (counter == null) {
+            if (views <= 0 && favorites <= 0) {
+                return;
+            }
+            counter = new Counter(currentHour);
+            counters.put(recipeId, counter);
+        }
+        counter.roll(currentHour);
+        counter.addView(hour, currentHour, views - counter.viewsAt(hour));
+        counter.addFavorite(hour, favorites - counter.favoritesAt(hour, currentHour));
+    }
+
+    /**
+     * 삭제된 레시피 제거
+     */
+    public synchronized void remove(long recipeId) {
+        counters.remove(recipeId);
+        pendingDeltas.keySet().removeIf(key -> key.recipeId() == recipeId);
+    }
+
+    /**
+     * 레시피의 현재 집계 (활동이 없으면 0)
+     */
+    public synchronized EngagementCounts countsOf(long recipeId) {
+        Counter counter = counters.get(recipeId);
+        if (counter == null) {
+            return new EngagementCounts(recipeId, 0, 0, 0, 0);
+        }
+        counter.roll(currentHour());
+        return counter.toCounts(recipeId);
+    }
+
+    /**
+     * 최근 24시간 조회수 상위 레시피
+     *
+     * @param limit 최대 개수
+     * @return 24시간 조회수 내림차순 (같으면 7일 조회수, 레시피 ID 순)
+     */
+    public synchronized List<EngagementCounts> topByHits24h(int limit) {
+        Comparator<EngagementCounts> order = Comparator.comparingLong(EngagementCounts::hits24h)
+                .thenComparingLong(EngagementCounts::hits7d)
+                .thenComparing(Comparator.comparingLong(EngagementCounts::recipeId).reversed());
+        PriorityQueue<EngagementCounts> heap = new PriorityQueue<>(order);
+        long currentHour = currentHour();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            counter.roll(currentHour);
+            if (counter.hits24h <= 0) {
+                continue;
+            }
+            EngagementCounts counts = counter.toCounts(entry.getKey());
+            if (heap.size() < limit) {
+                heap.add(counts);
+            } else if (order.compare(counts, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(counts);
+            }
+        }
+        List<EngagementCounts> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    /**
+     * 마지막 체크포인트 이후 이 인스턴스가 받은 버킷별 증감분을 꺼내고 비운다. 30일 동안 활동이 없는 레시피는 함께 정리한다.
+     */
+    public synchronized List<HourlyBucket> drainPendingDeltas() {
+        long currentHour = currentHour();
+        List<HourlyBucket> deltas = new ArrayList<>(pendingDeltas.size());
+        pendingDeltas.forEach((key, delta) -> {
+            if (currentHour - key.hour() >= HOURS_30D || (delta[0] == 0 && delta[1] == 0)) {
+                return;
+            }
+            deltas.add(new HourlyBucket(key.recipeId(), toLocalDateTime(key.hour()), delta[0], delta[1]));
+        });
+        pendingDeltas.clear();
+
+        Iterator<Counter> iterator = counters.values().iterator();
+        while (iterator.hasNext()) {
+            Counter counter = iterator.next();
+            counter.roll(currentHour);
+            if (counter.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * DB에 더하지 못한 증감분을 되돌려 놓는다 (칸에는 이미 반영돼 있으므로 증감분만 합친다)
+     */
+    public synchronized void restorePendingDeltas(List<HourlyBucket> deltas) {
+        long currentHour = currentHour();
+        for (HourlyBucket delta : deltas) {
+            int[] pending = pendingDeltas.computeIfAbsent(
+                    new BucketKey(delta.recipeId(), epochHour(delta.bucketHour(), currentHour)), key -> new int[2]);
+            pending[0] += delta.viewCount();
+            pending[1] += delta.favoriteCount();
+        }
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private static long currentHour() {
+        return Math.floorDiv(System.currentTimeMillis(), 3_600_000L);
+    }
+
+    private static long epochHour(LocalDateTime time, long defaultHour) {
+        if (time == null) {
+            return defaultHour;
+        }
+        return Math.floorDiv(time.atZone(ZoneId.systemDefault()).toEpochSecond(), 3600L);
+    }
+
+    private static LocalDateTime toLocalDateTime(long hour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(hour * 3600L), ZoneId.systemDefault());
+    }
+
+    /**
+     * 레시피 한 개의 링 버퍼. 칸 번호는 epoch 시간 % 칸 수이며, lastHour 이후 지나간 칸은 roll() 에서 비운다.
+     */
+    private static final class Counter {
+        private final int[] views = new int[HOURS_30D];
+        private final int[] favorites = new int[HOURS_24H];
+        private long lastHour;
+        private long hits24h;
+        private long hits7d;
+        private long hits30d;
+        private long favoriteIncrease24h;
+
+        private Counter(long currentHour) {
+            this.lastHour = currentHour;
+        }
+
+        private void roll(long currentHour) {
+            if (currentHour <= lastHour) {
+                return;
+            }
+            if (currentHour - lastHour >= HOURS_30D) {
+                Arrays.fill(views, 0);
+                Arrays.fill(favorites, 0);
+                hits24h = hits7d = hits30d = favoriteIncrease24h = 0;
+                lastHour = currentHour;
+                return;
+            }
+            for (long hour = lastHour + 1; hour <= currentHour; hour++) {
+                // hour 가 윈도우에 들어오면서 각 윈도우의 가장 오래된 칸이 빠진다
+                hits24h -= views[slot(hour - HOURS_24H, HOURS_30D)];
+                hits7d -= views[slot(hour - HOURS_7D, HOURS_30D)];
+                int expired = slot(hour, HOURS_30D);
+                hits30d -= views[expired];
+                views[expired] = 0;
+                int favoriteSlot = slot(hour, HOURS_24H);
+                favoriteIncrease24h -= favorites[favoriteSlot];
+                favorites[favoriteSlot] = 0;
+            }
+            lastHour = currentHour;
+        }
+
+        private int addView(long hour, long currentHour, int delta) {
+            int slot = slot(hour, HOURS_30D);
+            // 집계 이전(체크포인트 누락 등)의 조회 취소로 음수가 되지 않도록
+            int applied = Math.max(delta, -views[slot]);
+            views[slot] += applied;
+            long age = currentHour - hour;
+            if (age < HOURS_24H) {
+                hits24h += applied;
+            }
+            if (age < HOURS_7D) {
+                hits7d += applied;
+            }
+            hits30d += applied;
+            return applied;
+        }
+
+        private int addFavorite(long hour, int delta) {
+            int slot = slot(hour, HOURS_24H);
+            int applied = Math.max(delta, -favorites[slot]);
+            favorites[slot] += applied;
+            favoriteIncrease24h += applied;
+            return applied;
+        }
+
+        private int viewsAt(long hour) {
+            return views[slot(hour, HOURS_30D)];
+        }
+
+        private int favoritesAt(long hour, long currentHour) {
+            return currentHour - hour < HOURS_24H ? favorites[slot(hour, HOURS_24H)] : 0;
+        }
+
+        private boolean isEmpty() {
+            return hits30d <= 0 && favoriteIncrease24h <= 0;
+        }
+
+        private EngagementCounts toCounts(long recipeId) {
+            return new EngagementCounts(recipeId, hits24h, hits7d, hits30d, favoriteIncrease24h);
+        }
+
+        private static int slot(long hour, int size) {
+            return (int) Math.floorMod(hour, (long) size);
+        }
+    }
+
+    private record BucketKey(long recipeId, long hour) {
+    }
+
+    /**
+     * 시간 버킷 값 ({@link #drainPendingDeltas()} 에서는 증감분)
+     *
+     * @param recipeId      레시피 ID
+     * @param bucketHour    버킷 시작 (정시)
+     * @param viewCount     그 시간의 조회수
+     * @param favoriteCount 그 시간의 찜 수 (24시간이 지난 버킷은 0)
+     */
+    public record HourlyBucket(long recipeId, LocalDateTime bucketHour, int viewCount, int favoriteCount) {
+    }
+}
@@ -0,0 +1,435 @@
+package com.knusrae.cook.api.popular.domain.service;
+
+import com.knusrae.cook.api.popular.domain.counter.EngagementCounts;
+import com.knusrae.cook.api.popular.domain.counter.RecipeEngagementCounters;
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import com.knusrae.cook.api.recipe.domain.journal.EngagementJournal;
+import com.knusrae.cook.api.recipe.domain.journal.EngagementJournalRecord;
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJob;
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJobRunner;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 조회·찜 집계 서비스.
+ * 조회·찜 이벤트는 그 요청을 받은 인스턴스에만 오므로, recipe_engagement_hourly 를 클러스터 전체 집계로 두고
+ * 각 인스턴스의 {@link RecipeEngagementCounters} 는 그 사본으로 쓴다.
+ *
+ * <ul>
+ *     <li>반영: 커밋된 이벤트를 집계기 칸과 이 인스턴스의 증감분에 함께 더한다.</li>
+ *     <li>체크포인트: 주기적으로 증감분을 꺼내 DB 버킷에 더하고(덮어쓰지 않는다) 비운 뒤,
+ *     마지막 동기화 이후 갱신된 DB 버킷을 읽어 집계기에 맞춘다. 다른 인스턴스가 받은 이벤트는 체크포인트 주기만큼 늦게 보인다.</li>
+ *     <li>복원: 기동 시 최근 30일 버킷을 읽는다. 테이블이 비어 있으면(최초 배포) 한 인스턴스만
+ *     recipe_view·recipe_favorite 를 시간 단위로 집계해 채운다.</li>
+ * </ul>
+ *
+ * 이벤트는 집계기에 더하기 전에 {@link EngagementJournal} 에 기록하고, 증감분을 DB에 더할 때마다 꺼낸 시점의
+ * 저널 오프셋을 커밋한다. 복원 시에는 커밋한 오프셋 이후의 이벤트를 다시 더해 마지막 체크포인트 이후 몫을 되살린다.
+ * DB 커밋과 오프셋 커밋 사이에 종료되면 그 체크포인트 몫이 한 번 더 더해질 수 있으며, 이는 아래 대조에서 바로잡는다.
+ *
+ * 매일 한 번 원본 테이블을 레시피 ID 청크 단위로 다시 세어 DB 의 지난 시간 버킷과 대조하고 어긋난 버킷을 고친다.
+ *
+ * 복원이 끝나기 전에는 {@link #isReady()} 가 false 이므로 호출하는 쪽은 배치 집계(recipe_popularity)를 사용한다.
+ */
+@Service
+@Slf4j
+public class EngagementCounterService {
+    private static final String ADD_HOURLY = """
+            INSERT INTO recipe_engagement_hourly (recipe_id, bucket_hour, view_count, favorite_count, updated_at)
+            VALUES (:recipeId, :bucketHour, GREATEST(:viewCount, 0), GREATEST(:favoriteCount, 0), LOCALTIMESTAMP)
+            ON CONFLICT (recipe_id, bucket_hour)
+            DO UPDATE SET view_count = GREATEST(recipe_engagement_hourly.view_count + :viewCount, 0),
+                          favorite_count = GREATEST(recipe_engagement_hourly.favorite_count + :favoriteCount, 0),
+                          updated_at = LOCALTIMESTAMP
+            """;
+    private static final String UPSERT_RECONCILED_HOURLY = """
+            INSERT INTO recipe_engagement_hourly (recipe_id, bucket_hour, view_count, favorite_count, updated_at)
+            VALUES (:recipeId, :bucketHour, :viewCount, :favoriteCount, LOCALTIMESTAMP)
+            ON CONFLICT (recipe_id, bucket_hour)
+            DO UPDATE SET view_count = EXCLUDED.view_count, favorite_count = EXCLUDED.favorite_count,
+                          updated_at = LOCALTIMESTAMP
+            """;
+    private static final String INSERT_BOOTSTRAP_HOURLY = """
+            INSERT INTO recipe_engagement_hourly (recipe_id, bucket_hour, view_count, favorite_count, updated_at)
+            VALUES (:recipeId, :bucketHour, :viewCount, :favoriteCount, LOCALTIMESTAMP)
+            """;
+    private static final String SELECT_HOURLY = """
+            SELECT recipe_id, bucket_hour, view_count, favorite_count
+            FROM recipe_engagement_hourly
+            WHERE bucket_hour >= :from
+            """;
+    private static final String SELECT_UPDATED_HOURLY = """
+            SELECT recipe_id, bucket_hour, view_count, favorite_count
+            FROM recipe_engagement_hourly
+            WHERE updated_at > :since AND bucket_hour >= :from
+            """;
+    private static final String SELECT_DB_NOW = """
+            SELECT LOCALTIMESTAMP
+            """;
+    private static final String SELECT_HOURLY_BY_RANGE = """
+            SELECT recipe_id, bucket_hour, view_count, favorite_count
+            FROM recipe_engagement_hourly
+            WHERE recipe_id BETWEEN :fromId AND :toId AND bucket_hour >= :from AND bucket_hour < :to
+            """;
+    private static final String EXISTS_HOURLY = """
+            SELECT COUNT(*) FROM (SELECT 1 FROM recipe_engagement_hourly LIMIT 1) t
+            """;
+    private static final String SELECT_VIEW_HOURLY = """
+            SELECT recipe_id, DATE_TRUNC('hour', viewed_at) AS bucket_hour, COUNT(*) AS view_count
+            FROM recipe_view
+            WHERE viewed_at >= :from
+            GROUP BY recipe_id, DATE_TRUNC('hour', viewed_at)
+            """;
+    private static final String SELECT_FAVORITE_HOURLY = """
+            SELECT recipe_id, DATE_TRUNC('hour', created_at) AS bucket_hour, COUNT(*) AS favorite_count
+            FROM recipe_favorite
+            WHERE created_at >= :from
+            GROUP BY recipe_id, DATE_TRUNC('hour', created_at)
+            """;
+    private static final String RECONCILE_JOB = "engagement-counter-reconcile";
+    private static final String BOOTSTRAP_JOB = "engagement-counter-bootstrap";
+    /** 동기화 구간을 이만큼 겹쳐 읽어, 읽는 동안 커밋 중이던 다른 인스턴스의 체크포인트를 놓치지 않는다 */
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+    private static final String JOURNAL_CONSUMER = "engagement-counters";
+    private static final String SELECT_RECIPE_IDS = """
+            SELECT id
+            FROM recipe
+            WHERE id > :lastId
+            ORDER BY id
+            LIMIT :limit
+            """;
+    private static final String SELECT_VIEW_HOURLY_BY_RANGE = """
+            SELECT recipe_id, DATE_TRUNC('hour', viewed_at) AS bucket_hour, COUNT(*) AS view_count
+            FROM recipe_view
+            WHERE recipe_id BETWEEN :fromId AND :toId AND viewed_at >= :from AND viewed_at < :to
+            GROUP BY recipe_id, DATE_TRUNC('hour', viewed_at)
+            """;
+    private static final String SELECT_FAVORITE_HOURLY_BY_RANGE = """
+            SELECT recipe_id, DATE_TRUNC('hour', created_at) AS bucket_hour, COUNT(*) AS favorite_count
+            FROM recipe_favorite
+            WHERE recipe_id BETWEEN :fromId AND :toId AND created_at >= :favoriteFrom AND created_at < :to
+            GROUP BY recipe_id, DATE_TRUNC('hour', created_at)
+            """;
+    private static final String DELETE_EXPIRED_HOURLY = """
+            DELETE FROM recipe_engagement_hourly
+            WHERE bucket_hour < :cutoff
+            """;
+
+    private final RecipeEngagementCounters counters;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final ChunkJobRunner chunkJobRunner;
+    private final EngagementJournal engagementJournal;
+    private final int retentionDays;
+    private final int reconcileParallelism;
+
+    private volatile boolean ready;
+    /** 마지막으로 DB 버킷을 읽은 시각 (DB 시계) */
+    private LocalDateTime lastSyncedAt;
+
+    public EngagementCounterService(
+            RecipeEngagementCounters counters,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            SchedulerLock schedulerLock,
+            ChunkJobRunner chunkJobRunner,
+            EngagementJournal engagementJournal,
+            @Value("${app.popularity.counter.retention-days:31}") int retentionDays,
+            @Value("${app.popularity.counter.reconcile-parallelism:2}") int reconcileParallelism
+    ) {
+        this.counters = counters;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.schedulerLock = schedulerLock;
+        this.chunkJobRunner = chunkJobRunner;
+        this.engagementJournal = engagementJournal;
+        this.retentionDays = retentionDays;
+        this.reconcileParallelism = reconcileParallelism;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeActivity(RecipeActivityEvent event) {
+        // 댓글 수는 기간 구분이 없어 배치 집계로 충분하다
+        EngagementJournalRecord record = EngagementJournalRecord.activity(event);
+        if (record == null) {
+            return;
+        }
+        // 체크포인트가 버킷과 저널 오프셋을 같은 잠금 안에서 읽으므로 기록과 반영 사이에 끼어들지 않는다
+        synchronized (counters) {
+            engagementJournal.append(record);
+            apply(record);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.changeType() == RecipeChangedEvent.ChangeType.DELETED) {
+            counters.remove(event.recipeId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnReady() {
+        Thread.ofVirtual()
+                .name("engagement-counter-restore")
+                .start(() -> {
+                    try {
+                        restore();
+                        ready = true;
+                    } catch (Exception e) {
+                        log.error("Failed to restore engagement counters, falling back to batch statistics", e);
+                    }
+                });
+    }
+
+    /**
+     * 증감분 체크포인트와 다른 인스턴스 몫 동기화 - 기본 1분마다
+     */
+    @Scheduled(fixedDelayString = "${app.popularity.counter.checkpoint-interval-ms:60000}",
+            initialDelayString = "${app.popularity.counter.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        if (!ready) {
+            // 복원 중에 읽은 버킷과 이후 증감분이 섞이지 않도록 복원이 끝난 뒤부터 저장한다
+            return;
+        }
+        List<RecipeEngagementCounters.HourlyBucket> deltas;
+        long journalOffset;
+        synchronized (counters) {
+            journalOffset = engagementJournal.endOffset();
+            deltas = counters.drainPendingDeltas();
+        }
+        if (deltas.isEmpty()) {
+            engagementJournal.commit(JOURNAL_CONSUMER, journalOffset);
+        } else {
+            try {
+                namedParameterJdbcTemplate.batchUpdate(ADD_HOURLY, toParams(deltas));
+                engagementJournal.commit(JOURNAL_CONSUMER, journalOffset);
+                log.debug("Checkpointed {} engagement bucket deltas ({} active recipes)", deltas.size(), counters.size());
+            } catch (Exception e) {
+                // 다음 체크포인트에서 다시 더한다
+                counters.restorePendingDeltas(deltas);
+                log.error("Failed to checkpoint {} engagement bucket deltas", deltas.size(), e);
+            }
+        }
+        try {
+            syncUpdatedBuckets();
+        } catch (Exception e) {
+            log.error("Failed to sync engagement buckets from checkpoints", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 체크포인트 삭제 - 매일 새벽 (클러스터에서 한 인스턴스만)
+     */
+    @Scheduled(cron = "${app.popularity.counter.purge-cron:0 40 4 * * *}")
+    public void purgeExpiredCheckpoints() {
+        schedulerLock.runExclusively("engagement-checkpoint-purge", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(retentionDays);
+            int deleted = namedParameterJdbcTemplate.update(DELETE_EXPIRED_HOURLY, new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)));
+            log.info("Purged {} engagement checkpoints before {}", deleted, cutoff);
+        });
+    }
+
+    /**
+     * 원본 테이블과 체크포인트 대조 - 매일 새벽 (클러스터에서 한 인스턴스만)
+     */
+    @Scheduled(cron = "${app.popularity.counter.reconcile-cron:0 20 4 * * *}")
+    public void reconcileCounters() {
+        try {
+            schedulerLock.runExclusively(RECONCILE_JOB, this::reconcile);
+        } catch (Exception e) {
+            log.error("Error during engagement counter reconciliation", e);
+        }
+    }
+
+    /**
+     * 레시피 ID 청크마다 최근 30일 조회·24시간 찜을 시간 단위로 다시 세어 DB 의 지난 시간 버킷을 맞춘다.
+     * 진행 중인 현재 시간 버킷은 인스턴스들이 증감분을 더하고 있으므로 건드리지 않는다.
+     * 저장 행 수는 고친 버킷 수이며, 고친 버킷은 각 인스턴스가 다음 동기화에서 읽어 간다.
+     */
+    public void reconcile() {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        MapSqlParameterSource window = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(to.minusDays(30).plusHours(1)))
+                .addValue("favoriteFrom", Timestamp.valueOf(to.minusDays(1).plusHours(1)))
+                .addValue("to", Timestamp.valueOf(to));
+        chunkJobRunner.run(ChunkJob.<Long, RecipeEngagementCounters.HourlyBucket>builder()
+                .name(RECONCILE_JOB)
+                .parallelism(reconcileParallelism)
+                .reader((lastId, limit) -> namedParameterJdbcTemplate.queryForList(SELECT_RECIPE_IDS,
+                        new MapSqlParameterSource()
+                                .addValue("lastId", lastId)
+                                .addValue("limit", limit),
+                        Long.class))
+                .keyExtractor(Long::longValue)
+                .processor(recipeIds -> findCorrections(recipeIds, window))
+                .writer(corrections -> {
+                    namedParameterJdbcTemplate.batchUpdate(UPSERT_RECONCILED_HOURLY, toParams(corrections));
+                    return corrections.size();
+                })
+                .build());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 최근 24시간 조회수 상위 레시피 (클러스터 전체, 다른 인스턴스 몫은 체크포인트 주기만큼 늦다)
+     */
+    public List<EngagementCounts> getTopByHits24h(int limit) {
+        return counters.topByHits24h(limit);
+    }
+
+    public EngagementCounts getCounts(long recipeId) {
+        return counters.countsOf(recipeId);
+    }
+
+    private void apply(EngagementJournalRecord record) {
+        switch (record.type()) {
+            case VIEW -> counters.addView(record.recipeId(), record.occurredAt(), record.delta());
+            case FAVORITE -> counters.addFavorite(record.recipeId(), record.occurredAt(), record.delta());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 레시피 ID 청크의 원본 시간 버킷을 다시 세어 DB 버킷과 값이 다른 버킷만 고칠 값으로 돌려준다.
+     * 원본에 없는 버킷은 0으로 맞추며, 찜은 원본을 센 최근 24시간 버킷만 맞춘다.
+     */
+    private List<RecipeEngagementCounters.HourlyBucket> findCorrections(List<Long> recipeIds, MapSqlParameterSource window) {
+        MapSqlParameterSource params = new MapSqlParameterSource(window.getValues())
+                .addValue("fromId", recipeIds.get(0))
+                .addValue("toId", recipeIds.get(recipeIds.size() - 1));
+        Map<SourceKey, int[]> source = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_VIEW_HOURLY_BY_RANGE, params, rs -> {
+            SourceKey key = new SourceKey(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime());
+            source.computeIfAbsent(key, k -> new int[2])[0] = rs.getInt("view_count");
+        });
+        namedParameterJdbcTemplate.query(SELECT_FAVORITE_HOURLY_BY_RANGE, params, rs -> {
+            SourceKey key = new SourceKey(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime());
+            source.computeIfAbsent(key, k -> new int[2])[1] = rs.getInt("favorite_count");
+        });
+        Map<SourceKey, int[]> stored = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_HOURLY_BY_RANGE, params, rs -> {
+            SourceKey key = new SourceKey(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime());
+            stored.put(key, new int[]{rs.getInt("view_count"), rs.getInt("favorite_count")});
+        });
+
+        LocalDateTime favoriteFrom = ((Timestamp) window.getValue("favoriteFrom")).toLocalDateTime();
+        Map<SourceKey, int[]> keys = new LinkedHashMap<>(source);
+        stored.forEach(keys::putIfAbsent);
+        List<RecipeEngagementCounters.HourlyBucket> corrections = new ArrayList<>();
+        for (SourceKey key : keys.keySet()) {
+            int[] expected = source.getOrDefault(key, new int[2]);
+            int[] actual = stored.getOrDefault(key, new int[2]);
+            int favoriteCount = key.bucketHour().isBefore(favoriteFrom) ? actual[1] : expected[1];
+            if (expected[0] != actual[0] || favoriteCount != actual[1]) {
+                corrections.add(new RecipeEngagementCounters.HourlyBucket(
+                        key.recipeId(), key.bucketHour(), expected[0], favoriteCount));
+            }
+        }
+        return corrections;
+    }
+
+    private void restore() {
+        long startedAt = System.currentTimeMillis();
+        long journalOffset = engagementJournal.register(JOURNAL_CONSUMER);
+        Long existing = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(EXISTS_HOURLY, Long.class);
+        if (existing == null || existing == 0) {
+            // 최초 배포: 여러 인스턴스가 함께 떠도 원본 집계는 한 번만 채운다 (건너뛴 인스턴스는 이후 동기화로 받는다)
+            schedulerLock.runExclusively(BOOTSTRAP_JOB, this::bootstrap);
+        }
+        LocalDateTime syncedAt = dbNow();
+        namedParameterJdbcTemplate.query(SELECT_HOURLY, new MapSqlParameterSource("from", Timestamp.valueOf(windowStart())), rs -> {
+            counters.sync(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime(),
+                    rs.getInt("view_count"), rs.getInt("favorite_count"));
+        });
+        lastSyncedAt = syncedAt;
+        // 기동 후 이벤트는 이미 실시간으로 더해졌으므로 기동 시점 끝까지만 재생한다 (재생분은 다음 체크포인트에 더해진다)
+        int replayed = engagementJournal.replay(journalOffset, engagementJournal.startupEndOffset(), this::apply);
+        log.info("Engagement counters restored from checkpoints: {} recipes, {} journaled events replayed in {} ms",
+                counters.size(), replayed, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 체크포인트가 하나도 없을 때 원본 테이블을 시간 단위로 한 번 집계해 채운다
+     */
+    private void bootstrap() {
+        Long existing = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(EXISTS_HOURLY, Long.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        MapSqlParameterSource from = new MapSqlParameterSource("from", Timestamp.valueOf(windowStart()));
+        Map<SourceKey, int[]> counts = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_VIEW_HOURLY, from, rs -> {
+            SourceKey key = new SourceKey(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime());
+            counts.computeIfAbsent(key, k -> new int[2])[0] = rs.getInt("view_count");
+        });
+        namedParameterJdbcTemplate.query(SELECT_FAVORITE_HOURLY, from, rs -> {
+            SourceKey key = new SourceKey(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime());
+            counts.computeIfAbsent(key, k -> new int[2])[1] = rs.getInt("favorite_count");
+        });
+        List<RecipeEngagementCounters.HourlyBucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> buckets.add(
+                new RecipeEngagementCounters.HourlyBucket(key.recipeId(), key.bucketHour(), count[0], count[1])));
+        if (!buckets.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_BOOTSTRAP_HOURLY, toParams(buckets));
+        }
+        log.info("Engagement checkpoints bootstrapped from recipe_view/recipe_favorite: {} buckets", buckets.size());
+    }
+
+    /**
+     * 마지막 동기화 이후 갱신된 DB 버킷(다른 인스턴스의 증감분, 대조 결과 포함)을 집계기에 맞춘다
+     */
+    private void syncUpdatedBuckets() {
+        LocalDateTime syncedAt = dbNow();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", Timestamp.valueOf(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS)))
+                .addValue("from", Timestamp.valueOf(windowStart()));
+        namedParameterJdbcTemplate.query(SELECT_UPDATED_HOURLY, params, rs -> {
+            counters.sync(rs.getLong("recipe_id"), rs.getTimestamp("bucket_hour").toLocalDateTime(),
+                    rs.getInt("view_count"), rs.getInt("favorite_count"));
+        });
+        lastSyncedAt = syncedAt;
+    }
+
+    private LocalDateTime dbNow() {
+        return namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(SELECT_DB_NOW, LocalDateTime.class);
+    }
+
+    private static LocalDateTime windowStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(30);
+    }
+
+    private static SqlParameterSource[] toParams(List<RecipeEngagementCounters.HourlyBucket> buckets) {
+        return buckets.stream()
+                .map(bucket -> new MapSqlParameterSource()
+                        .addValue("recipeId", bucket.recipeId())
+                        .addValue("bucketHour", Timestamp.valueOf(bucket.bucketHour()))
+                        .addValue("viewCount", bucket.viewCount())
+                        .addValue("favoriteCount", bucket.favoriteCount()))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    private record SourceKey(long recipeId, LocalDateTime bucketHour) {
+    }
+}
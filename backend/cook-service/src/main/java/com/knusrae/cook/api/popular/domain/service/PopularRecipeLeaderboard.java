@@ -0,0 +1,107 @@
+package com.knusrae.cook.api.popular.domain.service;
+
+import com.knusrae.cook.api.popular.dto.PopularRecipeDto;
+import com.knusrae.cook.api.recipe.dto.RecipeDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.knusrae.cook.api.popular.domain.service.PopularRecipeService.PERIOD_24H;
+import static com.knusrae.cook.api.popular.domain.service.PopularRecipeService.PERIOD_30D;
+import static com.knusrae.cook.api.popular.domain.service.PopularRecipeService.PERIOD_7D;
+import static com.knusrae.cook.api.popular.domain.service.PopularRecipeService.PERIOD_SCORE;
+
+/**
+ * 인기 레시피 순위 스냅샷 (기간별 상위 K, 작성자·썸네일·댓글 수까지 채운 상태).
+ * 인기도 배치가 끝날 때마다 네 기간을 모두 다시 만들고, 실시간 24시간 순위는 live-refresh-ms 마다 24h 만 다시 만든다.
+ * 새 스냅샷은 통째로 만든 뒤 교체하므로 조회는 DB를 전혀 읽지 않고 항상 한 시점의 순위를 본다.
+ *
+ * 스냅샷의 DTO는 여러 요청이 공유하므로 꺼낸 뒤 수정하면 안 된다.
+ */
+@Component
+@Slf4j
+public class PopularRecipeLeaderboard {
+    private static final List<String> PERIODS = List.of(PERIOD_24H, PERIOD_7D, PERIOD_30D, PERIOD_SCORE);
+
+    private final PopularRecipeService popularRecipeService;
+    private final int size;
+
+    private volatile Snapshot snapshot;
+
+    public PopularRecipeLeaderboard(
+            PopularRecipeService popularRecipeService,
+            @Value("${app.popularity.leaderboard.size:100}") int size
+    ) {
+        this.popularRecipeService = popularRecipeService;
+        this.size = size;
+    }
+
+    /**
+     * 인기 레시피 목록 조회
+     *
+     * @param limit  조회할 개수 (최대 leaderboard.size)
+     * @param period 기간 (24h, 7d, 30d, 그 외 popularity_score 기준)
+     * @return 인기 레시피 목록
+     */
+    public List<PopularRecipeDto> getPopularRecipes(int limit, String period) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 직후 첫 배치 전: 한 번만 만든다
+            refresh();
+            current = snapshot;
+        }
+        List<PopularRecipeDto> ranking = current.rankings().getOrDefault(PopularRecipeService.normalizePeriod(period), List.of());
+        int count = Math.max(0, Math.min(limit, ranking.size()));
+        return ranking.subList(0, count);
+    }
+
+    /**
+     * 네 기간의 순위를 모두 다시 만들어 교체 (인기도 배치 이후)
+     */
+    public synchronized void refresh() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, RecipeDto> recipeCache = new HashMap<>();
+        Map<Long, Integer> previousRanks = popularRecipeService.loadPreviousRanks();
+        Map<String, List<PopularRecipeDto>> rankings = new HashMap<>();
+        for (String period : PERIODS) {
+            rankings.put(period, List.copyOf(popularRecipeService.buildRanking(period, size, recipeCache, previousRanks)));
+        }
+        snapshot = new Snapshot(Map.copyOf(rankings), previousRanks, LocalDateTime.now());
+        log.info("Popular recipe leaderboard rebuilt: {} recipes in {} ms",
+                recipeCache.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 실시간 24시간 순위만 다시 만들어 교체.
+     * 현재 스냅샷에 있는 레시피의 RecipeDto와 24시간 전 순위는 재사용하고 새로 순위에 든 레시피만 조회한다
+     * (레시피 내용 변경·이전 순위는 다음 전체 갱신에 반영된다).
+     */
+    public synchronized void refreshLive() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            return;
+        }
+        Map<Long, RecipeDto> recipeCache = new HashMap<>();
+        current.rankings().values().forEach(ranking -> ranking.forEach(
+                popular -> recipeCache.put(popular.getRecipe().getId(), popular.getRecipe())));
+        Map<String, List<PopularRecipeDto>> rankings = new HashMap<>(current.rankings());
+        rankings.put(PERIOD_24H, List.copyOf(
+                popularRecipeService.buildRanking(PERIOD_24H, size, recipeCache, current.previousRanks())));
+        snapshot = new Snapshot(Map.copyOf(rankings), current.previousRanks(), LocalDateTime.now());
+    }
+
+    /**
+     * @param rankings      기간 -> 순위 (불변 목록)
+     * @param previousRanks 트렌드 계산에 쓴 24시간 전 순위
+     * @param builtAt       생성 시각
+     */
+    private record Snapshot(Map<String, List<PopularRecipeDto>> rankings, Map<Long, Integer> previousRanks,
+                            LocalDateTime builtAt) {
+    }
+}
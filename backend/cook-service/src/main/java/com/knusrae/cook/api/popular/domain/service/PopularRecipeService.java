@@ -1,8 +1,11 @@
 package com.knusrae.cook.api.popular.domain.service;
 
+import com.knusrae.common.domain.entity.Member;
+import com.knusrae.cook.api.popular.domain.counter.EngagementCounts;
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
+import com.knusrae.cook.api.recipe.domain.entity.RecipeImage;
 import com.knusrae.cook.api.recipe.domain.entity.RecipePopularity;
-import com.knusrae.cook.api.recipe.domain.entity.RecipePopularityHistory;
+import com.knusrae.cook.api.recipe.domain.entity.RecipeRankingSnapshot;
 import com.knusrae.cook.api.recipe.domain.repository.*;
 import com.knusrae.cook.api.popular.dto.PopularRecipeDto;
 import com.knusrae.cook.api.popular.dto.PopularityStatsDto;
@@ -17,67 +20,91 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 인기 레시피 순위 계산.
+ * 순위 한 개를 만들 때 레시피·메인 이미지·작성자·댓글 수를 레시피 ID 목록으로 한 번씩만 조회한다.
+ * 조회 API는 이 결과를 미리 만들어 둔 {@link PopularRecipeLeaderboard} 스냅샷에서 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class PopularRecipeService {
-    
+    /** 배치 집계 기준 순위 기간 (24h 는 실시간 집계기가 준비되면 실시간 값 사용) */
+    public static final String PERIOD_24H = "24h";
+    public static final String PERIOD_7D = "7d";
+    public static final String PERIOD_30D = "30d";
+    public static final String PERIOD_SCORE = "score";
+
     private final RecipePopularityRepository recipePopularityRepository;
-    private final RecipePopularityHistoryRepository recipePopularityHistoryRepository;
+    private final RecipeRankingSnapshotRepository recipeRankingSnapshotRepository;
     private final RecipeImageRepository recipeImageRepository;
     private final MemberRepository memberRepository;
     private final RecipeCommentRepository recipeCommentRepository;
-    
+    private final RecipeRepository recipeRepository;
+    private final EngagementCounterService engagementCounterService;
+
     /**
-     * 인기 레시피 목록 조회
-     * 
-     * @param limit 조회할 개수
-     * @param period 기간 (24h, 7d, 30d) - 현재는 popularity_score 기준
+     * 순위 기간 정규화 (24h, 7d, 30d 외에는 popularity_score 기준)
+     */
+    public static String normalizePeriod(String period) {
+        if (PERIOD_24H.equals(period) || PERIOD_7D.equals(period) || PERIOD_30D.equals(period)) {
+            return period;
+        }
+        return PERIOD_SCORE;
+    }
+
+    /**
+     * 인기 레시피 순위 계산
+     *
+     * @param period        기간 (24h, 7d, 30d, score)
+     *                      24h 는 실시간 집계기에서, 나머지는 배치 집계(recipe_popularity)에서 읽는다
+     * @param size          순위 크기
+     * @param recipeCache   레시피 ID -> 작성자·썸네일·댓글 수까지 채운 RecipeDto.
+     *                      없는 레시피만 조회해 채워 넣으므로, 여러 순위를 만들 때 같은 맵을 넘기면 중복 조회하지 않는다
+     * @param previousRanks 레시피 ID -> 24시간 전 순위 ({@link #loadPreviousRanks()})
      * @return 인기 레시피 목록
      */
-    public List<PopularRecipeDto> getPopularRecipes(int limit, String period) {
-        log.debug("Fetching popular recipes: limit={}, period={}", limit, period);
-        
-        Pageable pageable = PageRequest.of(0, limit);
-        List<RecipePopularity> popularityList = switch (period) {
-            case "24h" -> recipePopularityRepository.findTopByHits24h(pageable);
-            case "7d" -> recipePopularityRepository.findTopByHits7d(pageable);
-            case "30d" -> recipePopularityRepository.findTopByHits30d(pageable);
-            default -> recipePopularityRepository.findTopByPopularityScore(pageable);
-        };
-
-        // 이전 순위 조회 (24시간 전)
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-        LocalDateTime yesterdayStart = yesterday.minusHours(1);
-        LocalDateTime yesterdayEnd = yesterday.plusHours(1);
-        
-        List<RecipePopularityHistory> previousHistories = 
-                recipePopularityHistoryRepository.findByRecordedAtBetween(yesterdayStart, yesterdayEnd);
-        
-        // 레시피 ID -> 이전 순위 매핑
-        Map<Long, Integer> previousRanks = previousHistories.stream()
-                .collect(Collectors.toMap(
-                        RecipePopularityHistory::getRecipeId,
-                        RecipePopularityHistory::getRank,
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
-        
+    public List<PopularRecipeDto> buildRanking(String period, int size, Map<Long, RecipeDto> recipeCache,
+                                               Map<Long, Integer> previousRanks) {
+        List<RankedRecipe> ranking;
+        if (PERIOD_24H.equals(period) && engagementCounterService.isReady()) {
+            ranking = rankByLiveHits24h(size);
+        } else {
+            Pageable pageable = PageRequest.of(0, size);
+            List<RecipePopularity> popularityList = switch (period) {
+                case PERIOD_24H -> recipePopularityRepository.findTopByHits24h(pageable);
+                case PERIOD_7D -> recipePopularityRepository.findTopByHits7d(pageable);
+                case PERIOD_30D -> recipePopularityRepository.findTopByHits30d(pageable);
+                default -> recipePopularityRepository.findTopByPopularityScore(pageable);
+            };
+            ranking = popularityList.stream()
+                    .map(popularity -> new RankedRecipe(popularity.getRecipeId(),
+                            PopularityStatsDto.from(popularity), popularity.getCalculatedAt()))
+                    .toList();
+        }
+        loadRecipes(ranking.stream().map(RankedRecipe::recipeId).toList(), recipeCache);
+
         // DTO 변환
         List<PopularRecipeDto> result = new ArrayList<>();
         int rank = 1;
-        
-        for (RecipePopularity popularity : popularityList) {
-            Recipe recipe = popularity.getRecipe();
-            Long recipeId = recipe.getId();
-            
+
+        for (RankedRecipe ranked : ranking) {
+            RecipeDto recipeDto = recipeCache.get(ranked.recipeId());
+            if (recipeDto == null) {
+                // 집계 이후 삭제된 레시피
+                continue;
+            }
+
             // 이전 순위 조회
-            Integer previousRank = previousRanks.get(recipeId);
-            
+            Integer previousRank = previousRanks.get(ranked.recipeId());
+
             // 트렌드 상태 계산
             String trendStatus;
             if (previousRank == null) {
@@ -89,55 +116,109 @@ public class PopularRecipeService {
             } else {
                 trendStatus = "SAME";
             }
-            
-            // RecipeDto 생성
-            RecipeDto recipeDto = convertToRecipeDto(recipe);
-            
-            // PopularityStatsDto 생성
-            PopularityStatsDto statsDto = PopularityStatsDto.from(popularity);
-            
+
             // PopularRecipeDto 생성
             PopularRecipeDto popularRecipeDto = PopularRecipeDto.builder()
                     .rank(rank)
                     .previousRank(previousRank)
                     .trendStatus(trendStatus)
                     .recipe(recipeDto)
-                    .popularityStats(statsDto)
-                    .calculatedAt(popularity.getCalculatedAt())
+                    .popularityStats(ranked.stats())
+                    .calculatedAt(ranked.calculatedAt())
                     .build();
-            
+
             result.add(popularRecipeDto);
             rank++;
         }
-        
-        log.info("Retrieved {} popular recipes", result.size());
+
+        log.debug("Built {} popular recipes for period {}", result.size(), period);
         return result;
     }
-    
+
     /**
-     * Recipe Entity를 RecipeDto로 변환
+     * 24시간 전 순위 (레시피 ID -> 순위).
+     * 24시간 전 시점 이전의 가장 최근 순위 스냅샷 하나만 읽어 배열 순서로 순위를 매긴다.
      */
-    private RecipeDto convertToRecipeDto(Recipe recipe) {
-        // Recipe 생성자를 사용하여 기본 필드 매핑
-        RecipeDto dto = new RecipeDto(recipe);
-        
-        // 썸네일 이미지 설정
-        recipeImageRepository.findMainImageByRecipeId(recipe.getId())
-                .ifPresent(image -> dto.setThumbnail(image.getUrl()));
-        
-        // 작성자 정보 설정
-        memberRepository.findById(recipe.getMemberId())
-                .ifPresent(member -> {
-                    dto.setMemberName(member.getName());
-                    dto.setMemberNickname(member.getNickname());
-                    dto.setMemberProfileImage(member.getProfileImage());
-                });
-        
-        // 댓글 개수 설정
-        long commentCount = recipeCommentRepository.countByRecipeId(recipe.getId());
-        dto.setCommentCount(commentCount);
-        
-        return dto;
+    public Map<Long, Integer> loadPreviousRanks() {
+        return recipeRankingSnapshotRepository
+                .findFirstByRecordedAtLessThanEqualOrderByRecordedAtDesc(LocalDateTime.now().minusDays(1))
+                .map(RecipeRankingSnapshot::toRankMap)
+                .orElse(Map.of());
     }
-}
 
+    /**
+     * 실시간 24시간 조회수 순위.
+     * 조회·찜 기간 집계는 실시간 값으로, 점수·누적 찜·댓글 수는 배치 집계 값으로 채운다.
+     */
+    private List<RankedRecipe> rankByLiveHits24h(int limit) {
+        List<EngagementCounts> top = engagementCounterService.getTopByHits24h(limit);
+        List<Long> recipeIds = top.stream().map(EngagementCounts::recipeId).toList();
+        Map<Long, RecipePopularity> popularities = recipePopularityRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(RecipePopularity::getRecipeId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RankedRecipe> ranking = new ArrayList<>(top.size());
+        for (EngagementCounts counts : top) {
+            PopularityStatsDto stats = PopularityStatsDto.from(popularities.get(counts.recipeId()));
+            stats.setHits24h(counts.hits24h());
+            stats.setHits7d(counts.hits7d());
+            stats.setHits30d(counts.hits30d());
+            stats.setFavoriteIncrease24h(counts.favoriteIncrease24h());
+            ranking.add(new RankedRecipe(counts.recipeId(), stats, now));
+        }
+        return ranking;
+    }
+
+    /**
+     * 캐시에 없는 레시피를 RecipeDto로 변환해 채운다.
+     * 레시피·메인 이미지·작성자·댓글 수를 각각 한 번의 IN 조회로 읽는다.
+     */
+    private void loadRecipes(List<Long> recipeIds, Map<Long, RecipeDto> recipeCache) {
+        List<Long> missingIds = recipeIds.stream()
+                .filter(recipeId -> !recipeCache.containsKey(recipeId))
+                .distinct()
+                .toList();
+        if (missingIds.isEmpty()) {
+            return;
+        }
+        List<Recipe> recipes = recipeRepository.findAllById(missingIds);
+        Map<Long, String> thumbnails = new HashMap<>();
+        for (RecipeImage image : recipeImageRepository.findMainImagesByRecipeIds(missingIds)) {
+            thumbnails.putIfAbsent(image.getRecipe().getId(), image.getUrl());
+        }
+        Map<Long, Member> members = memberRepository.findAllById(
+                        recipes.stream().map(Recipe::getMemberId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<Long, Long> commentCounts = new HashMap<>();
+        for (Object[] row : recipeCommentRepository.countByRecipeIds(missingIds)) {
+            commentCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        for (Recipe recipe : recipes) {
+            // Recipe 생성자를 사용하여 기본 필드 매핑
+            RecipeDto dto = new RecipeDto(recipe);
+
+            // 썸네일 이미지 설정
+            String thumbnail = thumbnails.get(recipe.getId());
+            if (thumbnail != null) {
+                dto.setThumbnail(thumbnail);
+            }
+
+            // 작성자 정보 설정
+            Member member = members.get(recipe.getMemberId());
+            if (member != null) {
+                dto.setMemberName(member.getName());
+                dto.setMemberNickname(member.getNickname());
+                dto.setMemberProfileImage(member.getProfileImage());
+            }
+
+            // 댓글 개수 설정
+            dto.setCommentCount(commentCounts.getOrDefault(recipe.getId(), 0L));
+
+            recipeCache.put(recipe.getId(), dto);
+        }
+    }
+
+    private record RankedRecipe(Long recipeId, PopularityStatsDto stats, LocalDateTime calculatedAt) {
+    }
+}
@@ -2,18 +2,34 @@ package com.knusrae.cook.api.popular.domain.service;
 
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipePopularity;
-import com.knusrae.cook.api.recipe.domain.entity.RecipePopularityHistory;
+import com.knusrae.cook.api.recipe.domain.entity.RecipeRankingSnapshot;
+import com.knusrae.cook.api.recipe.domain.enums.RankingGranularity;
 import com.knusrae.cook.api.recipe.domain.repository.*;
+import com.knusrae.cook.api.recipe.domain.view.HyperLogLog;
+import com.knusrae.cook.api.recipe.domain.view.RecipeUniqueViewerCounter;
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJob;
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJobRunner;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,41 +39,278 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @Slf4j
 public class PopularityCalculationService {
+    /** 배치 계산 시 한 번에 처리하는 레시피 수 (집계 쿼리 1회, upsert 트랜잭션 1회 단위) */
+    private static final int POPULARITY_CHUNK_SIZE = 1000;
+    /** 순위 스냅샷에 담는 상위 레시피 수 */
+    private static final int RANKING_SNAPSHOT_SIZE = 100;
+    /** 전체 인기도 계산 작업 이름 (체크포인트 키) */
+    private static final String FULL_CALCULATION_JOB = "popularity-full-calculation";
+    private static final String SELECT_RECIPE_CHUNK = """
+            SELECT id, created_at
+            FROM recipe
+            WHERE id > :lastId
+            ORDER BY id
+            LIMIT :limit
+            """;
+    private static final String SELECT_RECIPES_BY_IDS = """
+            SELECT id, created_at
+            FROM recipe
+            WHERE id IN (:ids)
+            ORDER BY id
+            """;
+    /** 집계 쿼리의 레시피 조건 (%s 자리): 전체 계산은 ID 구간, 증분 계산은 ID 목록 */
+    private static final String RECIPE_ID_RANGE = "recipe_id BETWEEN :fromId AND :toId";
+    private static final String RECIPE_ID_LIST = "recipe_id IN (:ids)";
+    private static final String SELECT_VIEW_COUNTS = """
+            SELECT recipe_id,
+                   SUM(CASE WHEN viewed_at > :oneDayAgo THEN 1 ELSE 0 END) AS hits_24h,
+                   SUM(CASE WHEN viewed_at > :sevenDaysAgo THEN 1 ELSE 0 END) AS hits_7d,
+                   COUNT(*) AS hits_30d,
+                   MIN(CASE WHEN viewed_at > :oneDayAgo THEN viewed_at END) AS oldest_24h,
+                   MIN(CASE WHEN viewed_at > :sevenDaysAgo THEN viewed_at END) AS oldest_7d,
+                   MIN(viewed_at) AS oldest_30d
+            FROM recipe_view
+            WHERE %s AND viewed_at > :thirtyDaysAgo
+            GROUP BY recipe_id
+            """;
+    private static final String SELECT_FAVORITE_COUNTS = """
+            SELECT recipe_id,
+                   COUNT(*) AS favorite_count,
+                   SUM(CASE WHEN created_at > :oneDayAgo THEN 1 ELSE 0 END) AS favorite_increase_24h,
+                   MIN(CASE WHEN created_at > :oneDayAgo THEN created_at END) AS oldest_favorite_24h
+            FROM recipe_favorite
+            WHERE %s
+            GROUP BY recipe_id
+            """;
+    private static final String SELECT_COMMENT_COUNTS = """
+            SELECT recipe_id, COUNT(*) AS comment_count
+            FROM recipe_comment
+            WHERE %s
+            GROUP BY recipe_id
+            """;
+    /** 최근 7일(현재 시간 포함 168개) 순 방문자 시간 버킷 스케치 */
+    private static final String SELECT_UNIQUE_VIEWER_SKETCHES = """
+            SELECT recipe_id, bucket_hour, sketch
+            FROM recipe_unique_viewer_hourly
+            WHERE %s AND bucket_hour >= :reachFrom7d
+            """;
     
     private final RecipeRepository recipeRepository;
     private final RecipePopularityRepository recipePopularityRepository;
     private final RecipeFavoriteRepository recipeFavoriteRepository;
     private final RecipeCommentRepository recipeCommentRepository;
     private final RecipeViewRepository recipeViewRepository;
-    private final RecipePopularityHistoryRepository recipePopularityHistoryRepository;
+    private final RecipeRankingSnapshotRepository recipeRankingSnapshotRepository;
     private final RecipePopularityWriter recipePopularityWriter;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PopularityDirtyTracker popularityDirtyTracker;
+    private final RecipeUniqueViewerCounter recipeUniqueViewerCounter;
+    private final ChunkJobRunner chunkJobRunner;
+    private final SchedulerLock schedulerLock;
+    @Value("${app.popularity.full-calculation.parallelism:4}")
+    private int fullCalculationParallelism;
+    @Value("${app.popularity.ranking-snapshot.hourly-retention-days:7}")
+    private int snapshotHourlyRetentionDays;
+    @Value("${app.popularity.ranking-snapshot.daily-retention-days:365}")
+    private int snapshotDailyRetentionDays;
     
     /**
-     * 모든 레시피의 인기도 점수 계산.
-     * 각 레시피를 REQUIRES_NEW 트랜잭션으로 독립 처리하여
-     * 특정 레시피 실패가 전체 배치를 중단시키지 않도록 한다.
+     * 모든 레시피의 인기도 점수 계산 (배치 모드).
+     * 레시피를 ID 순 청크로 나누고, 청크마다 조회·찜·댓글 테이블을 레시피별 GROUP BY 집계 한 번씩만 읽은 뒤
+     * 결과를 JDBC 배치 upsert 로 저장한다. 레시피 수와 관계없이 청크당 쿼리 수가 일정하다.
+     * {@link ChunkJobRunner} 로 실행하므로 청크는 parallelism 개씩 동시에 처리되고, 중단되면 다음 실행이
+     * 마지막으로 끝난 청크 다음부터 이어서 계산한다. 청크마다 별도 트랜잭션(REQUIRES_NEW)으로 저장하며,
+     * 실패한 청크가 있으면 그 앞까지만 체크포인트를 남기고 멈춰 다음 실행이 그 청크부터 다시 계산한다.
+     * 체크포인트가 청크마다 바로 커밋되어야 하므로 트랜잭션 없이 실행한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void calculateAllPopularityScores() {
-        log.info("Starting popularity score calculation for all recipes");
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource window = windowParams(now);
         
-        List<Recipe> allRecipes = recipeRepository.findAll();
+        chunkJobRunner.run(ChunkJob.<RecipeCreatedAt, ScoredPopularity>builder()
+                .name(FULL_CALCULATION_JOB)
+                .chunkSize(POPULARITY_CHUNK_SIZE)
+                .parallelism(fullCalculationParallelism)
+                .reader((lastId, limit) -> namedParameterJdbcTemplate.query(SELECT_RECIPE_CHUNK,
+                        new MapSqlParameterSource()
+                                .addValue("lastId", lastId)
+                                .addValue("limit", limit),
+                        RECIPE_CREATED_AT_MAPPER))
+                .keyExtractor(RecipeCreatedAt::id)
+                .processor(chunk -> scoreChunk(chunk, RECIPE_ID_RANGE,
+                        new MapSqlParameterSource(window.getValues())
+                                .addValue("fromId", chunk.get(0).id())
+                                .addValue("toId", chunk.get(chunk.size() - 1).id()),
+                        now))
+                .writer(scored -> writeScored(scored, now))
+                .build());
+    }
+    
+    /**
+     * 증분 인기도 계산.
+     * 마지막 계산 이후 활동(조회·찜·댓글·레시피 변경)이 있었던 레시피와, 24시간/7일/30일 윈도우에서
+     * 활동이 빠져나갈 시각이 지난 레시피만 다시 계산한다. 비용은 카탈로그 크기가 아니라 활동량에 비례한다.
+     * 실패한 청크의 레시피는 다음 증분 계산 대상으로 되돌린다.
+     */
+    public void calculateDirtyPopularityScores() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneDayAgo = now.minusDays(1);
-        LocalDateTime sevenDaysAgo = now.minusDays(7);
-        LocalDateTime thirtyDaysAgo = now.minusDays(30);
+        // 순 방문자 스케치가 저장된 레시피 (비회원 방문은 조회 기록 이벤트가 없다)
+        recipeUniqueViewerCounter.drainFlushedRecipeIds().forEach(popularityDirtyTracker::markDirty);
+        RoaringBitmap dirtyIds = popularityDirtyTracker.drain(now);
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        MapSqlParameterSource window = windowParams(now);
         
         int processedCount = 0;
-        
-        for (Recipe recipe : allRecipes) {
+        int[] ids = dirtyIds.toArray();
+        for (int from = 0; from < ids.length; from += POPULARITY_CHUNK_SIZE) {
+            int[] chunkIds = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + POPULARITY_CHUNK_SIZE));
+            List<Long> idList = Arrays.stream(chunkIds).asLongStream().boxed().toList();
             try {
-                calculateAndSavePopularity(recipe, now, oneDayAgo, sevenDaysAgo, thirtyDaysAgo);
-                processedCount++;
+                List<RecipeCreatedAt> chunk = namedParameterJdbcTemplate.query(SELECT_RECIPES_BY_IDS,
+                        new MapSqlParameterSource("ids", idList), RECIPE_CREATED_AT_MAPPER);
+                if (!chunk.isEmpty()) {
+                    processedCount += writeScored(scoreChunk(chunk, RECIPE_ID_LIST,
+                            new MapSqlParameterSource(window.getValues()).addValue("ids", idList),
+                            now), now);
+                }
             } catch (Exception e) {
-                log.error("Error calculating popularity for recipe {}: {}", recipe.getId(), e.getMessage());
+                popularityDirtyTracker.markDirty(RoaringBitmap.bitmapOf(chunkIds));
+                log.error("Error calculating incremental popularity for {} recipes: {}", chunkIds.length, e.getMessage());
             }
         }
         
-        log.info("Popularity score calculation completed. Processed {} recipes", processedCount);
+        log.info("Incremental popularity calculation completed. Processed {} of {} dirty recipes in {} ms",
+                processedCount, ids.length, System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * 한 청크의 지표를 집계 쿼리 4번으로 계산하고, 각 레시피의 윈도우 집계가 바뀌는 다음 시각을 함께 구한다
+     *
+     * @param recipePredicate 집계 쿼리의 레시피 조건 (RECIPE_ID_RANGE 또는 RECIPE_ID_LIST)
+     */
+    private List<ScoredPopularity> scoreChunk(List<RecipeCreatedAt> chunk, String recipePredicate,
+                                              MapSqlParameterSource params, LocalDateTime now) {
+        Map<Long, LocalDateTime> nextExpiry = new HashMap<>();
+        Map<Long, long[]> viewCounts = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_VIEW_COUNTS.formatted(recipePredicate), params, rs -> {
+            long recipeId = rs.getLong("recipe_id");
+            viewCounts.put(recipeId,
+                    new long[]{rs.getLong("hits_24h"), rs.getLong("hits_7d"), rs.getLong("hits_30d")});
+            mergeExpiry(nextExpiry, recipeId, rs.getTimestamp("oldest_24h"), 1);
+            mergeExpiry(nextExpiry, recipeId, rs.getTimestamp("oldest_7d"), 7);
+            mergeExpiry(nextExpiry, recipeId, rs.getTimestamp("oldest_30d"), 30);
+        });
+        Map<Long, long[]> favoriteCounts = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_FAVORITE_COUNTS.formatted(recipePredicate), params, rs -> {
+            long recipeId = rs.getLong("recipe_id");
+            favoriteCounts.put(recipeId,
+                    new long[]{rs.getLong("favorite_count"), rs.getLong("favorite_increase_24h")});
+            mergeExpiry(nextExpiry, recipeId, rs.getTimestamp("oldest_favorite_24h"), 1);
+        });
+        Map<Long, Long> commentCounts = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_COMMENT_COUNTS.formatted(recipePredicate), params, rs -> {
+            commentCounts.put(rs.getLong("recipe_id"), rs.getLong("comment_count"));
+        });
+        Map<Long, long[]> uniqueViewers = countUniqueViewers(recipePredicate, params, nextExpiry);
+        
+        long[] noViews = new long[3];
+        long[] noUniqueViewers = new long[2];
+        long[] noFavorites = new long[2];
+        LocalDate today = now.toLocalDate();
+        List<ScoredPopularity> scored = new ArrayList<>(chunk.size());
+        for (RecipeCreatedAt recipe : chunk) {
+            long[] views = viewCounts.getOrDefault(recipe.id(), noViews);
+            long[] favorites = favoriteCounts.getOrDefault(recipe.id(), noFavorites);
+            long commentCount = commentCounts.getOrDefault(recipe.id(), 0L);
+            long[] reach = uniqueViewers.getOrDefault(recipe.id(), noUniqueViewers);
+            long daysSinceCreated = recipe.createdAt() == null
+                    ? 0
+                    : ChronoUnit.DAYS.between(recipe.createdAt().toLocalDate(), today);
+            scored.add(new ScoredPopularity(new RecipePopularityWriter.PopularityRow(
+                    recipe.id(), views[0], views[1], views[2],
+                    favorites[0], commentCount, favorites[1], reach[0], reach[1],
+                    calculateScore(views[0], views[1], favorites[0], commentCount, favorites[1],
+                            reach[0], reach[1], daysSinceCreated)),
+                    nextExpiry.get(recipe.id())));
+        }
+        return scored;
+    }
+    
+    /**
+     * 레시피별 최근 24시간/7일 순 방문자 수 추정.
+     * 시간 버킷 스케치를 레시피별로 합치며, 윈도우에서 가장 오래된 버킷이 빠져나가는 시각을 만료 시각에 반영한다.
+     *
+     * @return 레시피 ID -> {24시간, 7일} 순 방문자 수
+     */
+    private Map<Long, long[]> countUniqueViewers(String recipePredicate, MapSqlParameterSource params,
+                                                 Map<Long, LocalDateTime> nextExpiry) {
+        LocalDateTime reachFrom24h = ((Timestamp) params.getValue("reachFrom24h")).toLocalDateTime();
+        Map<Long, HyperLogLog> sketches24h = new HashMap<>();
+        Map<Long, HyperLogLog> sketches7d = new HashMap<>();
+        Map<Long, Timestamp[]> oldestBuckets = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_UNIQUE_VIEWER_SKETCHES.formatted(recipePredicate), params, rs -> {
+            long recipeId = rs.getLong("recipe_id");
+            Timestamp bucketHour = rs.getTimestamp("bucket_hour");
+            HyperLogLog sketch = HyperLogLog.fromBytes(rs.getBytes("sketch"));
+            Timestamp[] oldest = oldestBuckets.computeIfAbsent(recipeId, id -> new Timestamp[2]);
+            if (!bucketHour.toLocalDateTime().isBefore(reachFrom24h)) {
+                sketches24h.computeIfAbsent(recipeId, id -> new HyperLogLog(HyperLogLog.DEFAULT_PRECISION)).merge(sketch);
+                oldest[0] = oldest[0] == null || bucketHour.before(oldest[0]) ? bucketHour : oldest[0];
+            }
+            sketches7d.computeIfAbsent(recipeId, id -> new HyperLogLog(HyperLogLog.DEFAULT_PRECISION)).merge(sketch);
+            oldest[1] = oldest[1] == null || bucketHour.before(oldest[1]) ? bucketHour : oldest[1];
+        });
+        Map<Long, long[]> counts = new HashMap<>();
+        sketches7d.forEach((recipeId, sketch7d) -> {
+            HyperLogLog sketch24h = sketches24h.get(recipeId);
+            counts.put(recipeId, new long[]{sketch24h == null ? 0 : sketch24h.estimate(), sketch7d.estimate()});
+            Timestamp[] oldest = oldestBuckets.get(recipeId);
+            mergeExpiry(nextExpiry, recipeId, oldest[0], 1);
+            mergeExpiry(nextExpiry, recipeId, oldest[1], 7);
+        });
+        return counts;
+    }
+    
+    /**
+     * 계산한 인기도를 저장하고 다음 만료 시각을 만료 큐에 등록
+     *
+     * @return 저장한 레시피 수
+     */
+    private int writeScored(List<ScoredPopularity> scored, LocalDateTime now) {
+        recipePopularityWriter.upsertPopularities(scored.stream().map(ScoredPopularity::row).toList(), now);
+        for (ScoredPopularity popularity : scored) {
+            if (popularity.nextExpiry() != null) {
+                popularityDirtyTracker.scheduleExpiry(popularity.row().recipeId(), popularity.nextExpiry());
+            }
+        }
+        return scored.size();
+    }
+    
+    private static MapSqlParameterSource windowParams(LocalDateTime now) {
+        // 순 방문자는 시간 버킷 단위이므로 현재 시간을 포함한 최근 24개/168개 버킷을 본다
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        return new MapSqlParameterSource()
+                .addValue("oneDayAgo", Timestamp.valueOf(now.minusDays(1)))
+                .addValue("sevenDaysAgo", Timestamp.valueOf(now.minusDays(7)))
+                .addValue("thirtyDaysAgo", Timestamp.valueOf(now.minusDays(30)))
+                .addValue("reachFrom24h", Timestamp.valueOf(currentHour.minusHours(23)))
+                .addValue("reachFrom7d", Timestamp.valueOf(currentHour.minusHours(7 * 24 - 1)));
+    }
+    
+    /**
+     * 윈도우에서 가장 오래된 활동이 빠져나가는 시각(oldest + windowDays) 중 가장 이른 시각을 남긴다
+     */
+    private static void mergeExpiry(Map<Long, LocalDateTime> nextExpiry, long recipeId,
+                                    Timestamp oldest, int windowDays) {
+        if (oldest == null) {
+            return;
+        }
+        nextExpiry.merge(recipeId, oldest.toLocalDateTime().plusDays(windowDays),
+                (current, candidate) -> candidate.isBefore(current) ? candidate : current);
     }
     
     /**
@@ -95,92 +348,111 @@ public class PopularityCalculationService {
         long commentCount = recipeCommentRepository.countByRecipeId(recipeId);
         long favoriteIncrease24h = recipeFavoriteRepository
                 .countByRecipeIdAndCreatedAtAfter(recipeId, oneDayAgo);
+        long[] reach = countUniqueViewers(RECIPE_ID_LIST,
+                windowParams(now).addValue("ids", List.of(recipeId)), new HashMap<>())
+                .getOrDefault(recipeId, new long[2]);
         
         long daysSinceCreated = ChronoUnit.DAYS.between(
                 recipe.getCreatedAt().toLocalDate(),
                 LocalDate.now()
         );
         
-        double rawScore =
-                hits24h * 5.0 +
-                hits7d * 3.0 +
-                favoriteCount * 10.0 +
-                commentCount * 8.0 +
-                favoriteIncrease24h * 15.0;
-        
-        double popularityScore = rawScore / (daysSinceCreated + 1.0);
+        double popularityScore = calculateScore(hits24h, hits7d, favoriteCount, commentCount,
+                favoriteIncrease24h, reach[0], reach[1], daysSinceCreated);
 
         // 저장을 REQUIRES_NEW 트랜잭션으로 격리 (한 레시피 실패가 전체를 오염시키지 않도록)
         recipePopularityWriter.savePopularity(
                 recipe, now,
                 hits24h, hits7d, hits30d,
                 favoriteCount, commentCount,
-                favoriteIncrease24h, popularityScore
+                favoriteIncrease24h, reach[0], reach[1], popularityScore
         );
     }
     
     /**
-     * 인기도 점수 재계산 (배치 작업용)
+     * 인기도 점수 = 가중 합 / (작성 후 경과 일수 + 1).
+     * 순 방문자(비회원 포함)는 회원 조회수와 겹치므로 낮은 가중치로 더한다.
      */
-    @Transactional
+    private static double calculateScore(long hits24h, long hits7d, long favoriteCount, long commentCount,
+                                         long favoriteIncrease24h, long uniqueViewers24h, long uniqueViewers7d,
+                                         long daysSinceCreated) {
+        double rawScore =
+                hits24h * 5.0 +
+                hits7d * 3.0 +
+                favoriteCount * 10.0 +
+                commentCount * 8.0 +
+                favoriteIncrease24h * 15.0 +
+                uniqueViewers24h * 2.0 +
+                uniqueViewers7d * 1.0;
+        return rawScore / (daysSinceCreated + 1.0);
+    }
+    
+    /**
+     * 인기도 점수 재계산 (배치 작업용).
+     * 청크마다 따로 커밋하므로 트랜잭션으로 감싸지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void recalculateAllScores() {
         log.info("Recalculating all popularity scores");
         calculateAllPopularityScores();
     }
     
     /**
-     * 순위 변동 추적 및 히스토리 저장
-     * 이전 순위와 비교하여 트렌드 상태를 계산하고 히스토리를 저장합니다.
+     * 현재 순위 스냅샷 저장.
+     * 인기도 상위 RANKING_SNAPSHOT_SIZE 개를 순위 순 레시피 ID·점수 배열로 담아 행 하나로 저장한다.
+     * 순위 변동(트렌드)은 조회 시 이 스냅샷 두 개를 메모리에서 비교해 계산한다.
+     * 임대를 잃은 이전 보유자가 같은 시간 스냅샷을 한 번 더 쓰지 않도록 저장 트랜잭션에서 임대를 잠가 확인한다.
      */
     @Transactional
     public void trackRankingChanges() {
-        log.info("Starting ranking change tracking");
-        
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime yesterday = now.minusDays(1);
-        LocalDateTime yesterdayStart = yesterday.minusHours(1);
-        LocalDateTime yesterdayEnd = yesterday.plusHours(1);
+        schedulerLock.fenceWrite();
+        Pageable topK = PageRequest.of(0, RANKING_SNAPSHOT_SIZE);
+        List<RecipePopularity> currentRanking = recipePopularityRepository.findTopByPopularityScore(topK);
         
-        // 현재 순위 조회 (상위 100개)
-        Pageable top100 = PageRequest.of(0, 100);
-        List<RecipePopularity> currentRanking = recipePopularityRepository
-                .findTopByPopularityScore(top100);
-        
-        log.info("Current ranking size: {}", currentRanking.size());
-        
-        // 이전 순위 조회 (24시간 전)
-        List<RecipePopularityHistory> previousHistories = recipePopularityHistoryRepository
-                .findByRecordedAtBetween(yesterdayStart, yesterdayEnd);
-        
-        // 레시피 ID -> 이전 순위 매핑
-        Map<Long, Integer> previousRanks = previousHistories.stream()
-                .collect(Collectors.toMap(
-                        RecipePopularityHistory::getRecipeId,
-                        RecipePopularityHistory::getRank,
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
-        
-        log.info("Previous ranks found: {}", previousRanks.size());
-        
-        // 현재 순위를 히스토리에 저장
-        int currentRank = 1;
-        for (RecipePopularity popularity : currentRanking) {
-            Long recipeId = popularity.getRecipeId();
-            Integer previousRank = previousRanks.get(recipeId);
-            
-            // 히스토리 저장
-            RecipePopularityHistory history = RecipePopularityHistory.builder()
-                    .recipeId(recipeId)
-                    .rank(currentRank)
-                    .popularityScore(popularity.getPopularityScore())
-                    .build();
-            
-            recipePopularityHistoryRepository.save(history);
-            
-            currentRank++;
+        Long[] recipeIds = new Long[currentRanking.size()];
+        Double[] scores = new Double[currentRanking.size()];
+        for (int i = 0; i < currentRanking.size(); i++) {
+            recipeIds[i] = currentRanking.get(i).getRecipeId();
+            scores[i] = currentRanking.get(i).getPopularityScore();
         }
+        recipeRankingSnapshotRepository.save(RecipeRankingSnapshot.builder()
+                .recordedAt(LocalDateTime.now())
+                .recipeIds(recipeIds)
+                .popularityScores(scores)
+                .build());
         
-        log.info("Ranking change tracking completed. Saved {} history records", currentRanking.size());
+        log.info("Ranking snapshot saved with {} recipes", recipeIds.length);
+    }
+    
+    /**
+     * 순위 스냅샷 축약.
+     * hourly-retention-days 가 지난 시간 단위 스냅샷은 날짜별 마지막 하나만 DAILY 로 남기고 지우며,
+     * daily-retention-days 가 지난 일 단위 스냅샷은 삭제한다.
+     */
+    @Transactional
+    public void downsampleRankingSnapshots() {
+        schedulerLock.fenceWrite();
+        LocalDateTime hourlyCutoff = LocalDate.now().minusDays(snapshotHourlyRetentionDays).atStartOfDay();
+        LocalDateTime dailyCutoff = LocalDate.now().minusDays(snapshotDailyRetentionDays).atStartOfDay();
+        int promoted = recipeRankingSnapshotRepository.promoteLastHourlyOfDay(hourlyCutoff);
+        int deletedHourly = recipeRankingSnapshotRepository.deleteByGranularityBefore(RankingGranularity.HOURLY.name(), hourlyCutoff);
+        int deletedDaily = recipeRankingSnapshotRepository.deleteByGranularityBefore(RankingGranularity.DAILY.name(), dailyCutoff);
+        log.info("Ranking snapshots downsampled: {} promoted to daily, {} hourly and {} daily deleted",
+                promoted, deletedHourly, deletedDaily);
+    }
+
+    private static final RowMapper<RecipeCreatedAt> RECIPE_CREATED_AT_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new RecipeCreatedAt(rs.getLong("id"), createdAt == null ? null : createdAt.toLocalDateTime());
+    };
+
+    private record RecipeCreatedAt(long id, LocalDateTime createdAt) {
     }
-}
 
+    /**
+     * @param row        저장할 인기도
+     * @param nextExpiry 윈도우 집계가 다음으로 바뀌는 시각 (최근 30일 활동이 없으면 null)
+     */
+    private record ScoredPopularity(RecipePopularityWriter.PopularityRow row, LocalDateTime nextExpiry) {
+    }
+}
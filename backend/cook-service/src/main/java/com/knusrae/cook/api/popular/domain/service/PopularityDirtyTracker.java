@@ -0,0 +1,95 @@
+package com.knusrae.cook.api.popular.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 인기도 재계산 대상 추적기.
+ * 마지막 증분 계산 이후 조회·찜·댓글·레시피 변경이 있었던 레시피 ID(dirty set)와,
+ * 24시간/7일/30일 윈도우에서 가장 오래된 활동이 빠져나가는 시각별 레시피 ID(만료 큐)를 메모리에 모은다.
+ * 만료 큐는 bucket-ms 단위 버킷으로 묶고, 버킷이 끝나는 시각 이후의 증분 계산에서 꺼낸다.
+ *
+ * 메모리 상태이므로 재기동하면 비워진다. 기동 시와 매일 전체 재계산이 모든 레시피의 다음 만료 시각을 다시 채운다.
+ */
+@Component
+public class PopularityDirtyTracker {
+    private final long bucketMs;
+    private final RoaringBitmap dirty = new RoaringBitmap();
+    /** 버킷 번호 (epoch millis / bucket-ms, 올림) -> 그 버킷에 윈도우 만료가 있는 레시피 ID */
+    private final TreeMap<Long, RoaringBitmap> expiryBuckets = new TreeMap<>();
+
+    public PopularityDirtyTracker(@Value("${app.popularity.expiry-bucket-ms:300000}") long bucketMs) {
+        if (bucketMs <= 0) {
+            throw new IllegalArgumentException("만료 버킷 크기는 0보다 커야 합니다.");
+        }
+        this.bucketMs = bucketMs;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeActivity(RecipeActivityEvent event) {
+        markDirty(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        // 삭제된 레시피는 인기도 행도 함께 지워지므로 다시 계산할 필요가 없다
+        if (event.changeType() != RecipeChangedEvent.ChangeType.DELETED) {
+            markDirty(event.recipeId());
+        }
+    }
+
+    public synchronized void markDirty(Long recipeId) {
+        if (recipeId != null) {
+            dirty.add(Math.toIntExact(recipeId));
+        }
+    }
+
+    /**
+     * 계산에 실패한 레시피를 다음 증분 계산 대상으로 되돌린다
+     */
+    public synchronized void markDirty(RoaringBitmap recipeIds) {
+        dirty.or(recipeIds);
+    }
+
+    /**
+     * 레시피의 윈도우 집계가 바뀌는 다음 시각 등록 (그 시각이 속한 버킷이 끝난 뒤 재계산된다)
+     */
+    public synchronized void scheduleExpiry(long recipeId, LocalDateTime expiresAt) {
+        long epochMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long bucket = Math.floorDiv(epochMillis, bucketMs) + 1;
+        expiryBuckets.computeIfAbsent(bucket, key -> new RoaringBitmap()).add(Math.toIntExact(recipeId));
+    }
+
+    /**
+     * 재계산 대상을 꺼낸다: dirty set 전체 + 지금까지 끝난 만료 버킷
+     *
+     * @return 재계산할 레시피 ID (꺼낸 항목은 추적기에서 제거된다)
+     */
+    public synchronized RoaringBitmap drain(LocalDateTime now) {
+        RoaringBitmap drained = dirty.clone();
+        dirty.clear();
+        long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long currentBucket = Math.floorDiv(nowMillis, bucketMs);
+        Iterator<Map.Entry<Long, RoaringBitmap>> due = expiryBuckets.headMap(currentBucket, true).entrySet().iterator();
+        while (due.hasNext()) {
+            drained.or(due.next().getValue());
+            due.remove();
+        }
+        return drained;
+    }
+
+    public synchronized int pendingExpiryCount() {
+        return expiryBuckets.values().stream().mapToInt(RoaringBitmap::getCardinality).sum();
+    }
+}
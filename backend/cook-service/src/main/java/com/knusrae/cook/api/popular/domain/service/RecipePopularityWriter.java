@@ -5,11 +5,16 @@ import com.knusrae.cook.api.recipe.domain.entity.RecipePopularity;
 import com.knusrae.cook.api.recipe.domain.repository.RecipePopularityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 레시피 인기도 저장 전용 서비스.
@@ -20,14 +25,38 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 @Slf4j
 public class RecipePopularityWriter {
+    private static final String UPSERT_POPULARITY = """
+            INSERT INTO recipe_popularity (recipe_id, popularity_score, hits_24h, hits_7d, hits_30d,
+                                           favorite_count, comment_count, favorite_increase_24h,
+                                           unique_viewers_24h, unique_viewers_7d,
+                                           calculated_at, updated_at)
+            VALUES (:recipeId, :popularityScore, :hits24h, :hits7d, :hits30d,
+                    :favoriteCount, :commentCount, :favoriteIncrease24h,
+                    :uniqueViewers24h, :uniqueViewers7d,
+                    :calculatedAt, :calculatedAt)
+            ON CONFLICT (recipe_id) DO UPDATE SET
+                popularity_score = EXCLUDED.popularity_score,
+                hits_24h = EXCLUDED.hits_24h,
+                hits_7d = EXCLUDED.hits_7d,
+                hits_30d = EXCLUDED.hits_30d,
+                favorite_count = EXCLUDED.favorite_count,
+                comment_count = EXCLUDED.comment_count,
+                favorite_increase_24h = EXCLUDED.favorite_increase_24h,
+                unique_viewers_24h = EXCLUDED.unique_viewers_24h,
+                unique_viewers_7d = EXCLUDED.unique_viewers_7d,
+                calculated_at = EXCLUDED.calculated_at,
+                updated_at = EXCLUDED.updated_at
+            """;
 
     private final RecipePopularityRepository recipePopularityRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void savePopularity(Recipe recipe, LocalDateTime now,
                                long hits24h, long hits7d, long hits30d,
                                long favoriteCount, long commentCount,
-                               long favoriteIncrease24h, double popularityScore) {
+                               long favoriteIncrease24h, long uniqueViewers24h, long uniqueViewers7d,
+                               double popularityScore) {
         Long recipeId = recipe.getId();
 
         RecipePopularity popularity = recipePopularityRepository
@@ -41,9 +70,50 @@ public class RecipePopularityWriter {
         popularity.updatePopularity(
                 hits24h, hits7d, hits30d,
                 favoriteCount, commentCount,
-                favoriteIncrease24h, popularityScore
+                favoriteIncrease24h, uniqueViewers24h, uniqueViewers7d, popularityScore
         );
 
         recipePopularityRepository.save(popularity);
     }
+
+    /**
+     * 한 청크의 인기도를 JDBC 배치 upsert 로 저장.
+     * 청크마다 REQUIRES_NEW 트랜잭션이므로 한 청크가 실패해도 다른 청크 저장에는 영향이 없다.
+     *
+     * @param rows 레시피별 인기도 지표
+     * @param now  계산 시각
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void upsertPopularities(List<PopularityRow> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp calculatedAt = Timestamp.valueOf(now);
+        SqlParameterSource[] params = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("recipeId", row.recipeId())
+                        .addValue("popularityScore", row.popularityScore())
+                        .addValue("hits24h", row.hits24h())
+                        .addValue("hits7d", row.hits7d())
+                        .addValue("hits30d", row.hits30d())
+                        .addValue("favoriteCount", row.favoriteCount())
+                        .addValue("commentCount", row.commentCount())
+                        .addValue("favoriteIncrease24h", row.favoriteIncrease24h())
+                        .addValue("uniqueViewers24h", row.uniqueViewers24h())
+                        .addValue("uniqueViewers7d", row.uniqueViewers7d())
+                        .addValue("calculatedAt", calculatedAt))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_POPULARITY, params);
+    }
+
+    /**
+     * 레시피 한 건의 인기도 지표
+     */
+    public record PopularityRow(Long recipeId,
+                                long hits24h, long hits7d, long hits30d,
+                                long favoriteCount, long commentCount,
+                                long favoriteIncrease24h,
+                                long uniqueViewers24h, long uniqueViewers7d,
+                                double popularityScore) {
+    }
 }
@@ -16,6 +16,10 @@ public class PopularityStatsDto {
     private Long favoriteCount;
     private Long commentCount;
     private Long favoriteIncrease24h;
+    /** 최근 24시간 순 방문자 수 (비회원 포함 추정치) */
+    private Long uniqueViewers24h;
+    /** 최근 7일 순 방문자 수 (비회원 포함 추정치) */
+    private Long uniqueViewers7d;
     
     public static PopularityStatsDto from(RecipePopularity popularity) {
         if (popularity == null) {
@@ -27,6 +31,8 @@ public class PopularityStatsDto {
                     .favoriteCount(0L)
                     .commentCount(0L)
                     .favoriteIncrease24h(0L)
+                    .uniqueViewers24h(0L)
+                    .uniqueViewers7d(0L)
                     .build();
         }
         
@@ -38,6 +44,8 @@ public class PopularityStatsDto {
                 .favoriteCount(popularity.getFavoriteCount())
                 .commentCount(popularity.getCommentCount())
                 .favoriteIncrease24h(popularity.getFavoriteIncrease24h())
+                .uniqueViewers24h(popularity.getUniqueViewers24h())
+                .uniqueViewers7d(popularity.getUniqueViewers7d())
                 .build();
     }
 }
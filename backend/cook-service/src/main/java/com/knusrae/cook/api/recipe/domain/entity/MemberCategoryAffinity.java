@@ -0,0 +1,29 @@
+package com.knusrae.cook.api.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 카테고리 선호도 벡터 ({@link com.knusrae.cook.api.recipe.domain.view.CategoryAffinityVector} 직렬화)
+ * 조회 기록 저장 시 갱신하며, 개인화 추천의 상위 카테고리를 이 행 하나로 읽는다
+ */
+@Entity
+@Table(name = "member_category_affinity")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberCategoryAffinity {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "vector", nullable = false)
+    private byte[] vector;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -43,10 +43,16 @@ public class Recipe {
     @Column
     private String thumbnail;
 
+    // 조회수는 증가분 UPDATE(RecipeHitCounter, RecipeViewWriter)로만 바꾼다. 엔티티 저장이 이전 값으로 덮어쓰지 않도록 수정 불가
     @Builder.Default
-    @Column
+    @Column(updatable = false)
     private Long hits = 0L;
 
+    // 상세 캐시 버전은 RecipeRepository#increaseDetailVersion 으로만 올린다
+    @Builder.Default
+    @Column(name = "detail_version", nullable = false, updatable = false)
+    private Long detailVersion = 0L;
+
     @Column(nullable = false, name = "member_id")
     private Long memberId;
 
@@ -97,11 +103,6 @@ public class Recipe {
         this.visibility = visibility;
     }
 
-    // 조회수 증가 메서드
-    public void increaseHits() {
-        this.hits++;
-    }
-
     // 상태 변경 메서드
     public void changeVisibility(Visibility visibility) {
         this.visibility = visibility;
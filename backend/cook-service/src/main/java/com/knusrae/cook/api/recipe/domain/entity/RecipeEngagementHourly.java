@@ -0,0 +1,49 @@
+package com.knusrae.cook.api.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 시간 단위 조회·찜 집계 (실시간 집계기 체크포인트, 클러스터 전체 값)
+ * 각 인스턴스가 받은 증감분을 주기적으로 더하고, 인스턴스들은 updated_at 으로 바뀐 버킷만 다시 읽어 메모리 집계기를 맞춘다
+ */
+@Entity
+@Table(name = "recipe_engagement_hourly",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_recipe_engagement_hourly_recipe_bucket", columnNames = {"recipe_id", "bucket_hour"})
+       },
+       indexes = {
+           @Index(name = "idx_recipe_engagement_hourly_bucket_hour", columnList = "bucket_hour"),
+           @Index(name = "idx_recipe_engagement_hourly_updated_at", columnList = "updated_at")
+       })
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeEngagementHourly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    /** 집계 구간 시작 (정시) */
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(name = "view_count", nullable = false)
+    @Builder.Default
+    private Integer viewCount = 0;
+
+    @Column(name = "favorite_count", nullable = false)
+    @Builder.Default
+    private Integer favoriteCount = 0;
+
+    /** 마지막으로 값이 바뀐 시각 (DB 시계) */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -54,6 +54,16 @@ public class RecipePopularity {
     @Builder.Default
     private Long favoriteIncrease24h = 0L;
     
+    /** 최근 24시간 순 방문자 수 (비회원 포함, HyperLogLog 추정) */
+    @Column(name = "unique_viewers_24h")
+    @Builder.Default
+    private Long uniqueViewers24h = 0L;
+    
+    /** 최근 7일 순 방문자 수 (비회원 포함, HyperLogLog 추정) */
+    @Column(name = "unique_viewers_7d")
+    @Builder.Default
+    private Long uniqueViewers7d = 0L;
+    
     @Column(name = "calculated_at", nullable = false)
     private LocalDateTime calculatedAt;
     
@@ -70,6 +80,7 @@ public class RecipePopularity {
     // 비즈니스 로직
     public void updatePopularity(Long hits24h, Long hits7d, Long hits30d, Long favoriteCount,
                                   Long commentCount, Long favoriteIncrease24h,
+                                  Long uniqueViewers24h, Long uniqueViewers7d,
                                   Double popularityScore) {
         this.hits24h = hits24h;
         this.hits7d = hits7d;
@@ -77,6 +88,8 @@ public class RecipePopularity {
         this.favoriteCount = favoriteCount;
         this.commentCount = commentCount;
         this.favoriteIncrease24h = favoriteIncrease24h;
+        this.uniqueViewers24h = uniqueViewers24h;
+        this.uniqueViewers7d = uniqueViewers7d;
         this.popularityScore = popularityScore;
         this.calculatedAt = LocalDateTime.now();
     }
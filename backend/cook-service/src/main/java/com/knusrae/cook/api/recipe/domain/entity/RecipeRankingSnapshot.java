@@ -0,0 +1,56 @@
+package com.knusrae.cook.api.recipe.domain.entity;
+
+import com.knusrae.cook.api.recipe.domain.enums.RankingGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레시피 인기도 순위 스냅샷
+ * 한 시점의 상위 순위를 행 하나에 담는다 (순위 순 레시피 ID 배열 + 같은 순서의 점수 배열)
+ */
+@Entity
+@Table(name = "recipe_ranking_snapshot",
+       indexes = {
+           @Index(name = "idx_recipe_ranking_snapshot_recorded_at", columnList = "recorded_at DESC")
+       })
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeRankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private RankingGranularity granularity = RankingGranularity.HOURLY;
+
+    /** 순위 순 레시피 ID (0번이 1위) */
+    @Column(name = "recipe_ids", nullable = false)
+    private Long[] recipeIds;
+
+    /** recipe_ids 와 같은 순서의 인기도 점수 */
+    @Column(name = "popularity_scores", nullable = false)
+    private Double[] popularityScores;
+
+    /**
+     * 레시피 ID -> 순위 (1부터)
+     */
+    public Map<Long, Integer> toRankMap() {
+        Map<Long, Integer> ranks = new HashMap<>(recipeIds.length * 2);
+        for (int i = 0; i < recipeIds.length; i++) {
+            ranks.putIfAbsent(recipeIds[i], i + 1);
+        }
+        return ranks;
+    }
+}
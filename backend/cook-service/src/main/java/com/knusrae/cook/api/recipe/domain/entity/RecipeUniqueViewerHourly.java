@@ -0,0 +1,39 @@
+package com.knusrae.cook.api.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 시간 단위 순 방문자 스케치 (HyperLogLog 직렬화)
+ * 인기도 계산 시 최근 7일치를 레시피별로 합쳐 24시간/7일 순 방문자 수를 추정한다
+ */
+@Entity
+@Table(name = "recipe_unique_viewer_hourly",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_recipe_unique_viewer_hourly_recipe_bucket", columnNames = {"recipe_id", "bucket_hour"})
+       },
+       indexes = {
+           @Index(name = "idx_recipe_unique_viewer_hourly_bucket_hour", columnList = "bucket_hour")
+       })
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeUniqueViewerHourly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    /** 집계 구간 시작 (정시) */
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(name = "sketch", nullable = false)
+    private byte[] sketch;
+}
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
            @UniqueConstraint(columnNames = {"member_id", "recipe_id"})
        },
        indexes = {
-           @Index(name = "idx_member_viewed_at", columnList = "member_id, viewed_at DESC"),
+           @Index(name = "idx_member_viewed_at_recipe", columnList = "member_id, viewed_at DESC, recipe_id DESC"),
            @Index(name = "idx_recipe_viewed_at", columnList = "recipe_id, viewed_at DESC")
        })
 @Getter
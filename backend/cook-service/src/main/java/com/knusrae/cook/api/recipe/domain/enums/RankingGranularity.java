@@ -0,0 +1,8 @@
+package com.knusrae.cook.api.recipe.domain.enums;
+
+/**
+ * 순위 스냅샷 단위 (매시 기록, 보관 기간이 지나면 하루 하나로 축약)
+ */
+public enum RankingGranularity {
+    HOURLY, DAILY
+}
@@ -0,0 +1,10 @@
+package com.knusrae.cook.api.recipe.domain.event;
+
+/**
+ * 회원의 조회 기록 전체 삭제 이벤트.
+ * 트랜잭션 커밋 이후(AFTER_COMMIT)에 최근 본 레시피 캐시를 비우는 데 사용한다.
+ *
+ * @param memberId 회원 ID
+ */
+public record RecentViewsClearedEvent(Long memberId) {
+}
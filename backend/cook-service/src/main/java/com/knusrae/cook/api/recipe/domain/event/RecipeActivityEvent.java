@@ -0,0 +1,45 @@
+package com.knusrae.cook.api.recipe.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 조회/찜/댓글 활동 이벤트.
+ * 트랜잭션 커밋 이후(AFTER_COMMIT)에 인기도 재계산 대상 추적, 실시간 조회수 집계 등에 사용한다.
+ *
+ * @param recipeId     레시피 ID
+ * @param activityType 활동 유형
+ * @param delta        집계 증감 (추가 +1, 취소·삭제 -1)
+ * @param occurredAt   활동 시각 (취소·삭제는 원래 활동 시각)
+ */
+public record RecipeActivityEvent(Long recipeId, ActivityType activityType, int delta, LocalDateTime occurredAt) {
+
+    public enum ActivityType {
+        VIEW,
+        FAVORITE,
+        COMMENT
+    }
+
+    public static RecipeActivityEvent viewed(Long recipeId, LocalDateTime viewedAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.VIEW, 1, viewedAt);
+    }
+
+    public static RecipeActivityEvent viewRemoved(Long recipeId, LocalDateTime viewedAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.VIEW, -1, viewedAt);
+    }
+
+    public static RecipeActivityEvent favorited(Long recipeId, LocalDateTime createdAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.FAVORITE, 1, createdAt);
+    }
+
+    public static RecipeActivityEvent unfavorited(Long recipeId, LocalDateTime createdAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.FAVORITE, -1, createdAt);
+    }
+
+    public static RecipeActivityEvent commented(Long recipeId, LocalDateTime createdAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.COMMENT, 1, createdAt);
+    }
+
+    public static RecipeActivityEvent commentRemoved(Long recipeId, LocalDateTime createdAt) {
+        return new RecipeActivityEvent(recipeId, ActivityType.COMMENT, -1, createdAt);
+    }
+}
@@ -0,0 +1,29 @@
+package com.knusrae.cook.api.recipe.domain.event;
+
+/**
+ * 레시피 생성/수정/삭제 이벤트.
+ * 트랜잭션 커밋 이후(AFTER_COMMIT)에 검색 색인 등 파생 데이터 갱신에 사용한다.
+ *
+ * @param recipeId   레시피 ID
+ * @param changeType 변경 유형
+ */
+public record RecipeChangedEvent(Long recipeId, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static RecipeChangedEvent created(Long recipeId) {
+        return new RecipeChangedEvent(recipeId, ChangeType.CREATED);
+    }
+
+    public static RecipeChangedEvent updated(Long recipeId) {
+        return new RecipeChangedEvent(recipeId, ChangeType.UPDATED);
+    }
+
+    public static RecipeChangedEvent deleted(Long recipeId) {
+        return new RecipeChangedEvent(recipeId, ChangeType.DELETED);
+    }
+}
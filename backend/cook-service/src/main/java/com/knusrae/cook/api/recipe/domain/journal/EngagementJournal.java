@@ -0,0 +1,381 @@
+package com.knusrae.cook.api.recipe.domain.journal;
+
+import com.knusrae.cook.api.recipe.dto.EngagementJournalStatsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 참여 이벤트 로컬 선행 기록(write-ahead) 저널.
+ * 메모리에만 모아 두는 조회 요청·조회/찜 집계 증감을 처리 전에 memory-mapped 세그먼트 파일에 32바이트 고정 길이로 덧붙이고,
+ * 소비자(쓰기 버퍼, 실시간 집계기)는 자기 상태를 DB에 저장할 때마다 거기까지 처리했다는 오프셋을 커밋한다.
+ * 기동 시 소비자는 커밋한 오프셋부터 기동 시점 끝까지를 다시 읽어 메모리 상태를 되살린다.
+ *
+ * 레코드는 [CRC32C 4][유형 1][증감 1][예약 2][레시피 ID 8][회원 ID 8][시각(epoch ms) 8] 이며, 오프셋은 저널 전체의 레코드 번호다.
+ * 세그먼트는 segment-records 개씩 미리 잡아 둔 파일({시작 오프셋}.journal)이고, 가득 차면 다음 파일로 넘어간다.
+ * 모든 소비자가 지나간 세그먼트는 지우고, max-segments 를 넘으면 처리 여부와 관계없이 가장 오래된 세그먼트부터 지운다.
+ *
+ * 덧붙인 레코드는 페이지 캐시에 있으므로 프로세스가 죽어도 남고, force-interval-ms 마다 디스크에 내려 OS 장애에도 그만큼만 잃는다.
+ * CRC 가 맞지 않는 레코드(쓰다 만 레코드)에서 저널이 끝난 것으로 본다.
+ * app.engagement.journal.dir 가 비어 있으면 저널을 쓰지 않는다 (테스트용).
+ */
+@Component
+@Slf4j
+public class EngagementJournal {
+    static final int RECORD_BYTES = 32;
+    private static final int PAYLOAD_OFFSET = 4;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_SUFFIX = ".offset";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final int maxSegments;
+    /** 시작 오프셋 -> 세그먼트 파일 (오래된 순) */
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final Map<String, Long> consumerOffsets = new ConcurrentHashMap<>();
+    private final CRC32C crc = new CRC32C();
+    private final long startupEndOffset;
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private long activeBaseOffset;
+    private int activeCapacity;
+    /** 다음에 쓸 오프셋 */
+    private long endOffset;
+    private boolean unforced;
+
+    private long appendedCount;
+    private long failedAppendCount;
+    private volatile long replayedCount;
+    private volatile LocalDateTime lastForceAt;
+
+    public EngagementJournal(
+            @Value("${app.engagement.journal.dir:}") String dir,
+            @Value("${app.engagement.journal.segment-records:262144}") int segmentRecords,
+            @Value("${app.engagement.journal.max-segments:32}") int maxSegments
+    ) {
+        if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / RECORD_BYTES) {
+            throw new IllegalArgumentException("저널 세그먼트 레코드 수가 올바르지 않습니다: " + segmentRecords);
+        }
+        this.segmentRecords = segmentRecords;
+        this.maxSegments = Math.max(2, maxSegments);
+        if (dir == null || dir.isBlank()) {
+            this.directory = null;
+            this.startupEndOffset = 0;
+            log.info("Engagement journal disabled");
+            return;
+        }
+        try {
+            this.directory = Files.createDirectories(Path.of(dir));
+            open();
+            this.startupEndOffset = endOffset;
+            log.info("Engagement journal opened: dir={}, segments={}, offsets=[{}, {}), consumers={}",
+                    dir, segments.size(), segments.firstKey(), endOffset, consumerOffsets);
+        } catch (IOException e) {
+            throw new RuntimeException("참여 이벤트 저널 초기화 실패: " + dir, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * 레코드 덧붙이기. 저널을 쓰지 않거나 파일 오류가 나면 기록하지 않고 -1을 돌려준다 (요청 처리는 계속한다).
+     *
+     * @return 기록한 오프셋
+     */
+    public synchronized long append(EngagementJournalRecord record) {
+        if (directory == null || record == null) {
+            return -1;
+        }
+        try {
+            if (endOffset - activeBaseOffset >= activeCapacity) {
+                rotate();
+            }
+        } catch (IOException e) {
+            failedAppendCount++;
+            log.error("Failed to rotate engagement journal segment at offset {}: {}", endOffset, e.getMessage());
+            return -1;
+        }
+        int position = Math.toIntExact((endOffset - activeBaseOffset) * RECORD_BYTES);
+        active.put(position + 4, record.type().code());
+        active.put(position + 5, (byte) record.delta());
+        active.putShort(position + 6, (short) 0);
+        active.putLong(position + 8, record.recipeId());
+        active.putLong(position + 16, record.memberId());
+        active.putLong(position + 24, record.occurredAtMillis());
+        crc.reset();
+        crc.update(active.slice(position + PAYLOAD_OFFSET, RECORD_BYTES - PAYLOAD_OFFSET));
+        active.putInt(position, (int) crc.getValue());
+        unforced = true;
+        appendedCount++;
+        return endOffset++;
+    }
+
+    /**
+     * 다음에 기록될 오프셋 (소비자가 상태를 저장하기 직전에 읽어 커밋할 위치로 쓴다)
+     */
+    public synchronized long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * 기동 시점의 저널 끝. 기동 후에 기록된 레코드는 소비자가 이미 실시간으로 처리했으므로 재생 범위에서 뺀다.
+     */
+    public long startupEndOffset() {
+        return startupEndOffset;
+    }
+
+    /**
+     * 소비자 등록. 처음 보는 소비자는 지금까지의 레코드를 처리한 것으로 보고 기동 시점 끝을 커밋해 둔다.
+     *
+     * @return 소비자가 마지막으로 커밋한 오프셋
+     */
+    public long register(String consumer) {
+        if (directory == null) {
+            return 0;
+        }
+        Long offset = consumerOffsets.get(consumer);
+        if (offset != null) {
+            return offset;
+        }
+        commit(consumer, startupEndOffset);
+        return startupEndOffset;
+    }
+
+    /**
+     * 소비자가 offset 직전 레코드까지 처리했음을 기록하고, 모든 소비자가 지나간 세그먼트를 지운다
+     */
+    public void commit(String consumer, long offset) {
+        if (directory == null) {
+            return;
+        }
+        Long committed = consumerOffsets.get(consumer);
+        if (committed != null && committed >= offset) {
+            return;
+        }
+        Path target = directory.resolve(consumer + CHECKPOINT_SUFFIX);
+        Path temp = directory.resolve(consumer + CHECKPOINT_SUFFIX + ".tmp");
+        try {
+            Files.writeString(temp, Long.toString(offset));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            consumerOffsets.put(consumer, offset);
+        } catch (IOException e) {
+            // 다음 커밋에서 다시 기록한다. 그 사이 재기동하면 이전 오프셋부터 재생된다
+            log.error("Failed to commit engagement journal offset {} for {}: {}", offset, consumer, e.getMessage());
+            return;
+        }
+        deleteConsumedSegments();
+    }
+
+    /**
+     * [from, to) 범위 레코드를 순서대로 재생한다. 이미 지워진 구간은 건너뛴다.
+     *
+     * @return 재생한 레코드 수
+     */
+    public int replay(long from, long to, Consumer<EngagementJournalRecord> handler) {
+        if (directory == null || from >= to) {
+            return 0;
+        }
+        List<Map.Entry<Long, Path>> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(segments.entrySet());
+            if (!segments.isEmpty() && from < segments.firstKey()) {
+                log.warn("Engagement journal records [{}, {}) were deleted before being consumed", from, segments.firstKey());
+            }
+        }
+        CRC32C readCrc = new CRC32C();
+        int replayed = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            long base = targets.get(i).getKey();
+            long nextBase = i + 1 < targets.size() ? targets.get(i + 1).getKey() : Long.MAX_VALUE;
+            if (nextBase <= from || base >= to) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(targets.get(i).getValue(), StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                long capacity = channel.size() / RECORD_BYTES;
+                for (long slot = Math.max(0, from - base); slot < capacity && base + slot < to; slot++) {
+                    EngagementJournalRecord record = read(buffer, Math.toIntExact(slot * RECORD_BYTES), readCrc);
+                    if (record == null) {
+                        break;
+                    }
+                    handler.accept(record);
+                    replayed++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("참여 이벤트 저널 재생 실패: " + targets.get(i).getValue(), e);
+            }
+        }
+        replayedCount += replayed;
+        return replayed;
+    }
+
+    /**
+     * 덧붙인 레코드를 디스크에 내린다 - 기본 1초마다
+     */
+    @Scheduled(fixedDelayString = "${app.engagement.journal.force-interval-ms:1000}")
+    public void force() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            if (directory == null || !unforced) {
+                return;
+            }
+            buffer = active;
+            unforced = false;
+        }
+        buffer.force();
+        lastForceAt = LocalDateTime.now();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (directory == null || activeChannel == null) {
+            return;
+        }
+        active.force();
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close engagement journal segment: {}", e.getMessage());
+        }
+    }
+
+    public synchronized EngagementJournalStatsDto getStats() {
+        return EngagementJournalStatsDto.builder()
+                .enabled(directory != null)
+                .directory(directory == null ? null : directory.toString())
+                .segmentCount(segments.size())
+                .startOffset(segments.isEmpty() ? endOffset : segments.firstKey())
+                .endOffset(endOffset)
+                .startupEndOffset(startupEndOffset)
+                .appendedCount(appendedCount)
+                .failedAppendCount(failedAppendCount)
+                .replayedCount(replayedCount)
+                .consumerOffsets(new TreeMap<>(consumerOffsets))
+                .lastForceAt(lastForceAt)
+                .build();
+    }
+
+    private void open() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                } else if (name.endsWith(CHECKPOINT_SUFFIX)) {
+                    consumerOffsets.put(name.substring(0, name.length() - CHECKPOINT_SUFFIX.length()),
+                            Long.parseLong(Files.readString(file).trim()));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, createSegment(0));
+        }
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        activeBaseOffset = last.getKey();
+        activeChannel = FileChannel.open(last.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, activeChannel.size());
+        activeCapacity = Math.toIntExact(activeChannel.size() / RECORD_BYTES);
+
+        int slot = 0;
+        CRC32C readCrc = new CRC32C();
+        while (slot < activeCapacity && read(active, slot * RECORD_BYTES, readCrc) != null) {
+            slot++;
+        }
+        endOffset = activeBaseOffset + slot;
+        // 쓰다 만 레코드나 순서가 어긋나 내려간 페이지가 나중에 유효한 레코드로 읽히지 않도록 끝 이후를 비운다
+        boolean cleared = false;
+        for (int position = slot * RECORD_BYTES; position < activeCapacity * RECORD_BYTES; position += RECORD_BYTES) {
+            if (active.get(position + 4) != 0) {
+                active.put(position, new byte[RECORD_BYTES]);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            log.warn("Engagement journal had a torn tail after offset {}, cleared", endOffset);
+            active.force();
+        }
+    }
+
+    private void rotate() throws IOException {
+        active.force();
+        activeChannel.close();
+        Path file = createSegment(endOffset);
+        segments.put(endOffset, file);
+        activeBaseOffset = endOffset;
+        activeChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, activeChannel.size());
+        activeCapacity = segmentRecords;
+        unforced = false;
+        while (segments.size() > maxSegments) {
+            Map.Entry<Long, Path> oldest = segments.pollFirstEntry();
+            log.warn("Engagement journal exceeded {} segments, deleting {} regardless of consumers", maxSegments, oldest.getValue());
+            Files.deleteIfExists(oldest.getValue());
+        }
+    }
+
+    private Path createSegment(long baseOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            // 끝에 1바이트를 써서 파일 크기를 미리 잡는다 (나머지는 0으로 채워진 빈 칸)
+            channel.write(ByteBuffer.wrap(new byte[1]), (long) segmentRecords * RECORD_BYTES - 1);
+        }
+        return file;
+    }
+
+    private synchronized void deleteConsumedSegments() {
+        long consumed = consumerOffsets.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        while (segments.size() > 1) {
+            Map.Entry<Long, Path> oldest = segments.firstEntry();
+            Long nextBase = segments.higherKey(oldest.getKey());
+            if (nextBase == null || nextBase > consumed) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(oldest.getValue());
+            } catch (IOException e) {
+                log.warn("Failed to delete consumed engagement journal segment {}: {}", oldest.getValue(), e.getMessage());
+                return;
+            }
+            segments.pollFirstEntry();
+            log.debug("Deleted consumed engagement journal segment {}", oldest.getValue());
+        }
+    }
+
+    private static EngagementJournalRecord read(ByteBuffer buffer, int position, CRC32C readCrc) {
+        EngagementJournalRecord.Type type = EngagementJournalRecord.Type.fromCode(buffer.get(position + 4));
+        if (type == null) {
+            return null;
+        }
+        readCrc.reset();
+        readCrc.update(buffer.slice(position + PAYLOAD_OFFSET, RECORD_BYTES - PAYLOAD_OFFSET));
+        if ((int) readCrc.getValue() != buffer.getInt(position)) {
+            return null;
+        }
+        return new EngagementJournalRecord(type, buffer.get(position + 5), buffer.getLong(position + 8),
+                buffer.getLong(position + 16), EngagementJournalRecord.fromMillis(buffer.getLong(position + 24)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.knusrae.cook.api.recipe.domain.journal;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 참여 이벤트 저널 레코드 (디스크에는 고정 길이 32바이트로 기록된다).
+ *
+ * @param type       레코드 유형
+ * @param delta      집계 증감 (조회·찜 활동만, 그 외 0)
+ * @param recipeId   레시피 ID (조회 기록 삭제는 0)
+ * @param memberId   회원 ID (활동 레코드는 0)
+ * @param occurredAt 조회·활동 시각 (밀리초 단위)
+ */
+public record EngagementJournalRecord(Type type, int delta, long recipeId, long memberId, LocalDateTime occurredAt) {
+
+    public enum Type {
+        /** 쓰기 버퍼에 들어간 조회 요청 */
+        VIEW_REQUESTED,
+        /** 회원의 저장 대기 조회 폐기 (조회 기록 전체 삭제) */
+        VIEW_REQUESTS_DISCARDED,
+        /** 저장된 조회의 집계 증감 */
+        VIEW,
+        /** 찜·찜 취소의 집계 증감 */
+        FAVORITE;
+
+        /** 디스크 코드 (0은 빈 칸) */
+        byte code() {
+            return (byte) (ordinal() + 1);
+        }
+
+        static Type fromCode(byte code) {
+            Type[] types = values();
+            return code >= 1 && code <= types.length ? types[code - 1] : null;
+        }
+    }
+
+    public static EngagementJournalRecord viewRequested(long memberId, long recipeId, LocalDateTime viewedAt) {
+        return new EngagementJournalRecord(Type.VIEW_REQUESTED, 0, recipeId, memberId, viewedAt);
+    }
+
+    public static EngagementJournalRecord viewRequestsDiscarded(long memberId) {
+        return new EngagementJournalRecord(Type.VIEW_REQUESTS_DISCARDED, 0, 0, memberId, LocalDateTime.now());
+    }
+
+    /**
+     * 조회·찜 활동 이벤트를 레코드로 (댓글은 저널 대상이 아니므로 null)
+     */
+    public static EngagementJournalRecord activity(RecipeActivityEvent event) {
+        Type type = switch (event.activityType()) {
+            case VIEW -> Type.VIEW;
+            case FAVORITE -> Type.FAVORITE;
+            case COMMENT -> null;
+        };
+        if (type == null || event.recipeId() == null) {
+            return null;
+        }
+        return new EngagementJournalRecord(type, event.delta(), event.recipeId(), 0, event.occurredAt());
+    }
+
+    long occurredAtMillis() {
+        return occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime fromMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
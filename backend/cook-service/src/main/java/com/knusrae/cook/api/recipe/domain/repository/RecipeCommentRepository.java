@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -55,4 +56,8 @@ public interface RecipeCommentRepository extends JpaRepository<RecipeComment, Lo
 
     // 특정 레시피의 댓글 개수 조회 (recipeId 기준)
     long countByRecipeId(Long recipeId);
+
+    // 여러 레시피의 댓글 개수(대댓글 포함)를 한 번에 조회 (recipeId 기준)
+    @Query("SELECT rc.recipe.id, count(rc.id) FROM RecipeComment rc WHERE rc.recipe.id IN :recipeIds GROUP BY rc.recipe.id")
+    List<Object[]> countByRecipeIds(Collection<Long> recipeIds);
 }
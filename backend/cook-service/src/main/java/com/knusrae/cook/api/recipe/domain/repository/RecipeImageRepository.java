@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,8 @@ public interface RecipeImageRepository extends JpaRepository<RecipeImage, Long>
     // 레시피의 메인 이미지 조회
     @Query("SELECT ri FROM RecipeImage ri WHERE ri.recipe.id = :recipeId AND ri.isMainImage = true")
     Optional<RecipeImage> findMainImageByRecipeId(Long recipeId);
+    
+    // 여러 레시피의 메인 이미지를 한 번에 조회 (N+1 문제 해결)
+    @Query("SELECT ri FROM RecipeImage ri WHERE ri.recipe.id IN :recipeIds AND ri.isMainImage = true")
+    List<RecipeImage> findMainImagesByRecipeIds(Collection<Long> recipeIds);
 }
@@ -0,0 +1,40 @@
+package com.knusrae.cook.api.recipe.domain.repository;
+
+import com.knusrae.cook.api.recipe.domain.entity.RecipeRankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RecipeRankingSnapshotRepository extends JpaRepository<RecipeRankingSnapshot, Long> {
+
+    /**
+     * 기준 시각 이전의 가장 최근 스냅샷
+     */
+    Optional<RecipeRankingSnapshot> findFirstByRecordedAtLessThanEqualOrderByRecordedAtDesc(LocalDateTime targetTime);
+
+    /**
+     * 기준 시각 이전 시간 단위 스냅샷 중 날짜별 마지막 스냅샷을 일 단위로 전환
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE recipe_ranking_snapshot SET granularity = 'DAILY'
+        WHERE id IN (
+            SELECT MAX(id) FROM recipe_ranking_snapshot
+            WHERE granularity = 'HOURLY' AND recorded_at < :cutoff
+            GROUP BY CAST(recorded_at AS DATE)
+        )
+        """, nativeQuery = true)
+    int promoteLastHourlyOfDay(LocalDateTime cutoff);
+
+    /**
+     * 기준 시각 이전 스냅샷 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM recipe_ranking_snapshot WHERE granularity = :granularity AND recorded_at < :cutoff", nativeQuery = true)
+    int deleteByGranularityBefore(String granularity, LocalDateTime cutoff);
+}
@@ -5,6 +5,8 @@ import com.knusrae.cook.api.recipe.domain.enums.Status;
 import com.knusrae.cook.api.recipe.domain.enums.Visibility;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +22,11 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, RecipeRep
             Visibility visibility,
             Pageable pageable
     );
+
+    /**
+     * 상세 캐시 버전 증가 (레시피 본문·댓글이 바뀔 때)
+     */
+    @Modifying
+    @Query(value = "UPDATE recipe SET detail_version = detail_version + 1 WHERE id = :recipeId", nativeQuery = true)
+    int increaseDetailVersion(Long recipeId);
 }
@@ -18,6 +18,16 @@ public interface RecipeRepositoryCustom {
      * @return 제목에 검색어가 포함된 공개 레시피 목록
      */
     List<Recipe> searchRecipesByTitle(String keyword);
+
+    /**
+     * 제목으로 레시피 검색 - ID 내림차순 키셋 페이지 (공개된 레시피만)
+     *
+     * @param keyword 검색어
+     * @param lastRecipeId 이전 페이지 마지막 레시피 ID (첫 페이지면 null)
+     * @param limit 최대 조회 수
+     * @return 제목에 검색어가 포함된 공개 레시피 목록
+     */
+    List<Recipe> searchRecipesByTitle(String keyword, Long lastRecipeId, int limit);
     
     /**
      * 특정 카테고리의 최근 레시피 조회
@@ -57,6 +57,21 @@ public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
                 .orderBy(recipe.createdAt.desc())
                 .fetch();
     }
+
+    @Override
+    public List<Recipe> searchRecipesByTitle(String keyword, Long lastRecipeId, int limit) {
+        return queryFactory
+                .selectFrom(recipe)
+                .where(
+                        recipe.status.eq(Status.PUBLISHED),
+                        recipe.visibility.eq(Visibility.PUBLIC),
+                        recipe.title.containsIgnoreCase(keyword),
+                        lastRecipeId != null ? recipe.id.lt(lastRecipeId) : null
+                )
+                .orderBy(recipe.id.desc())
+                .limit(limit)
+                .fetch();
+    }
     
     @Override
     public List<Recipe> findRecentRecipesByCategory(String codeGroup, String detailCodeId, LocalDateTime since, Pageable pageable) {
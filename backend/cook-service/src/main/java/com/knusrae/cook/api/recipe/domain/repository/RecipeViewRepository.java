@@ -3,7 +3,6 @@ package com.knusrae.cook.api.recipe.domain.repository;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,8 +16,19 @@ public interface RecipeViewRepository extends JpaRepository<RecipeView, Long> {
     /**
      * 특정 회원의 조회 기록 조회 (최신순)
      */
-    @Query("SELECT rv FROM RecipeView rv WHERE rv.memberId = :memberId ORDER BY rv.viewedAt DESC")
+    @Query("SELECT rv FROM RecipeView rv WHERE rv.memberId = :memberId ORDER BY rv.viewedAt DESC, rv.recipeId DESC")
     List<RecipeView> findByMemberIdOrderByViewedAtDesc(Long memberId, Pageable pageable);
+
+    /**
+     * 특정 회원의 커서 (조회 시각, 레시피 ID) 이후 조회 기록 조회 (최신순, keyset)
+     */
+    @Query("""
+        SELECT rv FROM RecipeView rv
+        WHERE rv.memberId = :memberId
+        AND (rv.viewedAt < :viewedAt OR (rv.viewedAt = :viewedAt AND rv.recipeId < :recipeId))
+        ORDER BY rv.viewedAt DESC, rv.recipeId DESC
+        """)
+    List<RecipeView> findByMemberIdBefore(Long memberId, LocalDateTime viewedAt, Long recipeId, Pageable pageable);
     
     /**
      * 특정 회원과 레시피의 조회 기록 존재 여부
@@ -37,41 +47,10 @@ public interface RecipeViewRepository extends JpaRepository<RecipeView, Long> {
     long countByRecipeIdAndViewedAtAfter(Long recipeId, LocalDateTime since);
     
     /**
-     * 오래된 조회 기록 삭제 (회원당 최대 개수 유지)
-     */
-    @Modifying
-    @Query(value = """
-        DELETE FROM recipe_view 
-        WHERE id IN (
-            SELECT id FROM (
-                SELECT id, ROW_NUMBER() OVER (PARTITION BY member_id ORDER BY viewed_at DESC) as rn
-                FROM recipe_view
-            ) tmp WHERE rn > :maxCount
-        )
-        """, nativeQuery = true)
-    void deleteOldViewsByMember(int maxCount);
-    
-    /**
-     * 특정 회원의 최근 본 카테고리 조회
+     * 특정 회원의 모든 조회 기록
      */
-    @Query("""
-        SELECT rc.detail.id, COUNT(rv) as cnt
-        FROM RecipeView rv
-        JOIN Recipe r ON rv.recipeId = r.id
-        JOIN RecipeCategory rc ON rc.recipe.id = r.id
-        WHERE rv.memberId = :memberId 
-        AND rv.viewedAt >= :since
-        AND rc.codeGroup = 'CATEGORY'
-        GROUP BY rc.detail.id
-        ORDER BY cnt DESC
-        """)
-    List<Object[]> findRecentCategoriesByMember(Long memberId, LocalDateTime since, Pageable pageable);
-    
-    /**
-     * 특정 회원의 조회 기록 개수
-     */
-    long countByMemberId(Long memberId);
-    
+    List<RecipeView> findAllByMemberId(Long memberId);
+
     /**
      * 특정 회원의 모든 조회 기록 삭제
      */
@@ -0,0 +1,206 @@
+package com.knusrae.cook.api.recipe.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.view.CategoryAffinityVector;
+import com.knusrae.cook.api.recipe.domain.view.RecipeViewBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 회원별 카테고리 선호도 벡터 관리.
+ * 조회 기록을 저장하는 트랜잭션 안에서 새로 센 조회의 카테고리 가중치를 member_category_affinity 에 더하고,
+ * 개인화 추천 등은 "회원의 상위 카테고리"를 조회 기록·레시피·카테고리 조인 없이 이 행 하나로 읽는다.
+ *
+ * 벡터가 아직 없는 회원은 최근 bootstrap-days 일 조회 기록으로 한 번 만들어 둔다.
+ * 여러 인스턴스가 같은 회원을 갱신해도 없는 행을 먼저 만든 뒤 전체 행을 회원 ID 순으로 한 번에 잠그고 더하므로
+ * 서로 덮어쓰지 않고 교착하지도 않는다.
+ */
+@Service
+@Slf4j
+public class MemberCategoryAffinityService {
+    private static final String CATEGORY_GROUP = "CATEGORY";
+    private static final String SELECT_RECIPE_CATEGORIES = """
+            SELECT recipe_id, detail_code_id
+            FROM recipe_category
+            WHERE recipe_id IN (:recipeIds) AND code_group = :codeGroup
+            """;
+    private static final String SELECT_VIEWED_CATEGORIES = """
+            SELECT rv.member_id, rc.detail_code_id, rv.viewed_at
+            FROM recipe_view rv
+            JOIN recipe_category rc ON rc.recipe_id = rv.recipe_id
+            WHERE rv.member_id IN (:memberIds)
+              AND rv.viewed_at >= :since
+              AND rc.code_group = :codeGroup
+            """;
+    private static final String SELECT_VECTOR = """
+            SELECT vector FROM member_category_affinity WHERE member_id = :memberId
+            """;
+    private static final String SELECT_EXISTING_MEMBER_IDS = """
+            SELECT member_id FROM member_category_affinity WHERE member_id IN (:memberIds)
+            """;
+    private static final String SELECT_VECTORS_FOR_UPDATE = """
+            SELECT member_id, vector
+            FROM member_category_affinity
+            WHERE member_id IN (:memberIds)
+            ORDER BY member_id
+            FOR UPDATE
+            """;
+    private static final String INSERT_VECTOR = """
+            INSERT INTO member_category_affinity (member_id, vector, updated_at)
+            VALUES (:memberId, :vector, :now)
+            ON CONFLICT (member_id) DO NOTHING
+            """;
+    private static final String UPDATE_VECTOR = """
+            UPDATE member_category_affinity
+            SET vector = :vector, updated_at = :now
+            WHERE member_id = :memberId
+            """;
+    private static final String DELETE_VECTOR = """
+            DELETE FROM member_category_affinity WHERE member_id = :memberId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Duration halfLife;
+    private final int bootstrapDays;
+
+    public MemberCategoryAffinityService(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${app.recipe-view.category-affinity.half-life-days:7}") int halfLifeDays,
+            @Value("${app.recipe-view.category-affinity.bootstrap-days:30}") int bootstrapDays
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.halfLife = Duration.ofDays(halfLifeDays);
+        this.bootstrapDays = bootstrapDays;
+    }
+
+    /**
+     * 회원의 선호도 상위 카테고리 (벡터가 없으면 최근 조회 기록으로 만들어 저장한다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CategoryAffinityVector.CategoryWeight> getTopCategories(Long memberId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<byte[]> stored = namedParameterJdbcTemplate.queryForList(SELECT_VECTOR,
+                new MapSqlParameterSource("memberId", memberId), byte[].class);
+        if (!stored.isEmpty()) {
+            return CategoryAffinityVector.fromBytes(stored.get(0)).top(limit, now, halfLife);
+        }
+        CategoryAffinityVector vector = bootstrap(List.of(memberId), now).get(memberId);
+        namedParameterJdbcTemplate.update(INSERT_VECTOR, vectorParams(memberId, vector, now));
+        return vector.top(limit, now, halfLife);
+    }
+
+    /**
+     * 새로 센 조회를 회원 벡터에 더한다. 조회 기록 저장 트랜잭션 안에서, 조회 기록을 쓰기 전에 호출한다
+     * (벡터가 없는 회원을 조회 기록으로 만들 때 이번 조회가 두 번 들어가지 않도록).
+     *
+     * @param views 처음 보거나 더 늦은 시각으로 다시 본 조회
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyViews(Collection<RecipeViewBuffer.PendingView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        Set<Long> recipeIds = new HashSet<>();
+        Set<Long> memberIds = new TreeSet<>();
+        views.forEach(view -> {
+            recipeIds.add(view.recipeId());
+            memberIds.add(view.memberId());
+        });
+        Map<Long, List<String>> recipeCategories = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_RECIPE_CATEGORIES, new MapSqlParameterSource()
+                .addValue("recipeIds", recipeIds)
+                .addValue("codeGroup", CATEGORY_GROUP), rs -> {
+            recipeCategories.computeIfAbsent(rs.getLong("recipe_id"), id -> new ArrayList<>())
+                    .add(rs.getString("detail_code_id"));
+        });
+        if (recipeCategories.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // 없는 행을 회원 ID 순으로 먼저 만들고(다른 인스턴스가 먼저 만들었으면 그 행을 쓴다),
+        // 그다음 전체 행을 한 번에 회원 ID 순으로 잠근다. 잠금 순서가 하나뿐이라 겹치는 배치끼리 교착하지 않는다
+        Set<Long> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_MEMBER_IDS,
+                new MapSqlParameterSource("memberIds", memberIds), Long.class));
+        List<Long> missing = memberIds.stream().filter(id -> !existing.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, CategoryAffinityVector> bootstrapped = bootstrap(missing, now);
+            namedParameterJdbcTemplate.batchUpdate(INSERT_VECTOR, missing.stream()
+                    .map(id -> vectorParams(id, bootstrapped.get(id), now))
+                    .toArray(SqlParameterSource[]::new));
+        }
+        Map<Long, CategoryAffinityVector> vectors = lockVectors(memberIds);
+
+        Set<Long> changed = new HashSet<>();
+        for (RecipeViewBuffer.PendingView view : views) {
+            List<String> categories = recipeCategories.get(view.recipeId());
+            CategoryAffinityVector vector = vectors.get(view.memberId());
+            if (categories == null || vector == null) {
+                continue;
+            }
+            categories.forEach(category -> vector.add(category, view.viewedAt(), 1.0, halfLife));
+            changed.add(view.memberId());
+        }
+        namedParameterJdbcTemplate.batchUpdate(UPDATE_VECTOR, changed.stream()
+                .sorted()
+                .map(id -> vectorParams(id, vectors.get(id), now))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * 회원 벡터 삭제 (조회 기록 전체 삭제 시)
+     */
+    @Transactional
+    public void deleteMember(Long memberId) {
+        namedParameterJdbcTemplate.update(DELETE_VECTOR, new MapSqlParameterSource("memberId", memberId));
+    }
+
+    private Map<Long, CategoryAffinityVector> lockVectors(Collection<Long> memberIds) {
+        Map<Long, CategoryAffinityVector> vectors = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_VECTORS_FOR_UPDATE, new MapSqlParameterSource("memberIds", memberIds), rs -> {
+            vectors.put(rs.getLong("member_id"), CategoryAffinityVector.fromBytes(rs.getBytes("vector")));
+        });
+        return vectors;
+    }
+
+    /**
+     * 최근 bootstrap-days 일 조회 기록으로 벡터를 만든다 (조회 기록이 없는 회원은 빈 벡터)
+     */
+    private Map<Long, CategoryAffinityVector> bootstrap(Collection<Long> memberIds, LocalDateTime now) {
+        Map<Long, CategoryAffinityVector> vectors = new HashMap<>();
+        memberIds.forEach(id -> vectors.put(id, new CategoryAffinityVector(now)));
+        namedParameterJdbcTemplate.query(SELECT_VIEWED_CATEGORIES, new MapSqlParameterSource()
+                .addValue("memberIds", memberIds)
+                .addValue("since", Timestamp.valueOf(now.minusDays(bootstrapDays)))
+                .addValue("codeGroup", CATEGORY_GROUP), rs -> {
+            vectors.get(rs.getLong("member_id")).add(rs.getString("detail_code_id"),
+                    rs.getTimestamp("viewed_at").toLocalDateTime(), 1.0, halfLife);
+        });
+        log.debug("Bootstrapped category affinity for {} members", memberIds.size());
+        return vectors;
+    }
+
+    private static MapSqlParameterSource vectorParams(Long memberId, CategoryAffinityVector vector, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("vector", vector.toBytes())
+                .addValue("now", Timestamp.valueOf(now));
+    }
+}
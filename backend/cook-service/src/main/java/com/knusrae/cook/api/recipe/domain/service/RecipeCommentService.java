@@ -7,6 +7,7 @@ import com.knusrae.cook.api.recipe.domain.constants.RecipeConstants;
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeComment;
 import com.knusrae.cook.api.recipe.domain.enums.Status;
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
 import com.knusrae.cook.api.recipe.domain.enums.Visibility;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeCommentRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeRepository;
@@ -14,6 +15,7 @@ import com.knusrae.cook.api.recipe.dto.MemberCommentItemDto;
 import com.knusrae.cook.api.recipe.dto.RecipeCommentDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +40,7 @@ public class RecipeCommentService {
     private final RecipeRepository recipeRepository;
     private final MemberRepository memberRepository;
     private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RecipeCommentDto createComment(Long recipeId, Long memberId, String content, Long parentId) {
@@ -79,6 +82,8 @@ public class RecipeCommentService {
                 .parentId(rootParentId)
                 .build();
         RecipeComment savedComment = recipeCommentRepository.save(comment);
+        recipeRepository.increaseDetailVersion(recipeId);
+        eventPublisher.publishEvent(RecipeActivityEvent.commented(recipeId, savedComment.getCreatedAt()));
         Member member = memberRepository.findById(memberId).orElse(null);
         String memberName = member != null ? member.getName() : "사용자";
         String memberNickname = member != null ? member.getNickname() : null;
@@ -238,6 +243,7 @@ public class RecipeCommentService {
             imageStorageKey = uploadResponse.key();
         }
         comment.updateContentAndImage(content, imageUrl, imageStorageKey);
+        recipeRepository.increaseDetailVersion(comment.getRecipe().getId());
         Member member = memberRepository.findById(memberId).orElse(null);
         String memberName = member != null ? member.getName() : "사용자";
         String memberNickname = member != null ? member.getNickname() : null;
@@ -273,6 +279,8 @@ public class RecipeCommentService {
             recipeCommentRepository.deleteAll(replies);
         }
         recipeCommentRepository.delete(comment);
+        recipeRepository.increaseDetailVersion(comment.getRecipe().getId());
+        eventPublisher.publishEvent(RecipeActivityEvent.commentRemoved(comment.getRecipe().getId(), comment.getCreatedAt()));
     }
 
     public long getCommentCount(Long recipeId) {
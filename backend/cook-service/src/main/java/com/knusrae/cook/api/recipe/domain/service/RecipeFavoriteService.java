@@ -5,6 +5,7 @@ import com.knusrae.common.domain.repository.MemberRepository;
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeFavorite;
 import com.knusrae.cook.api.recipe.domain.enums.Status;
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
 import com.knusrae.cook.api.recipe.domain.enums.Visibility;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeFavoriteRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeRepository;
@@ -12,6 +13,7 @@ import com.knusrae.cook.api.recipe.dto.RecipeFavoriteDto;
 import com.knusrae.cook.api.recipe.dto.RecipeSimpleDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class RecipeFavoriteService {
     private final RecipeFavoriteRepository recipeFavoriteRepository;
     private final RecipeRepository recipeRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RecipeFavoriteDto addFavorite(Long memberId, Long recipeId) {
@@ -42,6 +45,7 @@ public class RecipeFavoriteService {
                 .recipeId(recipeId)
                 .build();
         RecipeFavorite savedFavorite = recipeFavoriteRepository.save(favorite);
+        eventPublisher.publishEvent(RecipeActivityEvent.favorited(recipeId, savedFavorite.getCreatedAt()));
         log.info("Favorite added successfully - id: {}", savedFavorite.getId());
         return RecipeFavoriteDto.from(savedFavorite);
     }
@@ -52,6 +56,7 @@ public class RecipeFavoriteService {
         RecipeFavorite favorite = recipeFavoriteRepository.findByMemberIdAndRecipeId(memberId, recipeId)
                 .orElseThrow(() -> new IllegalArgumentException("찜한 레시피가 아닙니다."));
         recipeFavoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(RecipeActivityEvent.unfavorited(recipeId, favorite.getCreatedAt()));
         log.info("Favorite removed successfully - id: {}", favorite.getId());
     }
 
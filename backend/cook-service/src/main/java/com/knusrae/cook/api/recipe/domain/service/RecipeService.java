@@ -13,6 +13,7 @@ import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeCategory;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeDetail;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeImage;
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
 import com.knusrae.cook.api.recipe.domain.enums.Status;
 import com.knusrae.cook.api.recipe.domain.enums.Visibility;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeStepRepository;
@@ -24,8 +25,10 @@ import com.knusrae.cook.api.recipe.domain.repository.RecipeCommentRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeFavoriteRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeViewRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipePopularityRepository;
-import com.knusrae.cook.api.recipe.domain.repository.RecipePopularityHistoryRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeBookmarkRepository;
+import com.knusrae.cook.api.recipe.domain.view.RecipeHitCounter;
+import com.knusrae.cook.api.recipe.domain.view.RecipeDetailCache;
+import com.knusrae.cook.api.recipe.domain.view.RecipeUniqueViewerCounter;
 import com.knusrae.cook.api.theme.domain.repository.ThemeCollectionRecipeRepository;
 import com.knusrae.common.domain.repository.MemberRepository;
 import com.knusrae.common.domain.repository.FollowRepository;
@@ -36,10 +39,12 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -66,9 +71,12 @@ public class RecipeService {
     private final RecipeFavoriteRepository recipeFavoriteRepository;
     private final RecipeViewRepository recipeViewRepository;
     private final RecipePopularityRepository recipePopularityRepository;
-    private final RecipePopularityHistoryRepository recipePopularityHistoryRepository;
     private final RecipeBookmarkRepository recipeBookmarkRepository;
     private final ThemeCollectionRecipeRepository themeCollectionRecipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeHitCounter recipeHitCounter;
+    private final RecipeUniqueViewerCounter recipeUniqueViewerCounter;
+    private final RecipeDetailCache recipeDetailCache;
 
     @Transactional
     public RecipeDto createRecipe(RecipeDto recipeDto, List<MultipartFile> images, Integer mainImageIndex) {
@@ -148,6 +156,7 @@ public class RecipeService {
             throw e;
         }
 
+        eventPublisher.publishEvent(RecipeChangedEvent.created(savedRecipe.getId()));
         return new RecipeDto(savedRecipe);
     }
 
@@ -314,12 +323,20 @@ public class RecipeService {
             }
             Long commentCount = commentCountMap.getOrDefault(recipeId, 0L);
             dto.setCommentCount(commentCount);
+            dto.setHits(recipeHitCounter.currentHits(recipeId, recipe.getHits()));
         }
         return recipeDtoList;
     }
 
-    @Transactional
-    public RecipeDetailDto retrieveRecipeDetail(Long id, Long requesterId) {
+    /**
+     * 레시피 상세 조회 (읽기 전용). 조회수는 {@link RecipeHitCounter} 에 더하고 모아서 반영하며,
+     * 방문자는 {@link RecipeUniqueViewerCounter} 스케치에 넣어 순 방문자 수로 집계한다.
+     * 본문은 레시피 행의 상세 버전이 같으면 {@link RecipeDetailCache} 에서 꺼내고,
+     * 조회수·찜 수·조회자의 찜 여부만 요청마다 채운다.
+     *
+     * @param viewerKey 방문자 키 ({@link RecipeUniqueViewerCounter#viewerKey})
+     */
+    public RecipeDetailDto retrieveRecipeDetail(Long id, Long requesterId, String viewerKey) {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("레시피를 찾을 수 없습니다. ID: " + id));
 
@@ -329,26 +346,39 @@ public class RecipeService {
             }
         }
 
-        recipe.increaseHits();
+        recipeHitCounter.increment(id);
+        recipeUniqueViewerCounter.offer(id, viewerKey, LocalDateTime.now());
+        RecipeDetailDto detail = recipeDetailCache.get(id, recipe.getDetailVersion());
+        if (detail == null) {
+            detail = buildRecipeDetail(recipe);
+            recipeDetailCache.put(id, recipe.getDetailVersion(), detail);
+        }
+        long favoriteCount = recipeFavoriteRepository.countByRecipeId(id);
+        boolean liked = requesterId != null && recipeFavoriteRepository.existsByMemberIdAndRecipeId(requesterId, id);
+        RecipeStatsDto stats = detail.getStats();
+        return detail.toBuilder()
+                .hits(recipeHitCounter.currentHits(id, recipe.getHits()))
+                .stats(RecipeStatsDto.builder()
+                        .totalComments(stats.getTotalComments())
+                        .totalReviews(0)
+                        .averageRating(stats.getAverageRating())
+                        .totalLikes(stats.getTotalLikes())
+                        .isLiked(liked)
+                        .favoriteCount(favoriteCount)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 상세 본문 (작성자, 연관 컬렉션 전체). 조회수·찜 관련 값은 채우지 않는다.
+     */
+    private RecipeDetailDto buildRecipeDetail(Recipe recipe) {
         Member member = memberRepository.findById(recipe.getMemberId())
                 .orElse(null);
         String memberName = member != null ? member.getName() : "작성자";
-        String memberNickname = member != null ? member.getNickname() : null;
-        String memberProfileImage = member != null ? member.getProfileImage() : null;
         RecipeDetailDto dto = RecipeDetailDto.fromEntity(recipe, memberName);
-        dto.setMemberNickname(memberNickname);
-        dto.setMemberProfileImage(memberProfileImage);
-        long favoriteCount = recipeFavoriteRepository.countByRecipeId(id);
-        RecipeStatsDto stats = dto.getStats();
-        RecipeStatsDto updatedStats = RecipeStatsDto.builder()
-                .totalComments(stats.getTotalComments())
-                .totalReviews(0)
-                .averageRating(stats.getAverageRating())
-                .totalLikes(stats.getTotalLikes())
-                .isLiked(stats.isLiked())
-                .favoriteCount(favoriteCount)
-                .build();
-        dto.setStats(updatedStats);
+        dto.setMemberNickname(member != null ? member.getNickname() : null);
+        dto.setMemberProfileImage(member != null ? member.getProfileImage() : null);
         return dto;
     }
 
@@ -465,6 +495,8 @@ public class RecipeService {
             });
             throw e;
         }
+        recipeRepository.increaseDetailVersion(recipe.getId());
+        eventPublisher.publishEvent(RecipeChangedEvent.updated(recipe.getId()));
         return new RecipeDto(recipe);
     }
 
@@ -478,7 +510,6 @@ public class RecipeService {
         recipeViewRepository.deleteByRecipeId(id);
         recipeFavoriteRepository.deleteByRecipeId(id);
         recipeBookmarkRepository.deleteByRecipeId(id);
-        recipePopularityHistoryRepository.deleteByRecipeId(id);
         recipePopularityRepository.deleteById(id);
         themeCollectionRecipeRepository.deleteByRecipeId(id);
         List<RecipeImage> images = recipeImageRepository.findAllByRecipe(recipe);
@@ -486,6 +517,7 @@ public class RecipeService {
             imageStorage.deleteByKey(image.getStorageKey());
         }
         recipeRepository.delete(recipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.deleted(id));
     }
     
     /**
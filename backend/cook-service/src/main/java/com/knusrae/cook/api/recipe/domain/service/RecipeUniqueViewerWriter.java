@@ -0,0 +1,90 @@
+package com.knusrae.cook.api.recipe.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.view.HyperLogLog;
+import com.knusrae.cook.api.recipe.domain.view.RecipeUniqueViewerCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 순 방문자 스케치 저장 전용 서비스.
+ * 버킷 행을 먼저 만들어 두고(없을 때만) 레시피·시간 순으로 잠근 뒤, 저장된 스케치와 합쳐 다시 쓴다.
+ * 다른 인스턴스가 같은 버킷을 동시에 저장해도 잠금 순서가 같아 교착 없이 차례로 합쳐진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeUniqueViewerWriter {
+    private static final String INSERT_EMPTY_BUCKET = """
+            INSERT INTO recipe_unique_viewer_hourly (recipe_id, bucket_hour, sketch)
+            VALUES (:recipeId, :bucketHour, :sketch)
+            ON CONFLICT (recipe_id, bucket_hour) DO NOTHING
+            """;
+    private static final String SELECT_BUCKETS_FOR_UPDATE = """
+            SELECT recipe_id, bucket_hour, sketch
+            FROM recipe_unique_viewer_hourly
+            WHERE (recipe_id, bucket_hour) IN (:keys)
+            ORDER BY recipe_id, bucket_hour
+            FOR UPDATE
+            """;
+    private static final String UPDATE_SKETCH = """
+            UPDATE recipe_unique_viewer_hourly
+            SET sketch = :sketch
+            WHERE recipe_id = :recipeId AND bucket_hour = :bucketHour
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 시간 버킷 스케치를 저장된 스케치와 합쳐 저장
+     *
+     * @param sketches (레시피, 시간) 버킷별 스케치 (호출 후 저장된 값과 합쳐진 상태가 된다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void mergeSketches(Map<RecipeUniqueViewerCounter.BucketKey, HyperLogLog> sketches) {
+        List<RecipeUniqueViewerCounter.BucketKey> keys = sketches.keySet().stream()
+                .sorted(Comparator.comparingLong(RecipeUniqueViewerCounter.BucketKey::recipeId)
+                        .thenComparing(RecipeUniqueViewerCounter.BucketKey::bucketHour))
+                .toList();
+        byte[] empty = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION).toBytes();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_EMPTY_BUCKET, keys.stream()
+                .map(key -> bucketParams(key).addValue("sketch", empty))
+                .toArray(SqlParameterSource[]::new));
+
+        Map<RecipeUniqueViewerCounter.BucketKey, byte[]> stored = new HashMap<>();
+        List<Object[]> tuples = keys.stream()
+                .map(key -> new Object[]{key.recipeId(), Timestamp.valueOf(key.bucketHour())})
+                .toList();
+        namedParameterJdbcTemplate.query(SELECT_BUCKETS_FOR_UPDATE, new MapSqlParameterSource("keys", tuples), rs -> {
+            stored.put(new RecipeUniqueViewerCounter.BucketKey(rs.getLong("recipe_id"),
+                    rs.getTimestamp("bucket_hour").toLocalDateTime()), rs.getBytes("sketch"));
+        });
+
+        SqlParameterSource[] updates = keys.stream()
+                .map(key -> {
+                    HyperLogLog sketch = sketches.get(key);
+                    byte[] existing = stored.get(key);
+                    if (existing != null) {
+                        sketch.merge(HyperLogLog.fromBytes(existing));
+                    }
+                    return bucketParams(key).addValue("sketch", sketch.toBytes());
+                })
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPDATE_SKETCH, updates);
+    }
+
+    private static MapSqlParameterSource bucketParams(RecipeUniqueViewerCounter.BucketKey key) {
+        return new MapSqlParameterSource()
+                .addValue("recipeId", key.recipeId())
+                .addValue("bucketHour", Timestamp.valueOf(key.bucketHour()));
+    }
+}
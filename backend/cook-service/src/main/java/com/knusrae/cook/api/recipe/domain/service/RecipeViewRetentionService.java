@@ -0,0 +1,134 @@
+package com.knusrae.cook.api.recipe.domain.service;
+
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJob;
+import com.knusrae.cook.api.scheduler.domain.job.ChunkJobRunner;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 조회 기록 보관 기간 정리.
+ * 마지막 조회가 retention-days 보다 오래된 recipe_view 행을 ID 순 청크로 나눠 삭제한다.
+ * 인기도·실시간 집계는 최근 30일만 보므로 보관 기간은 최근 본 레시피 목록을 얼마나 남길지로 정한다.
+ *
+ * 회원당 최근 본 레시피는 max-per-member 개까지만 남긴다. 전체 테이블을 회원별로 세지 않고,
+ * trim-interval-ms 마다 그 사이 조회 기록이 늘어난 회원만 정리한다 (이 인스턴스가 저장한 조회 기준).
+ *
+ * recipe_view 는 (회원, 레시피)당 한 행을 조회 시각으로 갱신하는 테이블이라 시간 범위 파티션으로 나눌 수 없다
+ * (유일 키에 파티션 키가 들어가야 하고, 다시 보면 행이 다른 파티션으로 옮겨 간다).
+ */
+@Service
+@Slf4j
+public class RecipeViewRetentionService {
+    private static final String RETENTION_JOB = "recipe-view-retention";
+    private static final String SELECT_EXPIRED_VIEW_IDS = """
+            SELECT id
+            FROM recipe_view
+            WHERE id > :lastId AND viewed_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+            """;
+    /** 읽은 뒤 다시 조회되어 viewed_at 이 갱신된 행은 지우지 않는다 */
+    private static final String DELETE_EXPIRED_VIEWS = """
+            DELETE FROM recipe_view
+            WHERE id IN (:ids) AND viewed_at < :cutoff
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RecipeViewWriter recipeViewWriter;
+    private final ChunkJobRunner chunkJobRunner;
+    private final SchedulerLock schedulerLock;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxPerMember;
+    private final int trimBatchSize;
+
+    public RecipeViewRetentionService(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            RecipeViewWriter recipeViewWriter,
+            ChunkJobRunner chunkJobRunner,
+            SchedulerLock schedulerLock,
+            @Value("${app.recipe-view.retention.days:365}") int retentionDays,
+            @Value("${app.recipe-view.retention.chunk-size:5000}") int chunkSize,
+            @Value("${app.recipe-view.retention.parallelism:2}") int parallelism,
+            @Value("${app.recipe-view.retention.max-per-member:1000}") int maxPerMember,
+            @Value("${app.recipe-view.retention.trim-batch-size:200}") int trimBatchSize
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.recipeViewWriter = recipeViewWriter;
+        this.chunkJobRunner = chunkJobRunner;
+        this.schedulerLock = schedulerLock;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxPerMember = maxPerMember;
+        this.trimBatchSize = trimBatchSize;
+    }
+
+    /**
+     * 조회 기록이 늘어난 회원의 최근 본 레시피를 max-per-member 개로 정리 - 기본 1분마다
+     */
+    @Scheduled(fixedDelayString = "${app.recipe-view.retention.trim-interval-ms:60000}",
+            initialDelayString = "${app.recipe-view.retention.trim-interval-ms:60000}")
+    public void trimGrownMembers() {
+        List<Long> members = recipeViewWriter.drainGrownMembers();
+        int trimmed = 0;
+        for (int from = 0; from < members.size(); from += trimBatchSize) {
+            List<Long> batch = members.subList(from, Math.min(members.size(), from + trimBatchSize));
+            try {
+                trimmed += recipeViewWriter.trimMemberViews(batch, maxPerMember);
+            } catch (Exception e) {
+                recipeViewWriter.markGrown(batch);
+                log.error("Failed to trim recent views of {} members: {}", batch.size(), e.getMessage());
+            }
+        }
+        if (trimmed > 0) {
+            log.info("Trimmed {} recent views beyond {} per member ({} members checked)", trimmed, maxPerMember, members.size());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 조회 기록 삭제 - 매일 새벽 (클러스터에서 한 인스턴스만)
+     */
+    @Scheduled(cron = "${app.recipe-view.retention.cron:0 10 4 * * *}")
+    public void purgeExpiredViews() {
+        try {
+            schedulerLock.runExclusively(RETENTION_JOB, this::deleteExpiredViews);
+        } catch (Exception e) {
+            log.error("Error during recipe view retention", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 조회 기록을 청크 단위로 삭제
+     */
+    public void deleteExpiredViews() {
+        // 하루 중 언제 이어서 실행해도 같은 기준이 되도록 날짜 단위로 자른다
+        Timestamp cutoff = Timestamp.valueOf(LocalDate.now().minusDays(retentionDays).atStartOfDay());
+        chunkJobRunner.run(ChunkJob.<Long>passThrough()
+                .name(RETENTION_JOB)
+                .chunkSize(chunkSize)
+                .parallelism(parallelism)
+                .reader((lastId, limit) -> namedParameterJdbcTemplate.queryForList(SELECT_EXPIRED_VIEW_IDS,
+                        new MapSqlParameterSource()
+                                .addValue("lastId", lastId)
+                                .addValue("cutoff", cutoff)
+                                .addValue("limit", limit),
+                        Long.class))
+                .keyExtractor(Long::longValue)
+                .writer(ids -> namedParameterJdbcTemplate.update(DELETE_EXPIRED_VIEWS,
+                        new MapSqlParameterSource()
+                                .addValue("ids", ids)
+                                .addValue("cutoff", cutoff)))
+                .build());
+    }
+}
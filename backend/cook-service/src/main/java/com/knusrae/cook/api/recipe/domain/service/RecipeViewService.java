@@ -2,18 +2,25 @@ package com.knusrae.cook.api.recipe.domain.service;
 
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeView;
+import com.knusrae.cook.api.recipe.domain.event.RecentViewsClearedEvent;
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeViewRepository;
+import com.knusrae.cook.api.recipe.domain.view.CategoryAffinityVector;
+import com.knusrae.cook.api.recipe.domain.view.RecentViewCursor;
+import com.knusrae.cook.api.recipe.domain.view.RecentViewRingCache;
+import com.knusrae.cook.api.recipe.domain.view.RecipeViewBuffer;
 import com.knusrae.cook.api.recipe.dto.RecipeSimpleDto;
 import com.knusrae.cook.api.recipe.dto.RecipeViewDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,73 +33,118 @@ import java.util.stream.Collectors;
 public class RecipeViewService {
     private final RecipeViewRepository recipeViewRepository;
     private final RecipeRepository recipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeViewBuffer recipeViewBuffer;
+    private final RecentViewRingCache recentViewRingCache;
+    private final MemberCategoryAffinityService memberCategoryAffinityService;
+    private static final int MAX_RECENT_VIEWS_PAGE_SIZE = 50;
 
-    @Transactional
+    /**
+     * 조회 기록. 쓰기 버퍼에 넣기만 하고 바로 반환하며, 저장·조회수 증가·집계 이벤트는 버퍼가 주기적으로 일괄 처리한다.
+     * 레시피 존재 여부도 저장 시점에 확인하므로 없는 레시피의 조회는 저장되지 않고 버려진다.
+     */
     public Map<String, Object> createOrUpdateRecipeView(Long memberId, Long recipeId) {
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다. ID: " + recipeId));
-        RecipeView recipeView = recipeViewRepository.findByMemberIdAndRecipeId(memberId, recipeId)
-                .orElse(null);
-        boolean isNew = false;
-        if (recipeView == null) {
-            recipeView = RecipeView.builder()
-                    .memberId(memberId)
-                    .recipeId(recipeId)
-                    .viewedAt(LocalDateTime.now())
-                    .build();
-            isNew = true;
-        } else {
-            recipeView.updateViewedAt();
-        }
-        RecipeView savedView = recipeViewRepository.save(recipeView);
-        if (isNew) {
-            recipe.increaseHits();
-            recipeRepository.save(recipe);
-        }
-        log.info("Recipe view {} for member: {}, recipe: {}", isNew ? "created" : "updated", memberId, recipeId);
+        LocalDateTime viewedAt = LocalDateTime.now();
+        boolean buffered = recipeViewBuffer.record(memberId, recipeId, viewedAt);
+        recentViewRingCache.record(memberId, recipeId, viewedAt);
+        log.debug("Recipe view recorded for member: {}, recipe: {} (buffered: {})", memberId, recipeId, buffered);
         Map<String, Object> result = new HashMap<>();
-        result.put("view", RecipeViewDto.from(savedView));
-        result.put("isNew", isNew);
+        result.put("view", RecipeViewDto.builder()
+                .memberId(memberId)
+                .recipeId(recipeId)
+                .viewedAt(viewedAt)
+                .build());
+        result.put("accepted", true);
         return result;
     }
 
-    public Map<String, Object> getRecentViews(Long memberId, int limit, int offset) {
-        Pageable pageable = PageRequest.of(offset / limit, limit);
-        List<RecipeView> views = recipeViewRepository.findByMemberIdOrderByViewedAtDesc(memberId, pageable);
-        List<Long> recipeIds = views.stream()
-                .map(RecipeView::getRecipeId)
-                .collect(Collectors.toList());
-        List<Recipe> recipes = recipeRepository.findAllById(recipeIds);
-        Map<Long, Recipe> recipeMap = recipes.stream()
+    /**
+     * 최근 본 레시피 목록 (최신순, 커서 기반).
+     * 회원별 최근 조회 링 캐시에서 페이지를 자르고, 캐시에 없는 회원은 DB 에서 링 크기만큼 읽어 채운다.
+     * 링에 담긴 범위를 넘어가는 페이지만 (조회 시각, 레시피 ID) keyset 으로 DB 에서 이어 읽는다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public Map<String, Object> getRecentViews(Long memberId, int limit, String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_RECENT_VIEWS_PAGE_SIZE));
+        RecentViewCursor after = cursor == null || cursor.isBlank() ? null : RecentViewCursor.decode(cursor);
+
+        RecentViewRingCache.RecentViews ring = recentViewRingCache.get(memberId);
+        if (ring == null) {
+            int ringSize = recentViewRingCache.ringSize();
+            List<RecentViewRingCache.RecentView> loaded = recipeViewRepository
+                    .findByMemberIdOrderByViewedAtDesc(memberId, PageRequest.of(0, ringSize + 1)).stream()
+                    .map(view -> new RecentViewRingCache.RecentView(view.getRecipeId(), view.getViewedAt()))
+                    .toList();
+            ring = recentViewRingCache.load(memberId, loaded, loaded.size() <= ringSize);
+        }
+
+        List<RecentViewRingCache.RecentView> page = new ArrayList<>(pageSize + 1);
+        for (RecentViewRingCache.RecentView view : ring.views()) {
+            if (page.size() > pageSize) {
+                break;
+            }
+            if (after == null || after.precedes(view.viewedAt(), view.recipeId())) {
+                page.add(view);
+            }
+        }
+        if (page.size() <= pageSize && !ring.complete()) {
+            // 링 뒤쪽은 DB 에서 이어 읽는다 (다음 페이지 존재 여부를 알기 위해 한 건 더)
+            RecentViewCursor from = page.isEmpty() ? after : lastCursor(page);
+            List<RecipeView> older = from == null
+                    ? recipeViewRepository.findByMemberIdOrderByViewedAtDesc(memberId,
+                            PageRequest.of(0, pageSize + 1 - page.size()))
+                    : recipeViewRepository.findByMemberIdBefore(memberId, from.viewedAt(), from.recipeId(),
+                            PageRequest.of(0, pageSize + 1 - page.size()));
+            older.forEach(view -> page.add(new RecentViewRingCache.RecentView(view.getRecipeId(), view.getViewedAt())));
+        }
+        boolean hasNext = page.size() > pageSize;
+        List<RecentViewRingCache.RecentView> views = hasNext ? page.subList(0, pageSize) : page;
+
+        Map<Long, Recipe> recipeMap = recipeRepository.findAllById(views.stream()
+                        .map(RecentViewRingCache.RecentView::recipeId)
+                        .toList()).stream()
                 .collect(Collectors.toMap(Recipe::getId, r -> r));
+        // 아직 저장되지 않은 조회는 없는 레시피일 수 있어 (저장 시 버려진다) 목록에서 뺀다
         List<RecipeViewDto> viewDtos = views.stream()
-                .map(view -> {
-                    Recipe recipe = recipeMap.get(view.getRecipeId());
-                    if (recipe != null) {
-                        RecipeSimpleDto recipeDto = RecipeSimpleDto.from(recipe);
-                        return RecipeViewDto.from(view, recipeDto);
-                    } else {
-                        return RecipeViewDto.from(view);
-                    }
-                })
+                .filter(view -> recipeMap.containsKey(view.recipeId()))
+                .map(view -> RecipeViewDto.builder()
+                        .memberId(memberId)
+                        .recipeId(view.recipeId())
+                        .viewedAt(view.viewedAt())
+                        .recipe(RecipeSimpleDto.from(recipeMap.get(view.recipeId())))
+                        .build())
                 .collect(Collectors.toList());
-        long totalCount = recipeViewRepository.countByMemberId(memberId);
         Map<String, Object> result = new HashMap<>();
         result.put("views", viewDtos);
-        result.put("totalCount", totalCount);
-        log.info("Retrieved {} recent views for member: {} (total: {})", viewDtos.size(), memberId, totalCount);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? lastCursor(views).encode() : null);
+        log.info("Retrieved {} recent views for member: {} (hasNext: {})", viewDtos.size(), memberId, hasNext);
         return result;
     }
 
+    private static RecentViewCursor lastCursor(List<RecentViewRingCache.RecentView> views) {
+        RecentViewRingCache.RecentView last = views.get(views.size() - 1);
+        return new RecentViewCursor(last.viewedAt(), last.recipeId());
+    }
+
     @Transactional
     public void deleteAllViewsByMember(Long memberId) {
+        recipeViewBuffer.discardMember(memberId);
+        List<RecipeView> views = recipeViewRepository.findAllByMemberId(memberId);
         recipeViewRepository.deleteByMemberId(memberId);
+        memberCategoryAffinityService.deleteMember(memberId);
+        recentViewRingCache.evictMember(memberId);
+        views.forEach(view -> eventPublisher.publishEvent(RecipeActivityEvent.viewRemoved(view.getRecipeId(), view.getViewedAt())));
+        // 커밋 전에 다른 요청이 캐시를 다시 채웠을 수 있어 커밋 후 한 번 더 비운다
+        eventPublisher.publishEvent(new RecentViewsClearedEvent(memberId));
         log.info("Deleted all views for member: {}", memberId);
     }
 
-    public List<Object[]> getRecentCategories(Long memberId, int daysAgo, int limit) {
-        LocalDateTime since = LocalDateTime.now().minusDays(daysAgo);
-        Pageable pageable = PageRequest.of(0, limit);
-        return recipeViewRepository.findRecentCategoriesByMember(memberId, since, pageable);
+    /**
+     * 회원이 최근 많이 본 카테고리 (시간 감쇠 선호도 벡터 상위, 회원당 한 행 조회)
+     */
+    public List<CategoryAffinityVector.CategoryWeight> getRecentCategories(Long memberId, int limit) {
+        return memberCategoryAffinityService.getTopCategories(memberId, limit);
     }
 }
@@ -0,0 +1,201 @@
+package com.knusrae.cook.api.recipe.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeActivityEvent;
+import com.knusrae.cook.api.recipe.domain.view.RecipeViewBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 기록 일괄 저장 전용 서비스.
+ * 버퍼에 모인 (회원, 레시피) 조회를 한 트랜잭션에서 기존 조회 시각 조회 1번, 조회 기록 배치 upsert 1번,
+ * 레시피별로 합친 조회수 증가 배치 1번으로 저장하고, 커밋 후 집계용 조회 이벤트를 발행한다.
+ * 새로 센 조회는 같은 트랜잭션에서 회원 카테고리 선호도 벡터에도 더한다 ({@link MemberCategoryAffinityService}).
+ *
+ * 새 (회원, 레시피) 쌍이 생겨 조회 기록 수가 늘어난 회원을 모아 두었다가, 그 회원들만 최대 보관 개수를 넘는 오래된 기록을 지운다
+ * ({@link #trimMemberViews(Collection, int)}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeViewWriter {
+    private static final String SELECT_EXISTING_RECIPE_IDS = """
+            SELECT id FROM recipe WHERE id IN (:recipeIds)
+            """;
+    private static final String SELECT_PREVIOUS_VIEWS = """
+            SELECT member_id, recipe_id, viewed_at
+            FROM recipe_view
+            WHERE (member_id, recipe_id) IN (:pairs)
+            """;
+    private static final String UPSERT_VIEW = """
+            INSERT INTO recipe_view (member_id, recipe_id, viewed_at, created_at, updated_at)
+            VALUES (:memberId, :recipeId, :viewedAt, :now, :now)
+            ON CONFLICT (member_id, recipe_id)
+            DO UPDATE SET viewed_at = GREATEST(recipe_view.viewed_at, EXCLUDED.viewed_at),
+                          updated_at = EXCLUDED.updated_at
+            """;
+    private static final String SELECT_VIEWS_BEYOND_LIMIT = """
+            SELECT id, recipe_id, viewed_at
+            FROM recipe_view
+            WHERE member_id = :memberId
+            ORDER BY viewed_at DESC, id DESC
+            OFFSET :maxPerMember
+            """;
+    /** 고른 뒤 다시 조회되어 viewed_at 이 바뀐 행은 지우지 않는다 */
+    private static final String DELETE_VIEW = """
+            DELETE FROM recipe_view
+            WHERE id = :id AND viewed_at = :viewedAt
+            """;
+    private static final String INCREASE_HITS = """
+            UPDATE recipe SET hits = hits + :delta WHERE id = :recipeId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberCategoryAffinityService memberCategoryAffinityService;
+    /** 마지막 정리 이후 조회 기록이 늘어난 회원 */
+    private final Set<Long> grownMembers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 조회 기록 일괄 저장.
+     * 처음 보는 (회원, 레시피)만 레시피 조회수를 올리고, 다시 본 경우 이전 조회 시각의 집계를 빼고 새 시각으로 더한다.
+     * 그 사이 삭제된 레시피의 조회는 버린다.
+     *
+     * @param views 회원·레시피별로 합쳐진 조회 (같은 쌍은 한 번만)
+     * @return 저장한 조회 기록 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int writeViews(List<RecipeViewBuffer.PendingView> views) {
+        Set<Long> recipeIds = new HashSet<>();
+        views.forEach(view -> recipeIds.add(view.recipeId()));
+        Set<Long> existingRecipeIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_EXISTING_RECIPE_IDS, new MapSqlParameterSource("recipeIds", recipeIds), Long.class));
+        List<RecipeViewBuffer.PendingView> valid = views.stream()
+                .filter(view -> existingRecipeIds.contains(view.recipeId()))
+                .toList();
+        if (valid.size() < views.size()) {
+            log.debug("Dropped {} views of deleted recipes", views.size() - valid.size());
+        }
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        Map<RecipeViewBuffer.ViewKey, LocalDateTime> previousViewedAt = new HashMap<>();
+        List<Object[]> pairs = valid.stream()
+                .map(view -> new Object[]{view.memberId(), view.recipeId()})
+                .toList();
+        namedParameterJdbcTemplate.query(SELECT_PREVIOUS_VIEWS, new MapSqlParameterSource("pairs", pairs), rs -> {
+            previousViewedAt.put(new RecipeViewBuffer.ViewKey(rs.getLong("member_id"), rs.getLong("recipe_id")),
+                    rs.getTimestamp("viewed_at").toLocalDateTime());
+        });
+
+        Map<Long, Integer> hitDeltas = new HashMap<>();
+        List<RecipeActivityEvent> events = new ArrayList<>();
+        List<RecipeViewBuffer.PendingView> counted = new ArrayList<>();
+        for (RecipeViewBuffer.PendingView view : valid) {
+            LocalDateTime previous = previousViewedAt.get(new RecipeViewBuffer.ViewKey(view.memberId(), view.recipeId()));
+            if (previous == null) {
+                grownMembers.add(view.memberId());
+                hitDeltas.merge(view.recipeId(), 1, Integer::sum);
+                events.add(RecipeActivityEvent.viewed(view.recipeId(), view.viewedAt()));
+                counted.add(view);
+            } else if (view.viewedAt().isAfter(previous)) {
+                // 회원당 조회 기록은 하나이므로 다시 보면 이전 조회 시각의 집계에서 빠진다
+                events.add(RecipeActivityEvent.viewRemoved(view.recipeId(), previous));
+                events.add(RecipeActivityEvent.viewed(view.recipeId(), view.viewedAt()));
+                counted.add(view);
+            }
+        }
+        // 선호도 벡터가 없는 회원은 저장된 조회 기록으로 만들므로 이번 조회를 쓰기 전에 반영한다
+        memberCategoryAffinityService.applyViews(counted);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] upserts = valid.stream()
+                .map(view -> new MapSqlParameterSource()
+                        .addValue("memberId", view.memberId())
+                        .addValue("recipeId", view.recipeId())
+                        .addValue("viewedAt", Timestamp.valueOf(view.viewedAt()))
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_VIEW, upserts);
+
+        if (!hitDeltas.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(INCREASE_HITS, hitDeltas.entrySet().stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("recipeId", entry.getKey())
+                            .addValue("delta", entry.getValue()))
+                    .toArray(SqlParameterSource[]::new));
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return valid.size();
+    }
+
+    /**
+     * 조회 기록이 늘어난 회원을 꺼낸다 (꺼낸 회원은 목록에서 빠진다)
+     */
+    public List<Long> drainGrownMembers() {
+        List<Long> members = new ArrayList<>(grownMembers);
+        grownMembers.removeAll(members);
+        return members;
+    }
+
+    /**
+     * 정리에 실패한 회원을 다음 정리 대상으로 되돌린다
+     */
+    public void markGrown(Collection<Long> memberIds) {
+        grownMembers.addAll(memberIds);
+    }
+
+    /**
+     * 회원별 최근 조회 기록을 maxPerMember 개만 남기고 지운다.
+     * 회원마다 (member_id, viewed_at) 인덱스로 남길 개수 뒤의 행만 읽으므로 전체 테이블을 훑지 않는다.
+     * 지운 조회는 커밋 후 집계에서 빠지도록 조회 취소 이벤트를 발행한다.
+     *
+     * @return 지운 조회 기록 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int trimMemberViews(Collection<Long> memberIds, int maxPerMember) {
+        List<RecipeActivityEvent> events = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            List<SqlParameterSource> deletes = new ArrayList<>();
+            List<RecipeActivityEvent> removed = new ArrayList<>();
+            namedParameterJdbcTemplate.query(SELECT_VIEWS_BEYOND_LIMIT, new MapSqlParameterSource()
+                    .addValue("memberId", memberId)
+                    .addValue("maxPerMember", maxPerMember), rs -> {
+                Timestamp viewedAt = rs.getTimestamp("viewed_at");
+                deletes.add(new MapSqlParameterSource()
+                        .addValue("id", rs.getLong("id"))
+                        .addValue("viewedAt", viewedAt));
+                removed.add(RecipeActivityEvent.viewRemoved(rs.getLong("recipe_id"), viewedAt.toLocalDateTime()));
+            });
+            if (deletes.isEmpty()) {
+                continue;
+            }
+            int[] results = namedParameterJdbcTemplate.batchUpdate(DELETE_VIEW, deletes.toArray(SqlParameterSource[]::new));
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] > 0) {
+                    events.add(removed.get(i));
+                }
+            }
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return events.size();
+    }
+}
@@ -0,0 +1,142 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 카테고리 선호도 벡터 (카테고리 상세 코드 -> 가중치).
+ * 조회 한 번마다 조회한 레시피의 카테고리에 1을 더하고, 모든 가중치는 반감기(halfLife)마다 절반으로 줄어든다.
+ * 가중치는 기준 시각(asOf) 값으로 들고 있다가 더하거나 읽을 때 그 시각까지 한 번에 감쇠시킨다.
+ * 상위 MAX_CATEGORIES 개만 남기고 MIN_WEIGHT 아래로 줄어든 카테고리는 버려 직렬화 크기를 작게 유지한다.
+ * 동기화하지 않으므로 호출 측에서 한 스레드(또는 행 잠금) 안에서만 사용한다.
+ */
+public class CategoryAffinityVector {
+    public static final int MAX_CATEGORIES = 16;
+    private static final double MIN_WEIGHT = 0.05;
+    private static final byte FORMAT = 1;
+
+    private final Map<String, Double> weights = new LinkedHashMap<>();
+    private LocalDateTime asOf;
+
+    public CategoryAffinityVector(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    /**
+     * 조회 한 건 반영. 기준 시각보다 이른 조회는 기준 시각까지 감쇠한 가중치로 더한다.
+     */
+    public void add(String categoryCode, LocalDateTime viewedAt, double amount, Duration halfLife) {
+        if (viewedAt.isAfter(asOf)) {
+            decayTo(viewedAt, halfLife);
+            weights.merge(categoryCode, amount, Double::sum);
+        } else {
+            weights.merge(categoryCode, amount * decayFactor(viewedAt, asOf, halfLife), Double::sum);
+        }
+    }
+
+    /**
+     * 기준 시각을 at 으로 옮기며 가중치를 감쇠시키고, 작은 가중치를 정리한다
+     */
+    public void decayTo(LocalDateTime at, Duration halfLife) {
+        if (at.isAfter(asOf)) {
+            double factor = decayFactor(asOf, at, halfLife);
+            weights.replaceAll((code, weight) -> weight * factor);
+            asOf = at;
+        }
+        prune();
+    }
+
+    /**
+     * at 시점 가중치 상위 카테고리 (벡터는 바꾸지 않는다)
+     */
+    public List<CategoryWeight> top(int limit, LocalDateTime at, Duration halfLife) {
+        double factor = at.isAfter(asOf) ? decayFactor(asOf, at, halfLife) : 1.0;
+        return weights.entrySet().stream()
+                .map(entry -> new CategoryWeight(entry.getKey(), entry.getValue() * factor))
+                .filter(weight -> weight.weight() >= MIN_WEIGHT)
+                .sorted(Comparator.comparingDouble(CategoryWeight::weight).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return weights.isEmpty();
+    }
+
+    /**
+     * 직렬화: [형식 1][기준 시각 epoch 초 8][개수 1] + (코드 길이 1, UTF-8 코드, 가중치 float 4) 목록
+     */
+    public byte[] toBytes() {
+        prune();
+        List<byte[]> codes = new ArrayList<>(weights.size());
+        int length = 1 + 8 + 1;
+        for (String code : weights.keySet()) {
+            byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+            codes.add(bytes);
+            length += 1 + bytes.length + 4;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length)
+                .put(FORMAT)
+                .putLong(asOf.toEpochSecond(ZoneOffset.UTC))
+                .put((byte) weights.size());
+        int i = 0;
+        for (double weight : weights.values()) {
+            byte[] code = codes.get(i++);
+            buffer.put((byte) code.length).put(code).putFloat((float) weight);
+        }
+        return buffer.array();
+    }
+
+    public static CategoryAffinityVector fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        if (format != FORMAT) {
+            throw new IllegalArgumentException("알 수 없는 선호도 벡터 직렬화 형식입니다: " + format);
+        }
+        CategoryAffinityVector vector = new CategoryAffinityVector(
+                LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC));
+        int count = Byte.toUnsignedInt(buffer.get());
+        for (int i = 0; i < count; i++) {
+            byte[] code = new byte[Byte.toUnsignedInt(buffer.get())];
+            buffer.get(code);
+            vector.weights.put(new String(code, StandardCharsets.UTF_8), (double) buffer.getFloat());
+        }
+        return vector;
+    }
+
+    private void prune() {
+        weights.values().removeIf(weight -> weight < MIN_WEIGHT);
+        if (weights.size() > MAX_CATEGORIES) {
+            List<Map.Entry<String, Double>> kept = weights.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .limit(MAX_CATEGORIES)
+                    .toList();
+            Map<String, Double> top = new LinkedHashMap<>();
+            kept.forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+            weights.clear();
+            weights.putAll(top);
+        }
+    }
+
+    private static double decayFactor(LocalDateTime from, LocalDateTime to, Duration halfLife) {
+        double elapsed = Duration.between(from, to).toSeconds();
+        return Math.pow(0.5, elapsed / halfLife.toSeconds());
+    }
+
+    /**
+     * 카테고리 가중치
+     *
+     * @param categoryCode 카테고리 상세 코드 (recipe_category.detail_code_id)
+     * @param weight       감쇠한 가중치 (최근 조회 한 번이 약 1)
+     */
+    public record CategoryWeight(String categoryCode, double weight) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 최근 본 레시피 목록 커서 (마지막으로 내려준 조회 기록의 조회 시각, 레시피 ID).
+ * 회원별 (회원, 레시피) 조회 기록은 하나뿐이라 (조회 시각, 레시피 ID) 가 회원 안에서 유일한 정렬 키가 된다.
+ * 클라이언트에는 Base64 문자열로만 내려주며 형식은 바뀔 수 있다.
+ *
+ * @param viewedAt 조회 시각 (DB 정밀도에 맞춰 마이크로초까지)
+ * @param recipeId 레시피 ID
+ */
+public record RecentViewCursor(LocalDateTime viewedAt, long recipeId) {
+
+    public RecentViewCursor {
+        viewedAt = viewedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * 정렬 순서(조회 시각 내림차순, 레시피 ID 내림차순)에서 이 커서보다 뒤에 오는지
+     */
+    public boolean precedes(LocalDateTime otherViewedAt, long otherRecipeId) {
+        int compared = otherViewedAt.truncatedTo(ChronoUnit.MICROS).compareTo(viewedAt);
+        return compared < 0 || (compared == 0 && otherRecipeId < recipeId);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((viewedAt + "|" + recipeId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RecentViewCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new RecentViewCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import com.knusrae.cook.api.recipe.domain.event.RecentViewsClearedEvent;
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 최근 본 레시피 캐시.
+ * 회원마다 최근 ring-size 개의 (레시피 ID, 조회 시각)을 최신순 고정 크기 링 버퍼로 들고 있어,
+ * 여러 화면에 나오는 "최근 본 레시피" 첫 페이지를 조회 기록 테이블 조회 없이 만든다.
+ *
+ * 캐시에 없는 회원은 DB 에서 읽어 채우고({@link #load}), 이후 조회 요청이 들어올 때마다 바로 반영하므로
+ * 조회 기록 쓰기 버퍼가 저장하기 전의 조회도 목록에 보인다. 다른 인스턴스에서 들어온 조회는 TTL 이 지나 다시 읽을 때 반영된다.
+ * 회원 수는 max-members 로 제한하며 가장 오래 쓰지 않은 회원부터 버린다.
+ */
+@Component
+public class RecentViewRingCache {
+    private final int ringSize;
+    private final long ttlMs;
+    private final Map<Long, Ring> rings;
+
+    public RecentViewRingCache(
+            @Value("${app.recipe-view.recent-cache.ring-size:50}") int ringSize,
+            @Value("${app.recipe-view.recent-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${app.recipe-view.recent-cache.max-members:10000}") int maxMembers
+    ) {
+        this.ringSize = ringSize;
+        this.ttlMs = ttlMs;
+        this.rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+                return size() > maxMembers;
+            }
+        };
+    }
+
+    public int ringSize() {
+        return ringSize;
+    }
+
+    /**
+     * @return 만료되지 않은 회원의 최근 본 레시피 (없으면 null)
+     */
+    public synchronized RecentViews get(long memberId) {
+        Ring ring = rings.get(memberId);
+        if (ring == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - ring.loadedAt > ttlMs) {
+            rings.remove(memberId);
+            return null;
+        }
+        return ring.snapshot();
+    }
+
+    /**
+     * DB 에서 읽은 최신순 조회 기록으로 회원의 링을 채운다
+     *
+     * @param views    최신순 조회 기록 (ring-size 개까지 사용)
+     * @param complete 회원의 조회 기록을 모두 읽었는지
+     */
+    public synchronized RecentViews load(long memberId, List<RecentView> views, boolean complete) {
+        Ring ring = new Ring(ringSize);
+        for (int i = Math.min(views.size(), ringSize) - 1; i >= 0; i--) {
+            ring.push(views.get(i).recipeId(), views.get(i).viewedAt());
+        }
+        ring.complete = complete && views.size() <= ringSize;
+        rings.put(memberId, ring);
+        return ring.snapshot();
+    }
+
+    /**
+     * 조회 한 건 반영 (캐시에 있는 회원만, 같은 레시피는 최신 조회 시각으로 앞으로 옮긴다)
+     */
+    public synchronized void record(long memberId, long recipeId, LocalDateTime viewedAt) {
+        Ring ring = rings.get(memberId);
+        if (ring != null) {
+            ring.push(recipeId, viewedAt);
+        }
+    }
+
+    public synchronized void evictMember(long memberId) {
+        rings.remove(memberId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecentViewsCleared(RecentViewsClearedEvent event) {
+        evictMember(event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.changeType() == RecipeChangedEvent.ChangeType.DELETED) {
+            synchronized (this) {
+                rings.values().forEach(ring -> ring.remove(event.recipeId()));
+            }
+        }
+    }
+
+    /**
+     * 최근 본 레시피 한 건
+     *
+     * @param recipeId 레시피 ID
+     * @param viewedAt 마지막 조회 시각
+     */
+    public record RecentView(long recipeId, LocalDateTime viewedAt) {
+    }
+
+    /**
+     * 링 스냅샷
+     *
+     * @param views    최신순 최근 본 레시피
+     * @param complete 회원의 조회 기록이 모두 들어 있는지 (false 면 마지막 항목 이후는 DB 에서 읽는다)
+     */
+    public record RecentViews(List<RecentView> views, boolean complete) {
+    }
+
+    /**
+     * 최신순 고정 크기 링 버퍼. head 가 가장 최근 항목이며, 가득 찬 상태에서 새 항목을 넣으면 가장 오래된 항목 자리를 덮어쓴다.
+     */
+    private static final class Ring {
+        private final long[] recipeIds;
+        private final LocalDateTime[] viewedAts;
+        private int head;
+        private int size;
+        private boolean complete = true;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Ring(int capacity) {
+            this.recipeIds = new long[capacity];
+            this.viewedAts = new LocalDateTime[capacity];
+        }
+
+        private void push(long recipeId, LocalDateTime viewedAt) {
+            int existing = indexOf(recipeId);
+            if (existing >= 0) {
+                if (!viewedAt.isAfter(viewedAtAt(existing))) {
+                    return;
+                }
+                removeAt(existing);
+            }
+            // 인스턴스 간 시계 차이 등으로 더 이른 조회가 늦게 들어와도 최신순을 지킨다
+            int position = 0;
+            while (position < size && viewedAtAt(position).isAfter(viewedAt)) {
+                position++;
+            }
+            int capacity = recipeIds.length;
+            if (position == capacity) {
+                complete = false;
+                return;
+            }
+            if (size == capacity) {
+                size--;
+                complete = false;
+            }
+            head = (head - 1 + capacity) % capacity;
+            size++;
+            for (int i = 0; i < position; i++) {
+                set(i, recipeIdAt(i + 1), viewedAtAt(i + 1));
+            }
+            set(position, recipeId, viewedAt);
+        }
+
+        private void remove(long recipeId) {
+            int index = indexOf(recipeId);
+            if (index >= 0) {
+                removeAt(index);
+            }
+        }
+
+        private void removeAt(int index) {
+            for (int i = index; i < size - 1; i++) {
+                set(i, recipeIdAt(i + 1), viewedAtAt(i + 1));
+            }
+            size--;
+        }
+
+        private int indexOf(long recipeId) {
+            for (int i = 0; i < size; i++) {
+                if (recipeIdAt(i) == recipeId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private long recipeIdAt(int index) {
+            return recipeIds[(head + index) % recipeIds.length];
+        }
+
+        private LocalDateTime viewedAtAt(int index) {
+            return viewedAts[(head + index) % viewedAts.length];
+        }
+
+        private void set(int index, long recipeId, LocalDateTime viewedAt) {
+            int slot = (head + index) % recipeIds.length;
+            recipeIds[slot] = recipeId;
+            viewedAts[slot] = viewedAt;
+        }
+
+        private RecentViews snapshot() {
+            List<RecentView> views = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                views.add(new RecentView(recipeIdAt(i), viewedAtAt(i)));
+            }
+            return new RecentViews(views, complete);
+        }
+    }
+}
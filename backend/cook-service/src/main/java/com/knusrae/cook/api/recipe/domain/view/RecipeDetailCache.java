@@ -0,0 +1,77 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import com.knusrae.cook.api.recipe.dto.RecipeDetailDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 레시피 상세 읽기 모델 캐시 (레시피 ID -> 상세 버전, 상세 DTO).
+ * 카테고리·조리 팁·재료·단계·이미지·댓글·작성자처럼 자주 바뀌지 않는 부분만 담고,
+ * 조회수·찜 수·조회자의 찜 여부는 담지 않아 요청마다 따로 채운다.
+ *
+ * 레시피 수정·댓글 작성/수정/삭제가 recipe.detail_version 을 올리므로, 상세 조회는 레시피 행에서 읽은 버전과 캐시 버전이 같을 때만 캐시를 쓴다.
+ * 버전이 DB 에 있어 다른 인스턴스의 변경도 바로 반영된다. 작성자 닉네임·프로필 이미지 변경은 버전을 올리지 않으므로 TTL 로만 반영한다.
+ */
+@Component
+public class RecipeDetailCache {
+    private final long ttlMs;
+    private final Map<Long, Entry> entries;
+
+    public RecipeDetailCache(
+            @Value("${app.recipe.detail-cache.ttl-ms:600000}") long ttlMs,
+            @Value("${app.recipe.detail-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return 같은 버전의 만료되지 않은 상세 (없으면 null). 공유 객체이므로 toBuilder 로 복사해 쓴다.
+     */
+    public synchronized RecipeDetailDto get(long recipeId, long version) {
+        Entry entry = entries.get(recipeId);
+        if (entry == null || entry.version() != version) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.cachedAt() > ttlMs) {
+            entries.remove(recipeId);
+            return null;
+        }
+        return entry.detail();
+    }
+
+    /**
+     * 상세 저장 (더 새 버전이 이미 있으면 덮어쓰지 않는다)
+     */
+    public synchronized void put(long recipeId, long version, RecipeDetailDto detail) {
+        Entry current = entries.get(recipeId);
+        if (current == null || current.version() <= version) {
+            entries.put(recipeId, new Entry(version, detail, System.currentTimeMillis()));
+        }
+    }
+
+    public synchronized void evict(long recipeId) {
+        entries.remove(recipeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.changeType() != RecipeChangedEvent.ChangeType.CREATED) {
+            evict(event.recipeId());
+        }
+    }
+
+    private record Entry(long version, RecipeDetailDto detail, long cachedAt) {
+    }
+}
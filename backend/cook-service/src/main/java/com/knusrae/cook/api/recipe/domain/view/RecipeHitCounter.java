@@ -0,0 +1,116 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 레시피 상세 조회수 카운터.
+ * 상세 조회마다 recipe 행을 고치지 않고 레시피별 LongAdder 에 더해 두었다가, flush-interval-ms 마다
+ * 쌓인 증가분만 {@code UPDATE recipe SET hits = hits + ?} JDBC 배치로 반영한다.
+ * 증가분을 더하는 UPDATE 라 여러 인스턴스가 같은 레시피를 동시에 반영해도 잃어버리는 조회수가 없다.
+ *
+ * 화면에 보이는 조회수는 DB 값 + 아직 반영하지 않은 증가분({@link #currentHits(long, Long)})이다.
+ * 레시피당 LongAdder 하나를 계속 재사용하므로 메모리는 조회된 레시피 수에 비례한다.
+ */
+@Component
+@Slf4j
+public class RecipeHitCounter {
+    private static final String INCREASE_HITS = """
+            UPDATE recipe SET hits = hits + :delta WHERE id = :recipeId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Map<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    public RecipeHitCounter(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 더한다)
+     */
+    public void increment(long recipeId) {
+        LongAdder adder = pendingHits.get(recipeId);
+        if (adder == null) {
+            adder = pendingHits.computeIfAbsent(recipeId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 증가분
+     */
+    public long pendingDelta(long recipeId) {
+        LongAdder adder = pendingHits.get(recipeId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 현재 조회수 (DB 값 + 반영 대기 증가분)
+     */
+    public long currentHits(long recipeId, Long storedHits) {
+        return (storedHits == null ? 0 : storedHits) + pendingDelta(recipeId);
+    }
+
+    /**
+     * 쌓인 증가분 반영 - 기본 5초마다
+     */
+    @Scheduled(fixedDelayString = "${app.recipe.hits.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Long> recipeIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        pendingHits.forEach((recipeId, adder) -> {
+            // 셀마다 getAndSet(0) 이라 꺼내는 중에 들어온 증가분은 이번 또는 다음 반영에 포함된다
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                recipeIds.add(recipeId);
+                deltas.add(delta);
+            }
+        });
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = new SqlParameterSource[recipeIds.size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = new MapSqlParameterSource()
+                    .addValue("recipeId", recipeIds.get(i))
+                    .addValue("delta", deltas.get(i));
+        }
+        try {
+            namedParameterJdbcTemplate.batchUpdate(INCREASE_HITS, params);
+            log.debug("Flushed hit deltas for {} recipes", params.length);
+        } catch (Exception e) {
+            // 되돌려 두고 다음 주기에 다시 반영한다
+            for (int i = 0; i < params.length; i++) {
+                pendingHits.computeIfAbsent(recipeIds.get(i), id -> new LongAdder()).add(deltas.get(i));
+            }
+            log.error("Failed to flush hit deltas for {} recipes: {}", params.length, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.changeType() == RecipeChangedEvent.ChangeType.DELETED) {
+            pendingHits.remove(event.recipeId());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import com.knusrae.cook.api.recipe.domain.service.RecipeUniqueViewerWriter;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레시피 순 방문자 집계기.
+ * 상세 조회마다 방문자 키(회원 ID, 비회원은 방문자 ID 또는 IP·User-Agent)의 해시를 (레시피, 시간) 버킷별
+ * {@link HyperLogLog} 에 넣고, flush-interval-ms 마다 바뀐 버킷만 recipe_unique_viewer_hourly 의 저장된 스케치와 합쳐 저장한다.
+ * 방문자 원본은 저장하지 않으며, 같은 방문자가 여러 번 보거나 여러 인스턴스에서 봐도 한 번으로 센다.
+ *
+ * 저장한 레시피 ID는 {@link #drainFlushedRecipeIds()} 로 꺼내 인기도 증분 계산 대상으로 쓴다.
+ * 보관 기간(retention-days)이 지난 버킷은 매일 지운다.
+ */
+@Component
+@Slf4j
+public class RecipeUniqueViewerCounter {
+    private static final String PURGE_JOB = "unique-viewer-sketch-purge";
+    private static final String DELETE_EXPIRED_BUCKETS = """
+            DELETE FROM recipe_unique_viewer_hourly
+            WHERE bucket_hour < :cutoff
+            """;
+
+    private final RecipeUniqueViewerWriter recipeUniqueViewerWriter;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final int batchSize;
+    private final int retentionDays;
+    /** 저장 대기 버킷 (this 로 동기화) */
+    private Map<BucketKey, HyperLogLog> pending = new HashMap<>();
+    private final Set<Long> flushedRecipeIds = new HashSet<>();
+
+    public RecipeUniqueViewerCounter(
+            RecipeUniqueViewerWriter recipeUniqueViewerWriter,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            SchedulerLock schedulerLock,
+            @Value("${app.recipe.unique-viewers.batch-size:500}") int batchSize,
+            @Value("${app.recipe.unique-viewers.retention-days:8}") int retentionDays
+    ) {
+        this.recipeUniqueViewerWriter = recipeUniqueViewerWriter;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.schedulerLock = schedulerLock;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 방문자 키. 회원은 회원 ID, 비회원은 클라이언트가 보낸 방문자 ID, 없으면 IP와 User-Agent 조합으로 구분한다.
+     */
+    public static String viewerKey(Long memberId, String visitorId, String clientAddress, String userAgent) {
+        if (memberId != null) {
+            return "m:" + memberId;
+        }
+        if (visitorId != null && !visitorId.isBlank() && visitorId.length() <= 64) {
+            return "v:" + visitorId;
+        }
+        return "f:" + clientAddress + "|" + (userAgent == null ? "" : userAgent);
+    }
+
+    /**
+     * 방문 한 건 기록 (메모리 스케치에만 넣는다)
+     */
+    public void offer(long recipeId, String viewerKey, LocalDateTime viewedAt) {
+        long hash = HyperLogLog.hash(viewerKey);
+        BucketKey key = new BucketKey(recipeId, viewedAt.truncatedTo(ChronoUnit.HOURS));
+        synchronized (this) {
+            pending.computeIfAbsent(key, k -> new HyperLogLog(HyperLogLog.DEFAULT_PRECISION)).offer(hash);
+        }
+    }
+
+    /**
+     * 바뀐 버킷 저장 - 기본 1분마다
+     */
+    @Scheduled(fixedDelayString = "${app.recipe.unique-viewers.flush-interval-ms:60000}")
+    public void flush() {
+        Map<BucketKey, HyperLogLog> drained;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new HashMap<>();
+        }
+        List<BucketKey> keys = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            Map<BucketKey, HyperLogLog> batch = new HashMap<>();
+            keys.subList(from, Math.min(keys.size(), from + batchSize)).forEach(key -> batch.put(key, drained.get(key)));
+            try {
+                recipeUniqueViewerWriter.mergeSketches(batch);
+                synchronized (this) {
+                    batch.keySet().forEach(key -> flushedRecipeIds.add(key.recipeId()));
+                }
+            } catch (Exception e) {
+                // 합집합이므로 그 사이 들어온 방문과 합쳐 다음 주기에 다시 저장한다
+                synchronized (this) {
+                    batch.forEach((key, sketch) -> pending.merge(key, sketch, (current, failed) -> {
+                        current.merge(failed);
+                        return current;
+                    }));
+                }
+                log.error("Failed to flush {} unique viewer sketches: {}", batch.size(), e.getMessage());
+            }
+        }
+        log.debug("Flushed {} unique viewer sketches", keys.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 마지막 호출 이후 스케치를 저장한 레시피 ID를 꺼낸다
+     */
+    public synchronized Set<Long> drainFlushedRecipeIds() {
+        Set<Long> drained = new HashSet<>(flushedRecipeIds);
+        flushedRecipeIds.clear();
+        return drained;
+    }
+
+    /**
+     * 보관 기간이 지난 스케치 삭제 - 매일 새벽 (클러스터에서 한 인스턴스만)
+     */
+    @Scheduled(cron = "${app.recipe.unique-viewers.purge-cron:0 45 4 * * *}")
+    public void purgeExpiredSketches() {
+        try {
+            schedulerLock.runExclusively(PURGE_JOB, () -> {
+                LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(retentionDays);
+                int deleted = namedParameterJdbcTemplate.update(DELETE_EXPIRED_BUCKETS,
+                        new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)));
+                log.info("Purged {} unique viewer sketches before {}", deleted, cutoff);
+            });
+        } catch (Exception e) {
+            log.error("Error during unique viewer sketch purge", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.changeType() == RecipeChangedEvent.ChangeType.DELETED) {
+            synchronized (this) {
+                pending.keySet().removeIf(key -> key.recipeId() == event.recipeId());
+            }
+        }
+    }
+
+    /**
+     * (레시피, 시간) 버킷
+     *
+     * @param recipeId   레시피 ID
+     * @param bucketHour 집계 구간 시작 (정시)
+     */
+    public record BucketKey(long recipeId, LocalDateTime bucketHour) {
+    }
+}
@@ -0,0 +1,268 @@
+package com.knusrae.cook.api.recipe.domain.view;
+
+import com.knusrae.cook.api.recipe.domain.journal.EngagementJournal;
+import com.knusrae.cook.api.recipe.domain.journal.EngagementJournalRecord;
+import com.knusrae.cook.api.recipe.domain.service.RecipeViewWriter;
+import com.knusrae.cook.api.recipe.dto.RecipeViewIngestionStatsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회 기록 쓰기 버퍼 (write-behind).
+ * 조회 요청은 (회원, 레시피)별 마지막 조회 시각만 메모리 맵에 넣고 바로 반환하며, 같은 쌍을 여러 번 보면 하나로 합친다.
+ * flush-interval-ms 마다 쌓인 조회를 batch-size 개씩 {@link RecipeViewWriter} 로 일괄 저장하고, 종료 시에도 남은 조회를 저장한다.
+ *
+ * 대기 중인 쌍이 capacity 에 이르면 새 쌍은 요청 스레드가 직접 저장한다 (버퍼 대신 요청이 느려지는 backpressure).
+ * 저장에 실패한 조회는 자리가 있는 만큼 버퍼에 되돌려 다음 주기에 다시 저장한다.
+ * 저장 전까지 최근 본 레시피 목록·조회수에는 최대 한 주기만큼 늦게 반영된다.
+ *
+ * 버퍼에 넣은 조회는 {@link EngagementJournal} 에도 기록하고, 실패 없이 저장을 마칠 때마다 꺼낸 시점의 저널 오프셋을 커밋한다.
+ * 저장 전에 프로세스가 죽으면 기동 시 커밋한 오프셋 이후의 조회를 버퍼로 되살린다.
+ * 이미 저장된 조회가 다시 재생되어도 같은 조회 시각이면 조회수·집계가 바뀌지 않는다.
+ */
+@Component
+@Slf4j
+public class RecipeViewBuffer {
+    private static final String JOURNAL_CONSUMER = "recipe-view-buffer";
+
+    private final RecipeViewWriter recipeViewWriter;
+    private final EngagementJournal engagementJournal;
+    private final int capacity;
+    private final int batchSize;
+    /** 같은 쌍을 합치는 대기 맵 (this 로 동기화) */
+    private Map<ViewKey, LocalDateTime> pending = new LinkedHashMap<>();
+    private int pendingHighWatermark;
+    /** 주기 저장과 종료 시 저장이 겹치지 않도록 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong synchronousWriteCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private volatile int lastFlushSize;
+    private volatile long lastFlushMillis;
+    private volatile LocalDateTime lastFlushAt;
+
+    public RecipeViewBuffer(
+            RecipeViewWriter recipeViewWriter,
+            EngagementJournal engagementJournal,
+            @Value("${app.recipe-view.ingestion.capacity:100000}") int capacity,
+            @Value("${app.recipe-view.ingestion.batch-size:500}") int batchSize
+    ) {
+        this.recipeViewWriter = recipeViewWriter;
+        this.engagementJournal = engagementJournal;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 지난 실행에서 저장하지 못한 조회를 저널에서 되살린다 (용량과 관계없이 모두 넣고 다음 주기에 저장한다)
+     */
+    @PostConstruct
+    public void replayJournal() {
+        long committed = engagementJournal.register(JOURNAL_CONSUMER);
+        int replayed;
+        synchronized (this) {
+            replayed = engagementJournal.replay(committed, engagementJournal.startupEndOffset(), record -> {
+                switch (record.type()) {
+                    case VIEW_REQUESTED -> pending.merge(new ViewKey(record.memberId(), record.recipeId()),
+                            record.occurredAt(), (queued, viewedAt) -> viewedAt.isAfter(queued) ? viewedAt : queued);
+                    case VIEW_REQUESTS_DISCARDED -> pending.keySet().removeIf(key -> key.memberId() == record.memberId());
+                    default -> {
+                    }
+                }
+            });
+            pendingHighWatermark = Math.max(pendingHighWatermark, pending.size());
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} journaled view records, {} views pending", replayed, pendingSize());
+        }
+    }
+
+    /**
+     * 조회 한 건 기록
+     *
+     * @return 버퍼에 넣었으면 true, 버퍼가 가득 차 바로 저장했으면 false
+     */
+    public boolean record(long memberId, long recipeId, LocalDateTime viewedAt) {
+        ViewKey key = new ViewKey(memberId, recipeId);
+        synchronized (this) {
+            LocalDateTime queued = pending.get(key);
+            if (queued != null) {
+                if (viewedAt.isAfter(queued)) {
+                    pending.put(key, viewedAt);
+                    engagementJournal.append(EngagementJournalRecord.viewRequested(memberId, recipeId, viewedAt));
+                }
+                acceptedCount.incrementAndGet();
+                coalescedCount.incrementAndGet();
+                return true;
+            }
+            if (pending.size() < capacity) {
+                pending.put(key, viewedAt);
+                engagementJournal.append(EngagementJournalRecord.viewRequested(memberId, recipeId, viewedAt));
+                pendingHighWatermark = Math.max(pendingHighWatermark, pending.size());
+                acceptedCount.incrementAndGet();
+                return true;
+            }
+        }
+        synchronousWriteCount.incrementAndGet();
+        recipeViewWriter.writeViews(List.of(new PendingView(memberId, recipeId, viewedAt)));
+        return false;
+    }
+
+    /**
+     * 회원의 저장 대기 조회를 버린다 (조회 기록 전체 삭제 전에 호출해 삭제 후 다시 저장되지 않도록).
+     * 진행 중인 저장이 있으면 끝날 때까지 기다린다.
+     */
+    public void discardMember(long memberId) {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                pending.keySet().removeIf(key -> key.memberId() == memberId);
+                engagementJournal.append(EngagementJournalRecord.viewRequestsDiscarded(memberId));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 조회 일괄 저장 - 기본 1초마다
+     */
+    @Scheduled(fixedDelayString = "${app.recipe-view.ingestion.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Drained drained = drain();
+            List<PendingView> views = drained.views();
+            if (views.isEmpty()) {
+                engagementJournal.commit(JOURNAL_CONSUMER, drained.journalOffset());
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            int written = 0;
+            boolean failed = false;
+            for (int from = 0; from < views.size(); from += batchSize) {
+                List<PendingView> batch = views.subList(from, Math.min(views.size(), from + batchSize));
+                try {
+                    written += recipeViewWriter.writeViews(batch);
+                } catch (Exception e) {
+                    failedFlushCount.incrementAndGet();
+                    failed = true;
+                    requeue(batch);
+                    log.error("Failed to flush {} recipe views: {}", batch.size(), e.getMessage());
+                }
+            }
+            if (!failed) {
+                // 되돌린 조회가 있으면 그 조회까지 저장된 다음 주기에 커밋한다
+                engagementJournal.commit(JOURNAL_CONSUMER, drained.journalOffset());
+            }
+            flushedCount.addAndGet(written);
+            lastFlushSize = views.size();
+            lastFlushMillis = System.currentTimeMillis() - startedAt;
+            lastFlushAt = LocalDateTime.now();
+            log.debug("Flushed {} recipe views in {} ms", written, lastFlushMillis);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int remaining = pendingSize();
+        if (remaining > 0) {
+            log.info("Flushing {} pending recipe views before shutdown", remaining);
+            flush();
+        }
+    }
+
+    public synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    public RecipeViewIngestionStatsDto getStats() {
+        int pendingNow;
+        int highWatermark;
+        synchronized (this) {
+            pendingNow = pending.size();
+            highWatermark = pendingHighWatermark;
+        }
+        return RecipeViewIngestionStatsDto.builder()
+                .pending(pendingNow)
+                .capacity(capacity)
+                .pendingHighWatermark(highWatermark)
+                .acceptedCount(acceptedCount.get())
+                .coalescedCount(coalescedCount.get())
+                .synchronousWriteCount(synchronousWriteCount.get())
+                .droppedCount(droppedCount.get())
+                .flushedCount(flushedCount.get())
+                .failedFlushCount(failedFlushCount.get())
+                .lastFlushSize(lastFlushSize)
+                .lastFlushMillis(lastFlushMillis)
+                .lastFlushAt(lastFlushAt)
+                .build();
+    }
+
+    /**
+     * 대기 조회를 모두 꺼낸다. 저널 오프셋도 같은 잠금 안에서 읽으므로 그 앞의 조회는 모두 꺼낸 목록에 들어 있다.
+     */
+    private synchronized Drained drain() {
+        long journalOffset = engagementJournal.endOffset();
+        if (pending.isEmpty()) {
+            return new Drained(List.of(), journalOffset);
+        }
+        List<PendingView> views = new ArrayList<>(pending.size());
+        pending.forEach((key, viewedAt) -> views.add(new PendingView(key.memberId(), key.recipeId(), viewedAt)));
+        pending = new LinkedHashMap<>();
+        return new Drained(views, journalOffset);
+    }
+
+    /**
+     * 저장에 실패한 조회를 되돌린다 (그 사이 같은 쌍을 다시 봤으면 더 늦은 시각을 남긴다)
+     */
+    private synchronized void requeue(List<PendingView> views) {
+        for (PendingView view : views) {
+            ViewKey key = new ViewKey(view.memberId(), view.recipeId());
+            LocalDateTime queued = pending.get(key);
+            if (queued != null) {
+                if (view.viewedAt().isAfter(queued)) {
+                    pending.put(key, view.viewedAt());
+                }
+            } else if (pending.size() < capacity) {
+                pending.put(key, view.viewedAt());
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    public record ViewKey(long memberId, long recipeId) {
+    }
+
+    private record Drained(List<PendingView> views, long journalOffset) {
+    }
+
+    /**
+     * 저장 대기 중인 조회
+     *
+     * @param memberId 회원 ID
+     * @param recipeId 레시피 ID
+     * @param viewedAt 마지막 조회 시각
+     */
+    public record PendingView(long memberId, long recipeId, LocalDateTime viewedAt) {
+    }
+}
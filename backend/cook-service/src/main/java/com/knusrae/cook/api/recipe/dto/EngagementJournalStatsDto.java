@@ -0,0 +1,35 @@
+package com.knusrae.cook.api.recipe.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 참여 이벤트 저널 현황 (이 인스턴스)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class EngagementJournalStatsDto {
+    private Boolean enabled;
+    private String directory;
+    private Integer segmentCount;
+    /** 남아 있는 가장 오래된 오프셋 */
+    private Long startOffset;
+    /** 다음에 기록될 오프셋 */
+    private Long endOffset;
+    /** 기동 시점의 저널 끝 (여기까지가 재생 대상) */
+    private Long startupEndOffset;
+    /** 기동 후 기록한 레코드 수 */
+    private Long appendedCount;
+    private Long failedAppendCount;
+    /** 기동 후 재생한 레코드 수 */
+    private Long replayedCount;
+    /** 소비자별 커밋 오프셋 */
+    private Map<String, Long> consumerOffsets;
+    private LocalDateTime lastForceAt;
+}
@@ -61,6 +61,10 @@ public class RecipeDto {
         this.commentCount = commentCount;
     }
 
+    public void setHits(Long hits) {
+        this.hits = hits;
+    }
+
     public RecipeDto(Recipe recipe) {
         this.id = recipe.getId();
         this.title = recipe.getTitle();
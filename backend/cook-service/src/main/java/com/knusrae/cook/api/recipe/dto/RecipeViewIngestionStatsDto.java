@@ -0,0 +1,35 @@
+package com.knusrae.cook.api.recipe.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 기록 쓰기 버퍼 현황 (이 인스턴스)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecipeViewIngestionStatsDto {
+    /** 저장 대기 중인 (회원, 레시피) 수 */
+    private Integer pending;
+    private Integer capacity;
+    /** 기동 후 가장 많이 쌓였던 대기 수 */
+    private Integer pendingHighWatermark;
+    /** 버퍼에 받은 조회 수 */
+    private Long acceptedCount;
+    /** 이미 대기 중인 쌍에 합쳐진 조회 수 */
+    private Long coalescedCount;
+    /** 버퍼가 가득 차 요청 스레드가 직접 저장한 조회 수 */
+    private Long synchronousWriteCount;
+    /** 저장 실패 후 버퍼에 되돌릴 자리가 없어 버린 조회 수 */
+    private Long droppedCount;
+    private Long flushedCount;
+    private Long failedFlushCount;
+    private Integer lastFlushSize;
+    private Long lastFlushMillis;
+    private LocalDateTime lastFlushAt;
+}
@@ -6,7 +6,9 @@ import com.knusrae.cook.api.recipe.dto.RecipeDto;
 import com.knusrae.cook.api.recipe.dto.RecipeDetailDto;
 import com.knusrae.cook.api.popular.dto.PopularRecipeDto;
 import com.knusrae.cook.api.recipe.domain.service.RecipeService;
-import com.knusrae.cook.api.popular.domain.service.PopularRecipeService;
+import com.knusrae.cook.api.popular.domain.service.PopularRecipeLeaderboard;
+import com.knusrae.cook.api.recipe.domain.view.RecipeUniqueViewerCounter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -29,13 +31,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RecipeController {
     private final RecipeService recipeService;
-    private final PopularRecipeService popularRecipeService;
+    private final PopularRecipeLeaderboard popularRecipeLeaderboard;
     private final ObjectMapper objectMapper;
     private final Validator validator;
     
-    public RecipeController(RecipeService recipeService, PopularRecipeService popularRecipeService, Validator validator) {
+    public RecipeController(RecipeService recipeService, PopularRecipeLeaderboard popularRecipeLeaderboard, Validator validator) {
         this.recipeService = recipeService;
-        this.popularRecipeService = popularRecipeService;
+        this.popularRecipeLeaderboard = popularRecipeLeaderboard;
         this.validator = validator;
         ObjectMapper mapper = new ObjectMapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -114,10 +116,14 @@ public class RecipeController {
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<RecipeDetailDto> retrieveRecipeDetail(
             @PathVariable Long id,
+            @RequestHeader(value = "X-Visitor-Id", required = false) String visitorId,
+            HttpServletRequest request,
             Authentication authentication) {
         log.debug("Fetching recipe detail for ID: {}", id);
         Long requesterId = AuthenticationUtils.extractMemberIdOrNull(authentication);
-        RecipeDetailDto recipeDetail = recipeService.retrieveRecipeDetail(id, requesterId);
+        String viewerKey = RecipeUniqueViewerCounter.viewerKey(requesterId, visitorId,
+                clientAddress(request), request.getHeader("User-Agent"));
+        RecipeDetailDto recipeDetail = recipeService.retrieveRecipeDetail(id, requesterId, viewerKey);
         log.info("Recipe detail retrieved successfully: id={}, title={}", id, recipeDetail.getTitle());
         return ResponseEntity.ok(recipeDetail);
     }
@@ -198,7 +204,7 @@ public class RecipeController {
             limit = 100;
         }
         
-        List<PopularRecipeDto> popularRecipes = popularRecipeService.getPopularRecipes(limit, period);
+        List<PopularRecipeDto> popularRecipes = popularRecipeLeaderboard.getPopularRecipes(limit, period);
         log.info("Retrieved {} popular recipes", popularRecipes.size());
         
         return ResponseEntity.ok(popularRecipes);
@@ -243,4 +249,15 @@ public class RecipeController {
             throw new IllegalArgumentException("조리 단계는 최소 1개 이상 필요합니다.");
         }
     }
+
+    /**
+     * 클라이언트 IP (프록시를 거치면 X-Forwarded-For 의 첫 번째 주소)
+     */
+    private static String clientAddress(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return forwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
 }
@@ -81,16 +81,16 @@ public class RecipeViewController {
      * 최근 본 레시피 목록 조회
      * 
      * @param memberId 회원 ID
-     * @param limit 조회할 개수 (기본값: 10)
-     * @param offset 건너뛸 개수 (기본값: 0)
+     * @param limit 조회할 개수 (기본값: 10, 최대 50)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
      * @param authentication 인증 정보
-     * @return 최근 본 레시피 목록
+     * @return 최근 본 레시피 목록과 다음 페이지 커서
      */
     @GetMapping("/members/{memberId}/recent-views")
     public ResponseEntity<Map<String, Object>> getRecentViews(
             @PathVariable Long memberId,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) String cursor,
             Authentication authentication
     ) {
         // 인증 확인 및 권한 체크 (본인 또는 관리자만)
@@ -112,11 +112,11 @@ public class RecipeViewController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
         }
         
-        log.debug("Fetching recent views for member: {}, limit: {}, offset: {}", 
-                memberId, limit, offset);
+        log.debug("Fetching recent views for member: {}, limit: {}, cursor: {}", 
+                memberId, limit, cursor);
         
         try {
-            Map<String, Object> result = recipeViewService.getRecentViews(memberId, limit, offset);
+            Map<String, Object> result = recipeViewService.getRecentViews(memberId, limit, cursor);
             
             // 성공 응답 구성
             Map<String, Object> response = new HashMap<>();
@@ -127,6 +127,19 @@ public class RecipeViewController {
             
             return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid recent views cursor for member: {}: {}", memberId, e.getMessage());
+            
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            
+            Map<String, String> error = new HashMap<>();
+            error.put("code", "INVALID_CURSOR");
+            error.put("message", e.getMessage());
+            errorResponse.put("error", error);
+            
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+            
         } catch (Exception e) {
             log.error("Error fetching recent views for member: {}", memberId, e);
             
@@ -5,6 +5,8 @@ import com.knusrae.cook.api.recipe.domain.entity.RecipeView;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeFavoriteRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeViewRepository;
+import com.knusrae.cook.api.recipe.domain.service.MemberCategoryAffinityService;
+import com.knusrae.cook.api.recipe.domain.view.CategoryAffinityVector;
 import com.knusrae.cook.api.recommendation.dto.RecommendedRecipeDto;
 import com.knusrae.cook.api.recommendation.dto.TodayRecommendationDto;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,7 @@ public class RecommendationService {
     private final RecipeViewRepository recipeViewRepository;
     private final RecipeRepository recipeRepository;
     private final RecipeFavoriteRepository recipeFavoriteRepository;
+    private final MemberCategoryAffinityService memberCategoryAffinityService;
     
     /**
      * 오늘의 레시피 추천
@@ -50,10 +53,9 @@ public class RecommendationService {
     private TodayRecommendationDto getPersonalizedRecommendations(Long memberId, int limit) {
         log.info("Getting personalized recommendations for member: {}", memberId);
         
-        // 1. 최근 30일 조회 카테고리 분석
-        LocalDateTime since = LocalDateTime.now().minusDays(30);
-        List<Object[]> recentCategories = recipeViewRepository
-                .findRecentCategoriesByMember(memberId, since, PageRequest.of(0, 3));
+        // 1. 최근 조회 카테고리 분석 (시간 감쇠 선호도 벡터 상위 3개)
+        List<CategoryAffinityVector.CategoryWeight> recentCategories = memberCategoryAffinityService
+                .getTopCategories(memberId, 3);
         
         log.info("Recent categories: {}", recentCategories.size());
         
@@ -71,10 +73,12 @@ public class RecommendationService {
         // 3. 후보 레시피 수집
         List<ScoredRecipe> candidates = new ArrayList<>();
         
-        // 3-1. 최근 본 카테고리와 일치하는 레시피
+        // 3-1. 최근 본 카테고리와 일치하는 레시피 (선호도가 높은 카테고리일수록 높은 점수)
         if (!recentCategories.isEmpty()) {
-            for (Object[] row : recentCategories) {
-                String categoryCode = row[0].toString();
+            double topWeight = recentCategories.get(0).weight();
+            for (CategoryAffinityVector.CategoryWeight category : recentCategories) {
+                String categoryCode = category.categoryCode();
+                double score = 30.0 + 10.0 * category.weight() / topWeight;
                 
                 // 해당 카테고리의 최근 30일 레시피 조회
                 List<Recipe> categoryRecipes = recipeRepository
@@ -89,7 +93,7 @@ public class RecommendationService {
                     if (!excludedRecipeIds.contains(recipe.getId())) {
                         candidates.add(new ScoredRecipe(
                                 recipe,
-                                40.0,
+                                score,
                                 "최근 본 카테고리와 일치"
                         ));
                     }
@@ -0,0 +1,52 @@
+package com.knusrae.cook.api.scheduler.domain.entity;
+
+import com.knusrae.cook.api.scheduler.domain.enums.BatchJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 배치 작업 체크포인트
+ * 작업 이름당 행 하나. 앞에서부터 연속으로 끝난 청크의 마지막 키와 누적 처리 건수를 기록한다
+ */
+@Entity
+@Table(name = "batch_job_checkpoint")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchJobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchJobStatus status;
+
+    @Column(name = "last_key", nullable = false)
+    private Long lastKey;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Long chunkCount;
+
+    @Column(name = "read_count", nullable = false)
+    private Long readCount;
+
+    @Column(name = "written_count", nullable = false)
+    private Long writtenCount;
+
+    @Column(name = "failed_chunks", nullable = false)
+    private Long failedChunks;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.knusrae.cook.api.scheduler.domain.enums;
+
+/**
+ * 청크 배치 작업 상태 (COMPLETED 외에는 다음 실행 때 마지막 체크포인트부터 이어서 처리)
+ */
+public enum BatchJobStatus {
+    RUNNING, COMPLETED, STOPPED, FAILED
+}
@@ -0,0 +1,38 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 청크 배치 작업 정의 (읽기 -> 변환 -> 저장).
+ * 실행은 {@link ChunkJobRunner} 가 맡으며, 같은 이름의 작업은 체크포인트를 공유한다.
+ *
+ * @param <I> 읽는 항목
+ * @param <O> 저장할 항목
+ */
+@Getter
+@Builder
+public class ChunkJob<I, O> {
+    /** 작업 이름 (체크포인트 키) */
+    private final String name;
+    /** 청크당 항목 수 */
+    @Builder.Default
+    private final int chunkSize = 1000;
+    /** 동시에 변환·저장하는 청크 수 (읽기는 항상 한 스레드) */
+    @Builder.Default
+    private final int parallelism = 1;
+    private final ChunkReader<I> reader;
+    /** 항목의 키 (읽기 정렬 순서와 같아야 한다) */
+    private final ToLongFunction<I> keyExtractor;
+    private final ChunkProcessor<I, O> processor;
+    private final ChunkWriter<O> writer;
+
+    /**
+     * 변환 없이 읽은 항목을 그대로 저장하는 작업
+     */
+    public static <T> ChunkJobBuilder<T, T> passThrough() {
+        return ChunkJob.<T, T>builder().processor(items -> items);
+    }
+}
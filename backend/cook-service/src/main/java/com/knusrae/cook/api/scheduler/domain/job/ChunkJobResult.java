@@ -0,0 +1,36 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import com.knusrae.cook.api.scheduler.domain.enums.BatchJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 배치 작업 한 번 실행의 결과와 청크 처리 시간 통계
+ *
+ * @param jobName         작업 이름
+ * @param status          종료 상태
+ * @param resumedFromKey  이어서 실행했으면 시작 체크포인트 키, 처음부터면 0
+ * @param lastKey         마지막으로 기록한 체크포인트 키
+ * @param chunkCount      이번 실행에서 처리한 청크 수
+ * @param readCount       읽은 항목 수
+ * @param writtenCount    저장된 행 수
+ * @param failedChunks    변환·저장에 실패한 청크 수 (실패하면 그 청크에서 멈추고 FAILED 로 끝난다)
+ * @param readMillis      읽기 시간 합
+ * @param processMillis   변환 시간 합 (청크별 합이라 병렬 실행 시 경과 시간보다 클 수 있다)
+ * @param writeMillis     저장 시간 합
+ * @param maxChunkMillis  가장 오래 걸린 청크의 변환+저장 시간
+ * @param elapsedMillis   전체 경과 시간
+ * @param finishedAt      종료 시각
+ */
+public record ChunkJobResult(String jobName, BatchJobStatus status, long resumedFromKey, long lastKey,
+                             long chunkCount, long readCount, long writtenCount, long failedChunks,
+                             long readMillis, long processMillis, long writeMillis, long maxChunkMillis,
+                             long elapsedMillis, LocalDateTime finishedAt) {
+
+    /**
+     * 초당 읽은 항목 수
+     */
+    public double itemsPerSecond() {
+        return elapsedMillis == 0 ? readCount : readCount * 1000.0 / elapsedMillis;
+    }
+}
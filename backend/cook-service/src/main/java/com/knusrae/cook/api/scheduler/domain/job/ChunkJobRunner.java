@@ -0,0 +1,401 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import com.knusrae.cook.api.scheduler.domain.enums.BatchJobStatus;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLeaseLostException;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import com.knusrae.cook.api.scheduler.dto.BatchJobDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 배치 작업 실행기.
+ * 호출한 스레드가 키 순으로 청크를 읽고, 변환·저장은 가상 스레드에서 최대 parallelism 개 청크씩 동시에 실행한다.
+ * 앞에서부터 연속으로 끝난 청크까지만 batch_job_checkpoint 에 마지막 키를 기록하므로, 배포·장애로 중단되면
+ * 다음 실행이 그 다음 청크부터 이어서 처리한다 (중단 시점에 이미 끝난 뒷 청크는 다시 처리될 수 있다).
+ *
+ * <ul>
+ *     <li>변환·저장에 실패한 청크가 나오면 새 청크를 더 읽지 않고, 체크포인트는 그 앞 청크까지만 남겨 FAILED 로 끝낸다.
+ *     다음 실행이 실패한 청크부터 다시 처리한다 (이미 시작한 뒷 청크는 끝날 때까지 기다리되 체크포인트에는 반영하지 않는다).</li>
+ *     <li>읽기가 실패하면 FAILED 로, 종료 중이면 STOPPED 로 남겨 다음 실행에서 이어 간다.
+ *     resume-window-hours 보다 오래된 체크포인트는 버리고 처음부터 실행한다.</li>
+ *     <li>{@link SchedulerLock} 임대를 잡고 실행 중이면 청크를 읽기 전, 각 청크를 저장하기 전(가상 스레드에는 임대를 넘긴다),
+ *     체크포인트를 쓰기 전마다 임대를 확인하며, 잃었으면 더 쓰지 않고 중단한다 (임대를 가져간 인스턴스가 이어서 처리한다).</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ChunkJobRunner {
+    private static final String SELECT_CHECKPOINT = """
+            SELECT status, last_key, chunk_count, read_count, written_count, failed_chunks, started_at, updated_at
+            FROM batch_job_checkpoint
+            WHERE job_name = :jobName
+            """;
+    private static final String INSERT_CHECKPOINT = """
+            INSERT INTO batch_job_checkpoint (job_name, status, last_key, chunk_count, read_count, written_count,
+                                              failed_chunks, started_at, updated_at, finished_at)
+            VALUES (:jobName, :status, :lastKey, :chunkCount, :readCount, :writtenCount,
+                    :failedChunks, :startedAt, :updatedAt, :finishedAt)
+            """;
+    private static final String UPDATE_CHECKPOINT = """
+            UPDATE batch_job_checkpoint
+            SET status = :status, last_key = :lastKey, chunk_count = :chunkCount, read_count = :readCount,
+                written_count = :writtenCount, failed_chunks = :failedChunks, started_at = :startedAt,
+                updated_at = :updatedAt, finished_at = :finishedAt
+            WHERE job_name = :jobName
+            """;
+    private static final String SELECT_CHECKPOINTS = """
+            SELECT job_name, status, last_key, chunk_count, read_count, written_count, failed_chunks,
+                   started_at, updated_at, finished_at
+            FROM batch_job_checkpoint
+            ORDER BY job_name
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final long resumeWindowHours;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    /** 이 인스턴스에서 실행 중인 작업 */
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, ChunkJobResult> lastResults = new ConcurrentHashMap<>();
+
+    private volatile boolean stopping;
+
+    public ChunkJobRunner(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            SchedulerLock schedulerLock,
+            @Value("${app.batch.resume-window-hours:12}") long resumeWindowHours
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.schedulerLock = schedulerLock;
+        this.resumeWindowHours = resumeWindowHours;
+    }
+
+    /**
+     * 종료 시 새 청크는 읽지 않고, 진행 중인 청크가 끝나면 체크포인트를 STOPPED 로 남긴다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Batch job chunks still running at shutdown: {}", runningJobs);
+        }
+    }
+
+    /**
+     * 작업을 실행한다 (이전 실행이 끝나지 않았으면 마지막 체크포인트부터 이어서).
+     *
+     * @return 이번 실행 결과
+     * @throws IllegalStateException       이 인스턴스에서 같은 작업이 이미 실행 중인 경우
+     * @throws SchedulerLeaseLostException 실행 중 임대를 잃은 경우
+     */
+    public <I, O> ChunkJobResult run(ChunkJob<I, O> job) {
+        if (!runningJobs.add(job.getName())) {
+            throw new IllegalStateException("이미 실행 중인 배치 작업입니다: " + job.getName());
+        }
+        try {
+            return execute(job);
+        } finally {
+            runningJobs.remove(job.getName());
+        }
+    }
+
+    /**
+     * 작업별 체크포인트와 이 인스턴스의 마지막 실행 결과
+     */
+    public List<BatchJobDto> getJobs() {
+        List<BatchJobDto> jobs = new ArrayList<>();
+        namedParameterJdbcTemplate.getJdbcTemplate().query(SELECT_CHECKPOINTS, rs -> {
+            String jobName = rs.getString("job_name");
+            Timestamp finishedAt = rs.getTimestamp("finished_at");
+            ChunkJobResult lastResult = lastResults.get(jobName);
+            BatchJobDto.BatchJobDtoBuilder builder = BatchJobDto.builder()
+                    .jobName(jobName)
+                    .status(BatchJobStatus.valueOf(rs.getString("status")))
+                    .lastKey(rs.getLong("last_key"))
+                    .chunkCount(rs.getLong("chunk_count"))
+                    .readCount(rs.getLong("read_count"))
+                    .writtenCount(rs.getLong("written_count"))
+                    .failedChunks(rs.getLong("failed_chunks"))
+                    .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+                    .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                    .finishedAt(finishedAt == null ? null : finishedAt.toLocalDateTime())
+                    .runningOnThisInstance(runningJobs.contains(jobName));
+            if (lastResult != null) {
+                builder.lastRunStatus(lastResult.status())
+                        .lastRunChunkCount(lastResult.chunkCount())
+                        .lastRunReadCount(lastResult.readCount())
+                        .lastRunWrittenCount(lastResult.writtenCount())
+                        .lastRunReadMillis(lastResult.readMillis())
+                        .lastRunProcessMillis(lastResult.processMillis())
+                        .lastRunWriteMillis(lastResult.writeMillis())
+                        .lastRunMaxChunkMillis(lastResult.maxChunkMillis())
+                        .lastRunElapsedMillis(lastResult.elapsedMillis())
+                        .lastRunItemsPerSecond(lastResult.itemsPerSecond())
+                        .lastRunFinishedAt(lastResult.finishedAt());
+            }
+            jobs.add(builder.build());
+        });
+        return jobs;
+    }
+
+    private <I, O> ChunkJobResult execute(ChunkJob<I, O> job) {
+        long startedAt = System.currentTimeMillis();
+        Progress progress = startOrResume(job.getName());
+        long resumedFromKey = progress.lastKey;
+        Metrics metrics = new Metrics();
+        Deque<InFlightChunk> inFlight = new ArrayDeque<>();
+        long readKey = progress.lastKey;
+        BatchJobStatus status = BatchJobStatus.COMPLETED;
+        // 임대는 스레드 로컬이므로 청크를 실행하는 가상 스레드에는 직접 넘긴다
+        SchedulerLock.HeldLease lease = schedulerLock.currentLease();
+        try {
+            while (true) {
+                if (stopping) {
+                    status = BatchJobStatus.STOPPED;
+                    break;
+                }
+                schedulerLock.ensureLeaseHeld(lease);
+                long readStartedAt = System.nanoTime();
+                List<I> items = job.getReader().read(readKey, job.getChunkSize());
+                metrics.readNanos += System.nanoTime() - readStartedAt;
+                if (items.isEmpty()) {
+                    break;
+                }
+                long fromKey = readKey;
+                readKey = job.getKeyExtractor().applyAsLong(items.get(items.size() - 1));
+                long toKey = readKey;
+                inFlight.add(new InFlightChunk(toKey, items.size(),
+                        executor.submit(() -> processChunk(job, lease, items, fromKey, toKey))));
+                // 앞 청크부터 끝난 것을 반영하고, 동시 실행 수가 찼으면 가장 앞 청크를 기다린다
+                while (status == BatchJobStatus.COMPLETED && !inFlight.isEmpty()
+                        && (inFlight.size() >= job.getParallelism() || inFlight.peekFirst().outcome().isDone())) {
+                    if (!complete(job, lease, inFlight.pollFirst(), progress, metrics)) {
+                        status = BatchJobStatus.FAILED;
+                    }
+                }
+                if (status == BatchJobStatus.FAILED || items.size() < job.getChunkSize()) {
+                    break;
+                }
+            }
+            while (status != BatchJobStatus.FAILED && !inFlight.isEmpty()) {
+                if (!complete(job, lease, inFlight.pollFirst(), progress, metrics)) {
+                    status = BatchJobStatus.FAILED;
+                }
+            }
+            awaitQuietly(inFlight);
+        } catch (SchedulerLeaseLostException e) {
+            inFlight.forEach(chunk -> chunk.outcome().cancel(true));
+            record(job, BatchJobStatus.STOPPED, resumedFromKey, progress, metrics, startedAt);
+            throw e;
+        } catch (RuntimeException e) {
+            inFlight.forEach(chunk -> chunk.outcome().cancel(true));
+            saveCheckpoint(job.getName(), progress, BatchJobStatus.FAILED);
+            record(job, BatchJobStatus.FAILED, resumedFromKey, progress, metrics, startedAt);
+            throw e;
+        }
+        saveCheckpoint(job.getName(), progress, status);
+        return record(job, status, resumedFromKey, progress, metrics, startedAt);
+    }
+
+    private <I, O> ChunkOutcome processChunk(ChunkJob<I, O> job, SchedulerLock.HeldLease lease, List<I> items,
+                                             long fromKey, long toKey) {
+        long startedAt = System.nanoTime();
+        try {
+            List<O> output = job.getProcessor().process(items);
+            long processedAt = System.nanoTime();
+            int written = 0;
+            if (!output.isEmpty()) {
+                schedulerLock.ensureLeaseHeld(lease);
+                written = job.getWriter().write(output);
+            }
+            long writtenAt = System.nanoTime();
+            log.debug("Batch job {} chunk ({}..{}]: read {}, written {} in {} ms",
+                    job.getName(), fromKey, toKey, items.size(), written,
+                    TimeUnit.NANOSECONDS.toMillis(writtenAt - startedAt));
+            return new ChunkOutcome(written, false, processedAt - startedAt, writtenAt - processedAt);
+        } catch (SchedulerLeaseLostException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Batch job {} chunk ({}..{}] failed: {}", job.getName(), fromKey, toKey, e.getMessage());
+            return new ChunkOutcome(0, true, System.nanoTime() - startedAt, 0);
+        }
+    }
+
+    /**
+     * 가장 앞 청크의 결과를 반영하고 체크포인트를 그 청크까지 옮긴다.
+     *
+     * @return 청크가 실패했으면 false (체크포인트는 옮기지 않는다)
+     */
+    private boolean complete(ChunkJob<?, ?> job, SchedulerLock.HeldLease lease, InFlightChunk chunk,
+                             Progress progress, Metrics metrics) {
+        ChunkOutcome outcome;
+        try {
+            outcome = chunk.outcome().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배치 작업이 중단되었습니다: " + job.getName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SchedulerLeaseLostException leaseLost) {
+                throw leaseLost;
+            }
+            throw new IllegalStateException("배치 작업 청크 실행에 실패했습니다: " + job.getName(), e.getCause());
+        }
+        metrics.processNanos += outcome.processNanos();
+        metrics.writeNanos += outcome.writeNanos();
+        metrics.maxChunkNanos = Math.max(metrics.maxChunkNanos, outcome.processNanos() + outcome.writeNanos());
+        if (outcome.failed()) {
+            progress.failedChunks++;
+            metrics.failedChunks++;
+            return false;
+        }
+        progress.lastKey = chunk.lastKey();
+        progress.chunkCount++;
+        progress.readCount += chunk.size();
+        progress.writtenCount += outcome.written();
+        metrics.chunkCount++;
+        metrics.readCount += chunk.size();
+        metrics.writtenCount += outcome.written();
+        schedulerLock.ensureLeaseHeld(lease);
+        saveCheckpoint(job.getName(), progress, BatchJobStatus.RUNNING);
+        return true;
+    }
+
+    /**
+     * 실패한 청크 뒤에 이미 시작한 청크가 끝나기를 기다린다 (결과는 체크포인트에 반영하지 않는다)
+     */
+    private static void awaitQuietly(Deque<InFlightChunk> inFlight) {
+        for (InFlightChunk chunk : inFlight) {
+            try {
+                chunk.outcome().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // 다음 실행에서 다시 처리된다
+            }
+        }
+        inFlight.clear();
+    }
+
+    private Progress startOrResume(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Progress> existing = namedParameterJdbcTemplate.query(SELECT_CHECKPOINT,
+                new MapSqlParameterSource("jobName", jobName), (rs, rowNum) -> {
+                    Progress progress = new Progress();
+                    progress.status = BatchJobStatus.valueOf(rs.getString("status"));
+                    progress.lastKey = rs.getLong("last_key");
+                    progress.chunkCount = rs.getLong("chunk_count");
+                    progress.readCount = rs.getLong("read_count");
+                    progress.writtenCount = rs.getLong("written_count");
+                    progress.failedChunks = rs.getLong("failed_chunks");
+                    progress.startedAt = rs.getTimestamp("started_at").toLocalDateTime();
+                    progress.updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+                    return progress;
+                });
+        if (!existing.isEmpty()) {
+            Progress previous = existing.get(0);
+            if (previous.status != BatchJobStatus.COMPLETED
+                    && previous.updatedAt.isAfter(now.minusHours(resumeWindowHours))) {
+                log.info("Resuming batch job {} ({}) after key {} ({} items already read)",
+                        jobName, previous.status, previous.lastKey, previous.readCount);
+                saveCheckpoint(jobName, previous, BatchJobStatus.RUNNING);
+                return previous;
+            }
+        }
+        Progress progress = new Progress();
+        progress.startedAt = now;
+        MapSqlParameterSource params = checkpointParams(jobName, progress, BatchJobStatus.RUNNING);
+        if (namedParameterJdbcTemplate.update(UPDATE_CHECKPOINT, params) == 0) {
+            namedParameterJdbcTemplate.update(INSERT_CHECKPOINT, params);
+        }
+        return progress;
+    }
+
+    private void saveCheckpoint(String jobName, Progress progress, BatchJobStatus status) {
+        namedParameterJdbcTemplate.update(UPDATE_CHECKPOINT, checkpointParams(jobName, progress, status));
+    }
+
+    private static MapSqlParameterSource checkpointParams(String jobName, Progress progress, BatchJobStatus status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("status", status.name())
+                .addValue("lastKey", progress.lastKey)
+                .addValue("chunkCount", progress.chunkCount)
+                .addValue("readCount", progress.readCount)
+                .addValue("writtenCount", progress.writtenCount)
+                .addValue("failedChunks", progress.failedChunks)
+                .addValue("startedAt", Timestamp.valueOf(progress.startedAt))
+                .addValue("updatedAt", now)
+                .addValue("finishedAt", status == BatchJobStatus.COMPLETED ? now : null);
+    }
+
+    private ChunkJobResult record(ChunkJob<?, ?> job, BatchJobStatus status, long resumedFromKey,
+                                  Progress progress, Metrics metrics, long startedAt) {
+        ChunkJobResult result = new ChunkJobResult(job.getName(), status, resumedFromKey, progress.lastKey,
+                metrics.chunkCount, metrics.readCount, metrics.writtenCount, metrics.failedChunks,
+                TimeUnit.NANOSECONDS.toMillis(metrics.readNanos),
+                TimeUnit.NANOSECONDS.toMillis(metrics.processNanos),
+                TimeUnit.NANOSECONDS.toMillis(metrics.writeNanos),
+                TimeUnit.NANOSECONDS.toMillis(metrics.maxChunkNanos),
+                System.currentTimeMillis() - startedAt,
+                LocalDateTime.now());
+        lastResults.put(job.getName(), result);
+        log.info("Batch job {} {}: {} chunks, read {}, written {}, {} failed chunks in {} ms "
+                        + "(read {} ms, process {} ms, write {} ms, slowest chunk {} ms, {} items/s)",
+                job.getName(), status, result.chunkCount(), result.readCount(), result.writtenCount(),
+                result.failedChunks(), result.elapsedMillis(), result.readMillis(), result.processMillis(),
+                result.writeMillis(), result.maxChunkMillis(), Math.round(result.itemsPerSecond()));
+        return result;
+    }
+
+    /** 체크포인트에 기록하는 누적 진행 상황 (이어서 실행하면 이전 실행분 포함) */
+    private static final class Progress {
+        private BatchJobStatus status = BatchJobStatus.RUNNING;
+        private long lastKey;
+        private long chunkCount;
+        private long readCount;
+        private long writtenCount;
+        private long failedChunks;
+        private LocalDateTime startedAt;
+        private LocalDateTime updatedAt;
+    }
+
+    /** 이번 실행의 처리 건수와 단계별 시간 */
+    private static final class Metrics {
+        private long chunkCount;
+        private long readCount;
+        private long writtenCount;
+        private long failedChunks;
+        private long readNanos;
+        private long processNanos;
+        private long writeNanos;
+        private long maxChunkNanos;
+    }
+
+    private record InFlightChunk(long lastKey, int size, Future<ChunkOutcome> outcome) {
+    }
+
+    private record ChunkOutcome(int written, boolean failed, long processNanos, long writeNanos) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import java.util.List;
+
+/**
+ * 청크 변환 (집계 쿼리 등). 작업 스레드에서 여러 청크가 동시에 실행될 수 있다.
+ *
+ * @param <I> 읽은 항목
+ * @param <O> 저장할 항목
+ */
+@FunctionalInterface
+public interface ChunkProcessor<I, O> {
+
+    List<O> process(List<I> items);
+}
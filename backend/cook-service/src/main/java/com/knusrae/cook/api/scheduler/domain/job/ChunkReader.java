@@ -0,0 +1,19 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import java.util.List;
+
+/**
+ * 청크 읽기. 키 순으로 정렬해 읽어야 체크포인트(마지막 키) 다음부터 이어 읽을 수 있다.
+ *
+ * @param <I> 읽는 항목
+ */
+@FunctionalInterface
+public interface ChunkReader<I> {
+
+    /**
+     * @param lastKey 이 키보다 큰 항목부터 (처음이면 0)
+     * @param limit   최대 개수
+     * @return 키 오름차순 항목 (비어 있거나 limit 보다 적으면 마지막 청크)
+     */
+    List<I> read(long lastKey, int limit);
+}
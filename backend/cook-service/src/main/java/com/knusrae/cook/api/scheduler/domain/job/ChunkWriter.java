@@ -0,0 +1,17 @@
+package com.knusrae.cook.api.scheduler.domain.job;
+
+import java.util.List;
+
+/**
+ * 청크 저장. 중단 후 이어서 실행하면 마지막 체크포인트 이후 청크가 다시 저장될 수 있으므로 멱등이어야 한다 (upsert, 조건부 삭제 등).
+ *
+ * @param <O> 저장할 항목
+ */
+@FunctionalInterface
+public interface ChunkWriter<O> {
+
+    /**
+     * @return 반영된 행 수
+     */
+    int write(List<O> items);
+}
@@ -0,0 +1,11 @@
+package com.knusrae.cook.api.scheduler.domain.lock;
+
+/**
+ * 작업 도중 임대를 잃었을 때 (갱신 실패, 다른 인스턴스가 더 큰 fencing token 으로 획득)
+ */
+public class SchedulerLeaseLostException extends RuntimeException {
+
+    public SchedulerLeaseLostException(String leaseName, long fencingToken) {
+        super("배치 작업 임대를 잃었습니다. lease=" + leaseName + ", token=" + fencingToken);
+    }
+}
@@ -0,0 +1,352 @@
+package com.knusrae.cook.api.scheduler.domain.lock;
+
+import com.knusrae.cook.api.scheduler.dto.SchedulerLeaseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클러스터 단위 배치 작업 잠금 (scheduler_lease 임대 테이블).
+ * 여러 인스턴스가 같은 스케줄로 작업을 시작해도 임대를 획득한 한 인스턴스만 실행하고 나머지는 건너뛴다.
+ *
+ * <ul>
+ *     <li>획득: 만료됐거나 비어 있는 임대를 조건부 UPDATE(없으면 INSERT) 한 번으로 가져오며, 이때 fencing token 이 1 증가한다.</li>
+ *     <li>갱신: 작업이 도는 동안 lease-ttl 의 1/3 주기로 만료 시각을 늘린다. 조건에 토큰이 들어가므로 다른 인스턴스가
+ *     이미 가져간 임대는 갱신되지 않고 잃은 것으로 표시된다.</li>
+ *     <li>해제: 끝나면 만료 시각을 당기되 획득 후 min-hold 까지는 유지한다. 인스턴스마다 cron 이 몇 초씩 어긋나 울려도
+ *     방금 끝난 작업을 다른 인스턴스가 다시 실행하지 않는다.</li>
+ *     <li>펜싱: 긴 작업은 쓰기 전에 {@link #ensureLeaseHeld()} 로 임대를 아직 가지고 있는지 확인한다.
+ *     잃었거나 마지막 갱신 후 TTL 이 지났으면 {@link SchedulerLeaseLostException} 으로 중단한다.
+ *     작업 스레드가 아닌 곳(병렬 청크 등)에서 쓸 때는 {@link #currentLease()} 로 꺼낸 임대를 넘겨
+ *     {@link #ensureLeaseHeld(HeldLease)} 로 확인한다.
+ *     이 확인은 인스턴스 안에서만 이뤄지므로, 확인 직후 멈췄던 이전 보유자가 새 보유자 이후에 쓰는 것까지 막지는 못한다.
+ *     한 번 쓰면 되돌리기 어려운 쓰기(순위 스냅샷 등)는 쓰기 트랜잭션 안에서 {@link #fenceWrite()} 로 DB 의 임대 행을
+ *     잠가 토큰을 확인하며, 커밋할 때까지 다른 인스턴스는 임대를 가져가지 못한다.
+ *     청크 작업의 쓰기는 다시 계산해 덮어쓰는 값이라 인스턴스 안의 확인만 한다.</li>
+ * </ul>
+ * 만료 판단은 각 인스턴스의 시계를 쓰므로 인스턴스 간 시계 차이는 lease-ttl 보다 충분히 작아야 한다.
+ */
+@Component
+@Slf4j
+public class SchedulerLock {
+    private static final String TRY_TAKE_OVER = """
+            UPDATE scheduler_lease
+            SET owner_id = :ownerId, fencing_token = fencing_token + 1,
+                acquired_at = :now, renewed_at = :now, expires_at = :expiresAt
+            WHERE lease_name = :leaseName AND expires_at < :now
+            """;
+    private static final String INSERT_LEASE = """
+            INSERT INTO scheduler_lease (lease_name, owner_id, fencing_token, acquired_at, renewed_at, expires_at)
+            VALUES (:leaseName, :ownerId, 1, :now, :now, :expiresAt)
+            """;
+    private static final String SELECT_TOKEN = """
+            SELECT fencing_token FROM scheduler_lease
+            WHERE lease_name = :leaseName AND owner_id = :ownerId
+            """;
+    private static final String RENEW_LEASE = """
+            UPDATE scheduler_lease
+            SET renewed_at = :now, expires_at = :expiresAt
+            WHERE lease_name = :leaseName AND owner_id = :ownerId AND fencing_token = :fencingToken
+            """;
+    private static final String RELEASE_LEASE = """
+            UPDATE scheduler_lease
+            SET expires_at = :expiresAt
+            WHERE lease_name = :leaseName AND owner_id = :ownerId AND fencing_token = :fencingToken
+            """;
+    private static final String LOCK_HELD_LEASE = """
+            SELECT fencing_token FROM scheduler_lease
+            WHERE lease_name = :leaseName AND owner_id = :ownerId AND fencing_token = :fencingToken
+            FOR UPDATE
+            """;
+    private static final String SELECT_LEASES = """
+            SELECT lease_name, owner_id, fencing_token, acquired_at, renewed_at, expires_at
+            FROM scheduler_lease
+            ORDER BY lease_name
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final String instanceId;
+    private final long leaseTtlMs;
+    private final long minHoldMs;
+    private final ScheduledExecutorService renewer;
+    /** 이 인스턴스가 지금 실행 중인 작업의 임대 */
+    private final Map<String, HeldLease> heldLeases = new ConcurrentHashMap<>();
+    private final Map<String, LeaseStats> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<HeldLease> currentLease = new ThreadLocal<>();
+
+    public SchedulerLock(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${app.scheduler.lock.instance-id:}") String instanceId,
+            @Value("${app.scheduler.lock.lease-ttl-ms:60000}") long leaseTtlMs,
+            @Value("${app.scheduler.lock.min-hold-ms:30000}") long minHoldMs
+    ) {
+        if (leaseTtlMs < 3000) {
+            throw new IllegalArgumentException("배치 작업 임대 시간은 3초 이상이어야 합니다.");
+        }
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.leaseTtlMs = leaseTtlMs;
+        this.minHoldMs = minHoldMs;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("scheduler-lease-renewer")
+                .daemon(true)
+                .factory());
+        long renewIntervalMs = leaseTtlMs / 3;
+        this.renewer.scheduleWithFixedDelay(this::renewHeldLeases, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        renewer.shutdownNow();
+    }
+
+    /**
+     * 임대를 획득했을 때만 작업을 실행한다. 다른 인스턴스(또는 이 인스턴스의 다른 스레드)가 실행 중이면 건너뛴다.
+     *
+     * @param leaseName 작업 이름 (클러스터 전체에서 같은 이름끼리 배타적)
+     * @param task      실행할 작업
+     * @return 실행했으면 true, 건너뛰었으면 false
+     */
+    public boolean runExclusively(String leaseName, Runnable task) {
+        LeaseStats leaseStats = stats.computeIfAbsent(leaseName, name -> new LeaseStats());
+        HeldLease lease = tryAcquire(leaseName);
+        if (lease == null) {
+            leaseStats.skipped.incrementAndGet();
+            log.debug("Scheduler lease {} is held elsewhere, skipping", leaseName);
+            return false;
+        }
+        leaseStats.acquired.incrementAndGet();
+        long startedAt = System.currentTimeMillis();
+        currentLease.set(lease);
+        try {
+            task.run();
+            return true;
+        } finally {
+            currentLease.remove();
+            heldLeases.remove(leaseName, lease);
+            leaseStats.lastRunMillis = System.currentTimeMillis() - startedAt;
+            leaseStats.lastRunAt = LocalDateTime.now();
+            if (lease.lost) {
+                leaseStats.lost.incrementAndGet();
+            } else {
+                release(lease);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 실행 중인 작업의 임대를 아직 가지고 있는지 확인 (임대 없이 실행 중이면 아무것도 하지 않는다)
+     *
+     * @throws SchedulerLeaseLostException 임대를 잃었거나 마지막 갱신 후 TTL 이 지난 경우
+     */
+    public void ensureLeaseHeld() {
+        ensureLeaseHeld(currentLease.get());
+    }
+
+    /**
+     * 넘겨받은 임대를 아직 가지고 있는지 확인 (null 이면 아무것도 하지 않는다)
+     *
+     * @param lease {@link #currentLease()} 로 꺼낸 임대
+     * @throws SchedulerLeaseLostException 임대를 잃었거나 마지막 갱신 후 TTL 이 지난 경우
+     */
+    public void ensureLeaseHeld(HeldLease lease) {
+        if (lease == null) {
+            return;
+        }
+        if (lease.lost || System.currentTimeMillis() - lease.renewedAtMillis >= leaseTtlMs) {
+            lease.lost = true;
+            throw new SchedulerLeaseLostException(lease.leaseName, lease.fencingToken);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 이 스레드가 잡은 임대 행을 잠그고 토큰이 그대로인지 DB 에서 확인한다
+     * (임대 없이 실행 중이면 아무것도 하지 않는다). 트랜잭션이 끝날 때까지 다른 인스턴스의 임대 획득이 기다리므로
+     * 확인과 쓰기 사이에 임대가 넘어가지 않는다. 반드시 쓰기와 같은 트랜잭션 안에서 호출한다.
+     *
+     * @throws SchedulerLeaseLostException 임대를 잃었거나 다른 인스턴스가 가져간 경우
+     */
+    public void fenceWrite() {
+        HeldLease lease = currentLease.get();
+        if (lease == null) {
+            return;
+        }
+        ensureLeaseHeld(lease);
+        List<Long> tokens = namedParameterJdbcTemplate.queryForList(LOCK_HELD_LEASE, new MapSqlParameterSource()
+                .addValue("leaseName", lease.leaseName)
+                .addValue("ownerId", instanceId)
+                .addValue("fencingToken", lease.fencingToken), Long.class);
+        if (tokens.isEmpty()) {
+            lease.lost = true;
+            throw new SchedulerLeaseLostException(lease.leaseName, lease.fencingToken);
+        }
+    }
+
+    /**
+     * 현재 스레드가 실행 중인 작업의 임대 (임대 없이 실행 중이면 null).
+     * 스레드 로컬이므로 다른 스레드에서 펜싱을 확인하려면 이 값을 넘겨야 한다.
+     */
+    public HeldLease currentLease() {
+        return currentLease.get();
+    }
+
+    /**
+     * 임대 현황 (DB 의 현재 보유자 + 이 인스턴스의 획득·건너뜀·상실 횟수)
+     */
+    public List<SchedulerLeaseDto> getLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SchedulerLeaseDto> leases = new ArrayList<>();
+        namedParameterJdbcTemplate.getJdbcTemplate().query(SELECT_LEASES, rs -> {
+            String leaseName = rs.getString("lease_name");
+            String ownerId = rs.getString("owner_id");
+            LocalDateTime expiresAt = rs.getTimestamp("expires_at").toLocalDateTime();
+            LeaseStats leaseStats = stats.getOrDefault(leaseName, new LeaseStats());
+            leases.add(SchedulerLeaseDto.builder()
+                    .leaseName(leaseName)
+                    .ownerId(ownerId)
+                    .fencingToken(rs.getLong("fencing_token"))
+                    .acquiredAt(rs.getTimestamp("acquired_at").toLocalDateTime())
+                    .renewedAt(rs.getTimestamp("renewed_at").toLocalDateTime())
+                    .expiresAt(expiresAt)
+                    .active(expiresAt.isAfter(now))
+                    .heldByThisInstance(heldLeases.containsKey(leaseName))
+                    .thisInstanceId(instanceId)
+                    .acquiredCount(leaseStats.acquired.get())
+                    .skippedCount(leaseStats.skipped.get())
+                    .lostCount(leaseStats.lost.get())
+                    .lastRunMillis(leaseStats.lastRunMillis)
+                    .lastRunAt(leaseStats.lastRunAt)
+                    .build());
+        });
+        return leases;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private HeldLease tryAcquire(String leaseName) {
+        if (heldLeases.containsKey(leaseName)) {
+            // 이 인스턴스에서 이전 실행이 아직 끝나지 않았다
+            return null;
+        }
+        long nowMillis = System.currentTimeMillis();
+        MapSqlParameterSource params = leaseParams(leaseName, nowMillis);
+        int updated = namedParameterJdbcTemplate.update(TRY_TAKE_OVER, params);
+        if (updated == 0) {
+            try {
+                namedParameterJdbcTemplate.update(INSERT_LEASE, params);
+            } catch (DuplicateKeyException e) {
+                // 아직 만료되지 않은 다른 보유자가 있다
+                return null;
+            }
+        }
+        Long fencingToken = namedParameterJdbcTemplate.queryForObject(SELECT_TOKEN, params, Long.class);
+        HeldLease lease = new HeldLease(leaseName, fencingToken, nowMillis);
+        if (heldLeases.putIfAbsent(leaseName, lease) != null) {
+            return null;
+        }
+        log.debug("Scheduler lease {} acquired by {} (token={})", leaseName, instanceId, fencingToken);
+        return lease;
+    }
+
+    private void renewHeldLeases() {
+        for (HeldLease lease : heldLeases.values()) {
+            if (lease.lost) {
+                continue;
+            }
+            long nowMillis = System.currentTimeMillis();
+            try {
+                int renewed = namedParameterJdbcTemplate.update(RENEW_LEASE,
+                        leaseParams(lease.leaseName, nowMillis).addValue("fencingToken", lease.fencingToken));
+                if (renewed == 0) {
+                    lease.lost = true;
+                    log.warn("Scheduler lease {} (token={}) was taken over, stopping at next fencing check",
+                            lease.leaseName, lease.fencingToken);
+                } else {
+                    lease.renewedAtMillis = nowMillis;
+                }
+            } catch (Exception e) {
+                // 갱신하지 못한 채 TTL 이 지나면 ensureLeaseHeld() 에서 중단된다
+                log.warn("Failed to renew scheduler lease {}: {}", lease.leaseName, e.getMessage());
+            }
+        }
+    }
+
+    private void release(HeldLease lease) {
+        long nowMillis = System.currentTimeMillis();
+        try {
+            namedParameterJdbcTemplate.update(RELEASE_LEASE, new MapSqlParameterSource()
+                    .addValue("leaseName", lease.leaseName)
+                    .addValue("ownerId", instanceId)
+                    .addValue("fencingToken", lease.fencingToken)
+                    .addValue("expiresAt", new Timestamp(Math.max(nowMillis, lease.acquiredAtMillis + minHoldMs))));
+        } catch (Exception e) {
+            // 해제하지 못해도 TTL 이 지나면 다른 인스턴스가 가져간다
+            log.warn("Failed to release scheduler lease {}: {}", lease.leaseName, e.getMessage());
+        }
+    }
+
+    private MapSqlParameterSource leaseParams(String leaseName, long nowMillis) {
+        return new MapSqlParameterSource()
+                .addValue("leaseName", leaseName)
+                .addValue("ownerId", instanceId)
+                .addValue("now", new Timestamp(nowMillis))
+                .addValue("expiresAt", new Timestamp(nowMillis + leaseTtlMs));
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        // 같은 호스트에서 여러 인스턴스를 띄워도 구분되도록 pid 와 임의 값을 붙인다
+        return host + ":" + ManagementFactory.getRuntimeMXBean().getPid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 이 인스턴스가 잡고 있는 임대 (확인은 {@link #ensureLeaseHeld(HeldLease)} 로)
+     */
+    public static final class HeldLease {
+        private final String leaseName;
+        private final long fencingToken;
+        private final long acquiredAtMillis;
+        private volatile long renewedAtMillis;
+        private volatile boolean lost;
+
+        private HeldLease(String leaseName, long fencingToken, long acquiredAtMillis) {
+            this.leaseName = leaseName;
+            this.fencingToken = fencingToken;
+            this.acquiredAtMillis = acquiredAtMillis;
+            this.renewedAtMillis = acquiredAtMillis;
+        }
+    }
+
+    private static final class LeaseStats {
+        private final AtomicLong acquired = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong lost = new AtomicLong();
+        private volatile Long lastRunMillis;
+        private volatile LocalDateTime lastRunAt;
+    }
+}
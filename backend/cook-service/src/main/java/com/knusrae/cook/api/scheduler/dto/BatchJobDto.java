@@ -0,0 +1,41 @@
+package com.knusrae.cook.api.scheduler.dto;
+
+import com.knusrae.cook.api.scheduler.domain.enums.BatchJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 배치 작업 현황 (DB 체크포인트 + 이 인스턴스의 마지막 실행 통계)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BatchJobDto {
+    private String jobName;
+    private BatchJobStatus status;
+    private Long lastKey;
+    private Long chunkCount;
+    private Long readCount;
+    private Long writtenCount;
+    private Long failedChunks;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    private Boolean runningOnThisInstance;
+
+    private BatchJobStatus lastRunStatus;
+    private Long lastRunChunkCount;
+    private Long lastRunReadCount;
+    private Long lastRunWrittenCount;
+    private Long lastRunReadMillis;
+    private Long lastRunProcessMillis;
+    private Long lastRunWriteMillis;
+    private Long lastRunMaxChunkMillis;
+    private Long lastRunElapsedMillis;
+    private Double lastRunItemsPerSecond;
+    private LocalDateTime lastRunFinishedAt;
+}
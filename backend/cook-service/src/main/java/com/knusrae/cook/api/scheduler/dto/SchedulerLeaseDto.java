@@ -0,0 +1,31 @@
+package com.knusrae.cook.api.scheduler.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 임대 현황 (DB 보유자 + 이 인스턴스의 실행 통계)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SchedulerLeaseDto {
+    private String leaseName;
+    private String ownerId;
+    private Long fencingToken;
+    private LocalDateTime acquiredAt;
+    private LocalDateTime renewedAt;
+    private LocalDateTime expiresAt;
+    private Boolean active;
+    private Boolean heldByThisInstance;
+    private String thisInstanceId;
+    private Long acquiredCount;
+    private Long skippedCount;
+    private Long lostCount;
+    private Long lastRunMillis;
+    private LocalDateTime lastRunAt;
+}
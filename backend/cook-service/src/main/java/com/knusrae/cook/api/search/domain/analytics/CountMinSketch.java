@@ -0,0 +1,73 @@
+package com.knusrae.cook.api.search.domain.analytics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치.
+ * 키 개수와 관계없이 depth x width 카운터만 사용하며, 추정값은 실제 빈도 이상(과대 추정)이다.
+ * 동기화하지 않으므로 호출 측에서 한 스레드(또는 잠금) 안에서만 사용한다.
+ */
+public class CountMinSketch {
+    private final int width;
+    private final long[][] counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("스케치 크기는 1 이상이어야 합니다: width=" + width + ", depth=" + depth);
+        }
+        this.width = width;
+        this.counters = new long[depth][width];
+    }
+
+    public void add(String key, long count) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < counters.length; row++) {
+            counters[row][bucket(h1, h2, row)] += count;
+        }
+    }
+
+    public long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            min = Math.min(min, counters[row][bucket(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (long[] row : counters) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    /**
+     * 행별 버킷 (이중 해싱: h1 + row * h2)
+     */
+    private int bucket(int h1, int h2, int row) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * 64비트 해시 (UTF-8 바이트 FNV-1a 후 비트 혼합).
+     * String.hashCode 의 32비트에서 펼치면 hashCode 가 같은 검색어는 모든 행에서 같은 칸에 모인다.
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
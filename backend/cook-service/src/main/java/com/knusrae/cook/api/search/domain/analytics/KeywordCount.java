@@ -0,0 +1,10 @@
+package com.knusrae.cook.api.search.domain.analytics;
+
+/**
+ * 검색어별 (추정) 검색 횟수
+ *
+ * @param keyword 정규화된 검색어
+ * @param count   검색 횟수
+ */
+public record KeywordCount(String keyword, long count) {
+}
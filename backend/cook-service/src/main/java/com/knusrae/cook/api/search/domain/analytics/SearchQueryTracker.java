@@ -0,0 +1,221 @@
+package com.knusrae.cook.api.search.domain.analytics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 인기 추적기 (슬라이딩 윈도우 Count-Min 스케치 + 상위 K 검색어).
+ * 검색 요청 스레드는 bounded 큐에 검색어를 넣기만 하고, 백그라운드 워커가 현재 슬롯 스케치와 상위 K 후보를 갱신한다.
+ * 윈도우는 window-slots 개의 슬롯으로 나뉘며 {@link #rotate()} 마다 가장 오래된 슬롯을 비워 재사용한다.
+ * 메모리는 슬롯 수 x 스케치 크기 + K 로 고정이며, 큐가 넘치면 검색어를 버린다(집계 누락만 생긴다).
+ */
+@Component
+@Slf4j
+public class SearchQueryTracker {
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    /** 집계하는 검색어 최대 길이 (초과분은 자른다) */
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final Comparator<KeywordCount> BY_COUNT_DESC = Comparator
+            .comparingLong(KeywordCount::count).reversed()
+            .thenComparing(KeywordCount::keyword);
+
+    private final BlockingQueue<String> queryQueue;
+    private final CountMinSketch[] slots;
+    private final long[] slotStartedAt;
+    private final int topK;
+    /** 상위 K 후보 검색어 -> 윈도우 추정 횟수 */
+    private final Map<String, Long> heavyHitters = new HashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private int currentSlot;
+    private volatile Thread worker;
+
+    public SearchQueryTracker(
+            @Value("${app.search.analytics.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.search.analytics.window-slots:12}") int windowSlots,
+            @Value("${app.search.analytics.sketch-width:4096}") int sketchWidth,
+            @Value("${app.search.analytics.sketch-depth:4}") int sketchDepth,
+            @Value("${app.search.analytics.top-k:200}") int topK
+    ) {
+        this.queryQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.slots = new CountMinSketch[windowSlots];
+        for (int i = 0; i < windowSlots; i++) {
+            slots[i] = new CountMinSketch(sketchWidth, sketchDepth);
+        }
+        this.slotStartedAt = new long[windowSlots];
+        this.slotStartedAt[0] = System.currentTimeMillis();
+        this.topK = topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        worker = Thread.ofPlatform()
+                .name("search-query-tracker")
+                .daemon(true)
+                .start(this::drainQueries);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current == null) {
+            return;
+        }
+        current.interrupt();
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 검색어 한 건 기록. 큐에 넣기만 하고 즉시 반환한다.
+     */
+    public void record(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        if (!queryQueue.offer(normalized)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 현재 슬롯을 닫고 다음 슬롯으로 넘긴다. 가장 오래된 슬롯은 비워져 윈도우에서 빠진다.
+     *
+     * @return 닫힌 슬롯의 상위 K 후보 검색어별 추정 횟수 (DB 집계 반영용)
+     */
+    public synchronized SlotCounts rotate() {
+        CountMinSketch closed = slots[currentSlot];
+        long closedStartedAt = slotStartedAt[currentSlot];
+        List<KeywordCount> counts = new ArrayList<>(heavyHitters.size());
+        for (String keyword : heavyHitters.keySet()) {
+            long count = closed.estimate(keyword);
+            if (count > 0) {
+                counts.add(new KeywordCount(keyword, count));
+            }
+        }
+
+        currentSlot = (currentSlot + 1) % slots.length;
+        slots[currentSlot].clear();
+        slotStartedAt[currentSlot] = System.currentTimeMillis();
+        // 빠져나간 슬롯만큼 추정값이 줄었으므로 후보 횟수를 다시 계산
+        heavyHitters.replaceAll((keyword, count) -> windowEstimate(keyword));
+        heavyHitters.values().removeIf(count -> count <= 0);
+
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Search query queue overflowed, dropped {} queries in last slot", dropped);
+        }
+        return new SlotCounts(closedStartedAt, counts);
+    }
+
+    /**
+     * 현재 윈도우의 상위 검색어
+     *
+     * @param limit 최대 개수
+     * @return 추정 횟수 내림차순
+     */
+    public synchronized List<KeywordCount> topKeywords(int limit) {
+        return heavyHitters.entrySet().stream()
+                .map(entry -> new KeywordCount(entry.getKey(), entry.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 검색어 정규화: 앞뒤 공백 제거, 연속 공백 축약, 소문자, 최대 길이 제한
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = WHITESPACES.matcher(keyword.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH) : normalized;
+    }
+
+    private void drainQueries() {
+        List<String> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                String first = queryQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queryQueue.drainTo(batch);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Failed to apply {} search queries to tracker", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void apply(List<String> keywords) {
+        Map<String, Long> counts = new HashMap<>();
+        keywords.forEach(keyword -> counts.merge(keyword, 1L, Long::sum));
+        counts.forEach((keyword, count) -> {
+            slots[currentSlot].add(keyword, count);
+            offerHeavyHitter(keyword, windowEstimate(keyword));
+        });
+    }
+
+    /**
+     * 상위 K 후보 갱신. 후보가 가득 차 있으면 가장 작은 후보보다 클 때만 교체한다.
+     */
+    private void offerHeavyHitter(String keyword, long estimate) {
+        if (heavyHitters.containsKey(keyword) || heavyHitters.size() < topK) {
+            heavyHitters.put(keyword, estimate);
+            return;
+        }
+        Map.Entry<String, Long> min = null;
+        for (Map.Entry<String, Long> entry : heavyHitters.entrySet()) {
+            if (min == null || entry.getValue() < min.getValue()) {
+                min = entry;
+            }
+        }
+        if (min != null && estimate > min.getValue()) {
+            heavyHitters.remove(min.getKey());
+            heavyHitters.put(keyword, estimate);
+        }
+    }
+
+    private long windowEstimate(String keyword) {
+        long sum = 0;
+        for (CountMinSketch slot : slots) {
+            sum += slot.estimate(keyword);
+        }
+        return sum;
+    }
+
+    /**
+     * 닫힌 슬롯의 집계
+     *
+     * @param startedAt 슬롯 시작 시각 (epoch millis)
+     * @param counts    상위 K 후보 검색어별 추정 횟수
+     */
+    public record SlotCounts(long startedAt, List<KeywordCount> counts) {
+    }
+}
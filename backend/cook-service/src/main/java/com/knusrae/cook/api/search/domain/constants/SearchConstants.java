@@ -0,0 +1,61 @@
+package com.knusrae.cook.api.search.domain.constants;
+
+/**
+ * 검색 관련 상수 정의
+ */
+public final class SearchConstants {
+    private SearchConstants() {
+        // 인스턴스 생성 방지
+    }
+
+    /** 검색 결과 최대 개수 (목록형 검색 API) */
+    public static final int MAX_SEARCH_RESULTS = 200;
+
+    /** 커서 기반 검색 - 기본 페이지 크기 */
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+
+    /** 커서 기반 검색 - 최대 페이지 크기 (요청값이 더 커도 이 값으로 제한) */
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+
+    /** 전체 일치 건수를 정확히 세는 상한. 넘으면 근사값(하한)으로 응답 */
+    public static final int TOTAL_HITS_THRESHOLD = 1000;
+
+    /** 자동완성 - 기본 후보 수 */
+    public static final int DEFAULT_SUGGESTION_SIZE = 10;
+
+    /** 자동완성 - 최대 후보 수 */
+    public static final int MAX_SUGGESTION_SIZE = 20;
+
+    /** 인기·급상승 검색어 - 기본 개수 */
+    public static final int DEFAULT_KEYWORD_RANKING_SIZE = 10;
+
+    /** 인기·급상승 검색어 - 최대 개수 (미리 계산해 두는 개수) */
+    public static final int MAX_KEYWORD_RANKING_SIZE = 20;
+
+    /** 보유 재료 검색 - 한 번에 입력할 수 있는 최대 재료 수 */
+    public static final int MAX_PANTRY_INGREDIENTS = 30;
+
+    /** 색인 재구축 시 한 번에 읽어오는 레시피 수 */
+    public static final int INDEX_REBUILD_BATCH_SIZE = 200;
+
+    /** 색인 필드 - 레시피 ID */
+    public static final String FIELD_ID = "id";
+
+    /** 색인 필드 - 레시피 ID (정렬용 doc values) */
+    public static final String FIELD_ID_SORT = "id_sort";
+
+    /** 색인 필드 - 레시피 ID (ID 집합 필터용 point) */
+    public static final String FIELD_ID_POINT = "id_point";
+
+    /** 색인 필드 - 제목 */
+    public static final String FIELD_TITLE = "title";
+
+    /** 색인 필드 - 소개 (recipe.introduction) */
+    public static final String FIELD_INTRODUCTION = "introduction";
+
+    /** 색인 필드 - 재료명 */
+    public static final String FIELD_INGREDIENT = "ingredient";
+
+    /** 색인 필드 - 조리 단계 설명 */
+    public static final String FIELD_STEP = "step";
+}
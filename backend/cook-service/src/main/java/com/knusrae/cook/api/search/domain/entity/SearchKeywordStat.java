@@ -0,0 +1,40 @@
+package com.knusrae.cook.api.search.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색어 시간 단위 집계
+ * 메모리 검색어 집계의 상위 검색어만 주기적으로 누적 (검색 요청마다 쓰지 않음)
+ */
+@Entity
+@Table(name = "search_keyword_stat",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_search_keyword_stat_bucket_keyword", columnNames = {"bucket_start", "keyword"})
+       },
+       indexes = {
+           @Index(name = "idx_search_keyword_stat_bucket_start", columnList = "bucket_start DESC")
+       })
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SearchKeywordStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    /** 집계 구간 시작 (정시) */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "search_count", nullable = false)
+    @Builder.Default
+    private Long searchCount = 0L;
+}
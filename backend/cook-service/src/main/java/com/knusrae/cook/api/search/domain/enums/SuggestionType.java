@@ -0,0 +1,5 @@
+package com.knusrae.cook.api.search.domain.enums;
+
+public enum SuggestionType {
+    RECIPE, INGREDIENT
+}
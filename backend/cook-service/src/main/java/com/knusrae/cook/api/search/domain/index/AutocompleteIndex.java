@@ -0,0 +1,178 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.search.suggest.InputIterator;
+import org.apache.lucene.search.suggest.Lookup;
+import org.apache.lucene.search.suggest.fst.WFSTCompletionLookup;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 자동완성 사전 (가중치 FST).
+ * 레시피 제목과 재료명을 종류별 FST로 만들어 두고, 접두어로 가중치가 높은 후보를 찾는다.
+ * FST는 불변이므로 갱신 시 새로 만든 스냅샷으로 통째로 교체하며, 조회는 잠금 없이 동작한다.
+ */
+@Component
+@Slf4j
+public class AutocompleteIndex {
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    /** WFST 가중치 상한 (int 범위만 인코딩 가능) */
+    private static final long MAX_WEIGHT = Integer.MAX_VALUE;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    /**
+     * 사전 전체를 새로 만들어 교체.
+     * 같은 문자열(정규화 기준)이 여러 건이면 가중치가 가장 높은 항목만 남긴다.
+     */
+    public void rebuild(Collection<Suggestion> recipes, Collection<Suggestion> ingredients) {
+        long startedAt = System.currentTimeMillis();
+        Snapshot next = new Snapshot(Dictionary.build(recipes), Dictionary.build(ingredients));
+        snapshot = next;
+        log.info("Autocomplete index rebuilt: recipes={}, ingredients={} in {} ms",
+                next.recipes().size(), next.ingredients().size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 접두어 자동완성
+     *
+     * @param prefix 입력 중인 검색어
+     * @param type   후보 종류
+     * @param limit  최대 후보 수
+     * @return 가중치 순 후보
+     */
+    public List<Suggestion> suggest(String prefix, SuggestionType type, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        Snapshot current = snapshot;
+        Dictionary dictionary = type == SuggestionType.RECIPE ? current.recipes() : current.ingredients();
+        return dictionary.lookup(key, limit);
+    }
+
+    /**
+     * 자동완성 키 정규화: 앞뒤 공백 제거, 연속 공백 축약, 소문자
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACES.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(Dictionary recipes, Dictionary ingredients) {
+        static final Snapshot EMPTY = new Snapshot(Dictionary.EMPTY, Dictionary.EMPTY);
+    }
+
+    /**
+     * 종류별 사전: 정규화 키 FST + 키별 대표 후보
+     */
+    private record Dictionary(Lookup lookup, Map<String, Suggestion> byKey) {
+        static final Dictionary EMPTY = new Dictionary(null, Map.of());
+
+        static Dictionary build(Collection<Suggestion> suggestions) {
+            Map<String, Suggestion> byKey = new HashMap<>();
+            for (Suggestion suggestion : suggestions) {
+                String key = normalize(suggestion.text());
+                if (key.isEmpty()) {
+                    continue;
+                }
+                byKey.merge(key, suggestion, (a, b) -> a.weight() >= b.weight() ? a : b);
+            }
+            if (byKey.isEmpty()) {
+                return EMPTY;
+            }
+            try {
+                WFSTCompletionLookup lookup = new WFSTCompletionLookup(new ByteBuffersDirectory(), "autocomplete", true);
+                lookup.build(new SuggestionInputIterator(byKey));
+                return new Dictionary(lookup, byKey);
+            } catch (IOException e) {
+                throw new RuntimeException("자동완성 사전 생성 실패", e);
+            }
+        }
+
+        int size() {
+            return byKey.size();
+        }
+
+        List<Suggestion> lookup(String key, int limit) {
+            if (lookup == null) {
+                return new ArrayList<>();
+            }
+            try {
+                List<Suggestion> result = new ArrayList<>(limit);
+                for (Lookup.LookupResult hit : lookup.lookup(key, false, limit)) {
+                    Suggestion suggestion = byKey.get(hit.key.toString());
+                    if (suggestion != null) {
+                        result.add(suggestion);
+                    }
+                }
+                return result;
+            } catch (IOException e) {
+                throw new RuntimeException("자동완성 조회 실패: " + key, e);
+            }
+        }
+    }
+
+    private static final class SuggestionInputIterator implements InputIterator {
+        private final Iterator<Map.Entry<String, Suggestion>> entries;
+        private long weight;
+
+        SuggestionInputIterator(Map<String, Suggestion> byKey) {
+            this.entries = byKey.entrySet().iterator();
+        }
+
+        @Override
+        public BytesRef next() {
+            if (!entries.hasNext()) {
+                return null;
+            }
+            Map.Entry<String, Suggestion> entry = entries.next();
+            weight = Math.max(0, Math.min(entry.getValue().weight(), MAX_WEIGHT));
+            return new BytesRef(entry.getKey());
+        }
+
+        @Override
+        public long weight() {
+            return weight;
+        }
+
+        @Override
+        public BytesRef payload() {
+            return null;
+        }
+
+        @Override
+        public boolean hasPayloads() {
+            return false;
+        }
+
+        @Override
+        public Set<BytesRef> contexts() {
+            return null;
+        }
+
+        @Override
+        public boolean hasContexts() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색 패싯 비트맵 색인.
+ * 공통 코드 상세(recipe_category의 카테고리·요리팁 등)마다 해당 공개 레시피 ID 비트맵을 보관한다.
+ * 패싯 건수는 검색 결과 비트맵과의 교집합 크기로, 패싯 필터는 비트맵 연산으로 계산한다.
+ *
+ * 레시피 ID는 int 범위를 전제로 한다 (Roaring 비트맵 키).
+ */
+@Component
+@Slf4j
+public class FacetBitmapIndex {
+    /** 코드 그룹, 건수 내림차순, 표시명 순 */
+    private static final Comparator<FacetCount> FACET_ORDER = Comparator
+            .comparing((FacetCount count) -> count.facet().codeGroup(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Comparator.comparingInt(FacetCount::count).reversed())
+            .thenComparing(count -> count.facet().codeName(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 패싯 키 -> 레시피 ID 비트맵 */
+    private final Map<String, RoaringBitmap> recipesByFacet = new HashMap<>();
+    /** 패싯 키 -> 패싯 정보 (표시명 등, 가장 최근 색인 기준) */
+    private final Map<String, RecipeFacet> facets = new HashMap<>();
+    /** 레시피 ID -> 패싯 키. 갱신 시 이전 패싯을 비트맵에서 빼기 위해 보관 */
+    private final Map<Integer, List<String>> facetKeysByRecipe = new HashMap<>();
+
+    /** 재구축 중 다시 쓰인 레시피. 재구축 완료 시 여기에 없는 레시피를 제거한다. */
+    private RoaringBitmap rebuildSeen;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 레시피 패싯 추가/갱신. 게시·공개 상태가 아니면 색인에서 제거한다.
+     */
+    public void upsert(RecipeSearchDocument document) {
+        int recipeId = Math.toIntExact(document.recipeId());
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen != null) {
+                rebuildSeen.add(recipeId);
+            }
+            removeInternal(recipeId);
+            if (!document.searchable() || document.facets().isEmpty()) {
+                return;
+            }
+            List<String> keys = new ArrayList<>(document.facets().size());
+            for (RecipeFacet facet : document.facets()) {
+                String key = facet.key();
+                recipesByFacet.computeIfAbsent(key, k -> new RoaringBitmap()).add(recipeId);
+                facets.put(key, facet);
+                keys.add(key);
+            }
+            facetKeysByRecipe.put(recipeId, keys);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long recipeId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(recipeId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 시작. 재구축 중에도 기존 데이터로 조회된다.
+     */
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildSeen = new RoaringBitmap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 완료. 재구축 중 다시 쓰이지 않은(=삭제·비공개된) 레시피를 제거한다.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen == null) {
+                return;
+            }
+            List<Integer> stale = facetKeysByRecipe.keySet().stream()
+                    .filter(recipeId -> !rebuildSeen.contains(recipeId))
+                    .toList();
+            stale.forEach(this::removeInternal);
+            recipesByFacet.values().forEach(RoaringBitmap::runOptimize);
+            rebuildSeen = null;
+            ready = true;
+            log.info("Facet bitmap index rebuilt: recipes={}, facets={}, removed={}",
+                    facetKeysByRecipe.size(), recipesByFacet.size(), stale.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 필터 비트맵. 같은 공통 코드 안의 값끼리는 OR, 서로 다른 공통 코드끼리는 AND.
+     * 예) [카테고리:국/찌개, 카테고리:반찬, 요리팁:간단] -> (국/찌개 ∪ 반찬) ∩ 간단
+     *
+     * @param facetKeys 패싯 키 ("codeId:detailCodeId")
+     * @return 조건을 만족하는 레시피 ID 비트맵 (새 객체)
+     * @throws IllegalArgumentException 패싯 키 형식이 올바르지 않은 경우
+     */
+    public RoaringBitmap filter(Collection<String> facetKeys) {
+        Map<String, List<String>> keysByCodeId = new LinkedHashMap<>();
+        for (String key : facetKeys) {
+            keysByCodeId.computeIfAbsent(RecipeFacet.codeIdOf(key), codeId -> new ArrayList<>()).add(key);
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> groups = new ArrayList<>(keysByCodeId.size());
+            for (List<String> keys : keysByCodeId.values()) {
+                List<RoaringBitmap> bitmaps = keys.stream()
+                        .map(recipesByFacet::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+                if (bitmaps.isEmpty()) {
+                    return new RoaringBitmap();
+                }
+                groups.add(FastAggregation.or(bitmaps.iterator()));
+            }
+            return groups.isEmpty() ? new RoaringBitmap() : FastAggregation.and(groups.iterator());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 비트맵에 대한 패싯별 건수. 패싯 하나당 교집합 크기 계산 한 번이다.
+     *
+     * @param results 검색 결과 레시피 ID 비트맵
+     * @return 건수가 1 이상인 패싯 (코드 그룹, 건수 내림차순)
+     */
+    public List<FacetCount> count(RoaringBitmap results) {
+        List<FacetCount> counts = new ArrayList<>();
+        if (results.isEmpty()) {
+            return counts;
+        }
+        lock.readLock().lock();
+        try {
+            recipesByFacet.forEach((key, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(bitmap, results);
+                if (count > 0) {
+                    counts.add(new FacetCount(facets.get(key), count));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        counts.sort(FACET_ORDER);
+        return counts;
+    }
+
+    private void removeInternal(int recipeId) {
+        List<String> previous = facetKeysByRecipe.remove(recipeId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous) {
+            RoaringBitmap bitmap = recipesByFacet.get(key);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.remove(recipeId);
+            if (bitmap.isEmpty()) {
+                recipesByFacet.remove(key);
+                facets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 패싯별 건수
+     *
+     * @param facet 패싯
+     * @param count 검색 결과 중 해당 패싯 레시피 수
+     */
+    public record FacetCount(RecipeFacet facet, int count) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * "냉장고 재료로 만들 수 있는 요리" 검색용 재료 비트맵 색인.
+ * 정규화한 재료명마다 해당 재료를 쓰는 공개 레시피 ID 집합을 Roaring 비트맵으로 보관한다.
+ * 여러 재료의 AND/OR/최소 k개 일치 조회를 DB 조인 없이 메모리에서 처리한다.
+ *
+ * 레시피 ID는 int 범위를 전제로 한다 (Roaring 비트맵 키).
+ */
+@Component
+@Slf4j
+public class IngredientBitmapIndex {
+    /** 괄호 안 부연 설명 (예: "대파(흰 부분)") */
+    private static final Pattern PARENTHESIZED = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    /** 글자·숫자 외 문자 (공백, 구두점 등) */
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+    /** 충족률 내림차순, 부족 재료 수 오름차순, 일치 재료 수 내림차순, 최신 ID 순 */
+    private static final Comparator<IngredientMatch> RANKING = Comparator
+            .comparingDouble(IngredientMatch::coverage).reversed()
+            .thenComparingInt(IngredientMatch::missingCount)
+            .thenComparing(Comparator.comparingInt(IngredientMatch::matchedCount).reversed())
+            .thenComparing(Comparator.comparingLong(IngredientMatch::recipeId).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 정규화 재료명 -> 레시피 ID 비트맵 */
+    private final Map<String, RoaringBitmap> recipesByIngredient = new HashMap<>();
+    /** 레시피 ID -> (정규화 재료명 -> 표시용 재료명). 갱신 시 이전 재료를 비트맵에서 빼기 위해 보관 */
+    private final Map<Integer, Map<String, String>> ingredientsByRecipe = new HashMap<>();
+
+    /** 재구축 중 다시 쓰인 레시피. 재구축 완료 시 여기에 없는 레시피를 제거한다. */
+    private RoaringBitmap rebuildSeen;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ingredientsByRecipe.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재료를 쓰는 공개 레시피 수 (자동완성 가중치 등에 사용)
+     */
+    public int recipeCount(String ingredientName) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = recipesByIngredient.get(normalize(ingredientName));
+            return bitmap == null ? 0 : bitmap.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 레시피 재료 추가/갱신. 게시·공개 상태가 아니면 색인에서 제거한다.
+     */
+    public void upsert(RecipeSearchDocument document) {
+        int recipeId = Math.toIntExact(document.recipeId());
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen != null) {
+                rebuildSeen.add(recipeId);
+            }
+            removeInternal(recipeId);
+            if (!document.searchable()) {
+                return;
+            }
+            Map<String, String> ingredients = new LinkedHashMap<>();
+            for (String name : document.ingredientNames()) {
+                String normalized = normalize(name);
+                if (!normalized.isEmpty()) {
+                    ingredients.putIfAbsent(normalized, name.trim());
+                }
+            }
+            if (ingredients.isEmpty()) {
+                return;
+            }
+            ingredients.keySet().forEach(normalized ->
+                    recipesByIngredient.computeIfAbsent(normalized, key -> new RoaringBitmap()).add(recipeId));
+            ingredientsByRecipe.put(recipeId, ingredients);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long recipeId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(recipeId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 시작. 재구축 중에도 기존 데이터로 조회된다.
+     */
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildSeen = new RoaringBitmap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 완료. 재구축 중 다시 쓰이지 않은(=삭제·비공개된) 레시피를 제거한다.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen == null) {
+                return;
+            }
+            List<Integer> stale = ingredientsByRecipe.keySet().stream()
+                    .filter(recipeId -> !rebuildSeen.contains(recipeId))
+                    .toList();
+            stale.forEach(this::removeInternal);
+            recipesByIngredient.values().forEach(RoaringBitmap::runOptimize);
+            rebuildSeen = null;
+            ready = true;
+            log.info("Ingredient bitmap index rebuilt: recipes={}, ingredients={}, removed={}",
+                    ingredientsByRecipe.size(), recipesByIngredient.size(), stale.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 레시피 검색.
+     * 보유 재료 중 minMatch 개 이상을 쓰는 레시피를 (재료 충족률 내림차순, 부족 재료 수 오름차순,
+     * 일치 재료 수 내림차순, 최신 ID 순)으로 정렬해 상위 limit 건을 돌려준다.
+     *
+     * @param ingredientNames 보유 재료명 (정규화 전)
+     * @param minMatch        최소 일치 재료 수 (보유 재료 수를 넘으면 모든 재료 일치, 즉 AND)
+     * @param limit           최대 결과 수
+     * @return 정렬된 일치 결과
+     */
+    public List<IngredientMatch> match(List<String> ingredientNames, int minMatch, int limit) {
+        Map<String, String> query = new LinkedHashMap<>();
+        for (String name : ingredientNames) {
+            String normalized = normalize(name);
+            if (!normalized.isEmpty()) {
+                query.putIfAbsent(normalized, name.trim());
+            }
+        }
+        if (query.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        int required = Math.max(1, Math.min(minMatch, query.size()));
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(query.size());
+            for (String normalized : query.keySet()) {
+                RoaringBitmap bitmap = recipesByIngredient.get(normalized);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                } else if (required == query.size()) {
+                    // 모든 재료가 일치해야 하는데 아무 레시피도 쓰지 않는 재료가 있음
+                    return new ArrayList<>();
+                }
+            }
+            if (bitmaps.size() < required) {
+                return new ArrayList<>();
+            }
+            RoaringBitmap candidates = required == bitmaps.size()
+                    ? FastAggregation.and(bitmaps.iterator())
+                    : FastAggregation.or(bitmaps.iterator());
+
+            PriorityQueue<IngredientMatch> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            IntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int recipeId = iterator.next();
+                int matched = 0;
+                for (RoaringBitmap bitmap : bitmaps) {
+                    if (bitmap.contains(recipeId)) {
+                        matched++;
+                    }
+                }
+                if (matched < required) {
+                    continue;
+                }
+                Map<String, String> recipeIngredients = ingredientsByRecipe.get(recipeId);
+                IngredientMatch candidate = new IngredientMatch(recipeId, matched, recipeIngredients.size(), null);
+                top.offer(candidate);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<IngredientMatch> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                IngredientMatch match = top.poll();
+                result.add(match.withMissing(missingIngredients(match.recipeId(), query)));
+            }
+            result.sort(RANKING);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재료명 정규화: 괄호 속 설명, 공백·구두점을 지우고 소문자로 통일.
+     * 예) "대파 (흰 부분)" -> "대파", "Egg" -> "egg"
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFC);
+        normalized = PARENTHESIZED.matcher(normalized).replaceAll("");
+        normalized = NON_WORD.matcher(normalized).replaceAll("");
+        return normalized.toLowerCase();
+    }
+
+    private List<String> missingIngredients(long recipeId, Map<String, String> query) {
+        Map<String, String> recipeIngredients = ingredientsByRecipe.get(Math.toIntExact(recipeId));
+        List<String> missing = new ArrayList<>();
+        recipeIngredients.forEach((normalized, displayName) -> {
+            if (!query.containsKey(normalized)) {
+                missing.add(displayName);
+            }
+        });
+        return missing;
+    }
+
+    private void removeInternal(int recipeId) {
+        Map<String, String> previous = ingredientsByRecipe.remove(recipeId);
+        if (previous == null) {
+            return;
+        }
+        for (String normalized : previous.keySet()) {
+            RoaringBitmap bitmap = recipesByIngredient.get(normalized);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.remove(recipeId);
+            if (bitmap.isEmpty()) {
+                recipesByIngredient.remove(normalized);
+            }
+        }
+    }
+
+    /**
+     * 재료 일치 결과 한 건.
+     *
+     * @param recipeId           레시피 ID
+     * @param matchedCount       보유 재료 중 레시피에 쓰이는 재료 수
+     * @param requiredCount      레시피의 (정규화 기준) 전체 재료 수
+     * @param missingIngredients 부족한 재료 표시명 (정렬 후 채움)
+     */
+    public record IngredientMatch(long recipeId, int matchedCount, int requiredCount, List<String> missingIngredients) {
+        public double coverage() {
+            return requiredCount == 0 ? 0 : (double) matchedCount / requiredCount;
+        }
+
+        public int missingCount() {
+            return requiredCount - matchedCount;
+        }
+
+        IngredientMatch withMissing(List<String> missing) {
+            return new IngredientMatch(recipeId, matchedCount, requiredCount, missing);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import com.knusrae.common.utils.HangulUtils;
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 초성·자모 n-gram 색인 (레시피 제목, 재료명).
+ * 각 후보 문자열을 초성 문자열과 자모 문자열로 미리 분해해 두고, 2-gram 마다 후보 비트맵을 만든다.
+ * 검색어도 같은 방식으로 분해한 뒤 n-gram 비트맵 교집합으로 후보를 좁히고, 부분 문자열 여부만 확인한다.
+ * 예) "ㄱㅊㅉㄱ", "김ㅊ", "김칮", "치찌" -> 김치찌개
+ *
+ * 자동완성 사전과 같은 원본으로 주기적으로 통째로 다시 만들며, 조회는 잠금 없이 스냅샷을 읽는다.
+ */
+@Component
+@Slf4j
+public class JamoNgramIndex {
+    /** 접두어 일치 우선, 가중치 내림차순, 짧은 문자열 우선 */
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparing(Ranked::prefix).reversed()
+            .thenComparing(Comparator.comparingLong((Ranked ranked) -> ranked.suggestion().weight()).reversed())
+            .thenComparingInt(ranked -> ranked.suggestion().text().length())
+            .thenComparingInt(Ranked::ordinal);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 색인 전체를 새로 만들어 교체
+     */
+    public void rebuild(Collection<Suggestion> recipes, Collection<Suggestion> ingredients) {
+        long startedAt = System.currentTimeMillis();
+        Snapshot next = Snapshot.build(recipes, ingredients);
+        snapshot = next;
+        log.info("Jamo n-gram index rebuilt: entries={}, grams={} in {} ms",
+                next.entries().length, next.jamoGrams().size() + next.chosungGrams().size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 초성·자모 부분 일치 검색.
+     * 자음만 입력하면 초성 문자열에서, 그 외에는 자모 문자열에서 부분 일치를 찾는다.
+     *
+     * @param query 검색어 (초성, 조합 중인 글자 포함 가능)
+     * @param type  후보 종류 (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 접두어 일치 우선, 가중치 순 후보
+     */
+    public List<Suggestion> search(String query, SuggestionType type, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String lowered = query.toLowerCase(Locale.ROOT);
+        boolean chosung = HangulUtils.isChosungOnly(lowered);
+        String form = chosung ? HangulUtils.toChosung(lowered) : HangulUtils.toJamo(lowered);
+        if (form.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Snapshot current = snapshot;
+        RoaringBitmap candidates = current.candidates(form, chosung);
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+        if (type != null) {
+            candidates = RoaringBitmap.and(candidates, current.byType().get(type));
+        }
+
+        String[] targets = chosung ? current.chosung() : current.jamo();
+        PriorityQueue<Ranked> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        IntIterator iterator = candidates.getIntIterator();
+        while (iterator.hasNext()) {
+            int ordinal = iterator.next();
+            String target = targets[ordinal];
+            int position = target.indexOf(form);
+            if (position < 0) {
+                continue;
+            }
+            top.offer(new Ranked(ordinal, position == 0, current.entries()[ordinal]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Ranked> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked.stream().map(Ranked::suggestion).toList();
+    }
+
+    private static int gram(CharSequence text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static void addGrams(Map<Integer, RoaringBitmap> grams, String text, int ordinal) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.computeIfAbsent(gram(text, i), key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private record Ranked(int ordinal, boolean prefix, Suggestion suggestion) {
+    }
+
+    /**
+     * @param entries       후보 (순번 = 비트맵 값)
+     * @param jamo          후보별 자모 문자열
+     * @param chosung       후보별 초성 문자열
+     * @param jamoGrams     자모 2-gram -> 후보 비트맵
+     * @param chosungGrams  초성 2-gram -> 후보 비트맵
+     * @param chosungChars  초성 1글자 -> 후보 비트맵 (초성 한 글자 검색용)
+     * @param byType        종류별 후보 비트맵
+     */
+    private record Snapshot(
+            Suggestion[] entries,
+            String[] jamo,
+            String[] chosung,
+            Map<Integer, RoaringBitmap> jamoGrams,
+            Map<Integer, RoaringBitmap> chosungGrams,
+            Map<Character, RoaringBitmap> chosungChars,
+            Map<SuggestionType, RoaringBitmap> byType
+    ) {
+        static final Snapshot EMPTY = build(List.of(), List.of());
+
+        static Snapshot build(Collection<Suggestion> recipes, Collection<Suggestion> ingredients) {
+            List<Suggestion> all = new ArrayList<>(recipes.size() + ingredients.size());
+            all.addAll(recipes);
+            all.addAll(ingredients);
+            all.removeIf(suggestion -> suggestion.text() == null || suggestion.text().isBlank());
+
+            Suggestion[] entries = all.toArray(new Suggestion[0]);
+            String[] jamo = new String[entries.length];
+            String[] chosung = new String[entries.length];
+            Map<Integer, RoaringBitmap> jamoGrams = new HashMap<>();
+            Map<Integer, RoaringBitmap> chosungGrams = new HashMap<>();
+            Map<Character, RoaringBitmap> chosungChars = new HashMap<>();
+            Map<SuggestionType, RoaringBitmap> byType = new EnumMap<>(SuggestionType.class);
+            for (SuggestionType type : SuggestionType.values()) {
+                byType.put(type, new RoaringBitmap());
+            }
+
+            for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+                String text = entries[ordinal].text().toLowerCase(Locale.ROOT);
+                jamo[ordinal] = HangulUtils.toJamo(text);
+                chosung[ordinal] = HangulUtils.toChosung(text);
+                addGrams(jamoGrams, jamo[ordinal], ordinal);
+                addGrams(chosungGrams, chosung[ordinal], ordinal);
+                for (int i = 0; i < chosung[ordinal].length(); i++) {
+                    chosungChars.computeIfAbsent(chosung[ordinal].charAt(i), key -> new RoaringBitmap()).add(ordinal);
+                }
+                byType.get(entries[ordinal].type()).add(ordinal);
+            }
+            jamoGrams.values().forEach(RoaringBitmap::runOptimize);
+            chosungGrams.values().forEach(RoaringBitmap::runOptimize);
+            chosungChars.values().forEach(RoaringBitmap::runOptimize);
+            return new Snapshot(entries, jamo, chosung, jamoGrams, chosungGrams, chosungChars, byType);
+        }
+
+        /**
+         * 검색어 n-gram 비트맵 교집합 (부분 일치 후보). 일치 불가능하면 null
+         */
+        RoaringBitmap candidates(String form, boolean chosungQuery) {
+            if (form.length() == 1) {
+                return chosungQuery ? chosungChars.get(form.charAt(0)) : null;
+            }
+            Map<Integer, RoaringBitmap> grams = chosungQuery ? chosungGrams : jamoGrams;
+            List<RoaringBitmap> bitmaps = new ArrayList<>(form.length() - 1);
+            for (int i = 0; i + 1 < form.length(); i++) {
+                RoaringBitmap bitmap = grams.get(gram(form, i));
+                if (bitmap == null) {
+                    return null;
+                }
+                bitmaps.add(bitmap);
+            }
+            return FastAggregation.and(bitmaps.iterator());
+        }
+    }
+}
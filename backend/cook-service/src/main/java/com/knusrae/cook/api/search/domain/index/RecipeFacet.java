@@ -0,0 +1,37 @@
+package com.knusrae.cook.api.search.domain.index;
+
+/**
+ * 검색 패싯 값 (레시피에 연결된 공통 코드 상세 한 건, recipe_category).
+ *
+ * @param codeGroup    코드 그룹 (예: CATEGORY, COOKINGTIP)
+ * @param codeId       공통 코드 ID
+ * @param detailCodeId 공통 코드 상세 ID
+ * @param codeName     표시명 (예: 국/찌개)
+ */
+public record RecipeFacet(String codeGroup, String codeId, String detailCodeId, String codeName) {
+    private static final String KEY_SEPARATOR = ":";
+
+    /**
+     * 패싯 키 ("codeId:detailCodeId"). 필터 요청 파라미터로도 그대로 쓴다.
+     */
+    public String key() {
+        return key(codeId, detailCodeId);
+    }
+
+    public static String key(String codeId, String detailCodeId) {
+        return codeId + KEY_SEPARATOR + detailCodeId;
+    }
+
+    /**
+     * 패싯 키에서 공통 코드 ID 추출 (같은 코드 ID 안의 값끼리는 OR 로 묶는다)
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static String codeIdOf(String key) {
+        int separator = key == null ? -1 : key.indexOf(KEY_SEPARATOR);
+        if (separator <= 0 || separator == key.length() - 1) {
+            throw new IllegalArgumentException("잘못된 패싯 값입니다: " + key);
+        }
+        return key.substring(0, separator);
+    }
+}
@@ -0,0 +1,44 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 검색 결과 페이지 커서. 마지막으로 내려준 결과의 (점수, 레시피 ID) 위치를 담는다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출하며, 내부 형식에 의존하지 않도록 한다.
+ *
+ * @param score    마지막 결과의 관련도 점수
+ * @param recipeId 마지막 결과의 레시피 ID (동점 시 정렬 기준)
+ */
+public record RecipeSearchCursor(float score, long recipeId) {
+    private static final int ENCODED_BYTES = Float.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putFloat(score)
+                .putLong(recipeId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 문자열 해석. 비어 있으면 첫 페이지(null)를 뜻한다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static RecipeSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new RecipeSearchCursor(buffer.getFloat(), buffer.getLong());
+    }
+}
@@ -0,0 +1,26 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 들어가는 레시피 한 건의 스냅샷.
+ * 엔티티를 색인 스레드로 넘기지 않도록 필요한 텍스트만 복사해 둔다.
+ *
+ * @param recipeId        레시피 ID
+ * @param title           제목 (recipe.title)
+ * @param introduction    소개 (recipe.introduction)
+ * @param steps           조리 단계 설명 (recipe_detail.description)
+ * @param ingredientNames 재료명 (recipe_ingredient_item.name)
+ * @param facets          연결된 공통 코드 (recipe_category)
+ * @param searchable      게시·공개 레시피 여부 (false면 색인에서 제거)
+ */
+public record RecipeSearchDocument(
+        Long recipeId,
+        String title,
+        String introduction,
+        List<String> steps,
+        List<String> ingredientNames,
+        List<RecipeFacet> facets,
+        boolean searchable
+) {
+}
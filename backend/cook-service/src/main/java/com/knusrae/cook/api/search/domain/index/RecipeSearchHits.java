@@ -0,0 +1,22 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지 (레시피 ID만 포함).
+ *
+ * @param recipeIds      관련도 순 레시피 ID
+ * @param nextCursor     다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalHits      전체 일치 건수. totalHitsExact 가 false면 하한값
+ * @param totalHitsExact 전체 일치 건수가 정확한 값인지 여부
+ */
+public record RecipeSearchHits(
+        List<Long> recipeIds,
+        RecipeSearchCursor nextCursor,
+        long totalHits,
+        boolean totalHitsExact
+) {
+    public static RecipeSearchHits empty() {
+        return new RecipeSearchHits(List.of(), null, 0, true);
+    }
+}
@@ -0,0 +1,406 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.function.FunctionScoreQuery;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.*;
+
+/**
+ * 레시피 전문 검색 색인 (Lucene + Nori 형태소 분석기).
+ * 제목·소개·재료명·조리 단계를 색인하고, 검색 시에는 랭킹된 레시피 ID만 돌려준다.
+ * 순위 점수는 BM25 점수에 레시피 정적 순위({@link RecipeStaticRank}) 배수를 곱한 값이다.
+ * 레시피 테이블 조회는 호출 측에서 결과 페이지를 채울 때만 수행한다.
+ *
+ * app.search.index-dir 가 비어 있으면 메모리 색인을 사용한다 (테스트용).
+ */
+@Component
+@Slf4j
+public class RecipeSearchIndex {
+    private static final String FIELD_GENERATION = "generation";
+    private static final Set<String> ID_ONLY = Set.of(FIELD_ID);
+    /** 관련도 내림차순, 동점이면 레시피 ID 오름차순 (커서 위치가 유일하도록) */
+    private static final Sort RELEVANCE_THEN_ID = new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID_SORT, SortField.Type.LONG));
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            FIELD_TITLE, 4.0f,
+            FIELD_INGREDIENT, 2.0f,
+            FIELD_INTRODUCTION, 1.5f,
+            FIELD_STEP, 1.0f
+    );
+
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final RecipeStaticRank recipeStaticRank;
+
+    /** 재구축 세대. 재구축 완료 시 이전 세대 문서를 일괄 삭제한다. */
+    private volatile long generation;
+    private volatile boolean ready;
+
+    public RecipeSearchIndex(@Value("${app.search.index-dir:}") String indexDir, RecipeStaticRank recipeStaticRank) {
+        this.recipeStaticRank = recipeStaticRank;
+        try {
+            this.analyzer = new KoreanAnalyzer();
+            this.directory = (indexDir == null || indexDir.isBlank())
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Files.createDirectories(Path.of(indexDir)));
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.indexWriter = new IndexWriter(directory, config);
+            this.searcherManager = new SearcherManager(indexWriter, null);
+            this.generation = System.currentTimeMillis();
+            this.ready = indexWriter.getDocStats().numDocs > 0;
+            log.info("Recipe search index opened: dir={}, docs={}",
+                    indexDir == null || indexDir.isBlank() ? "(memory)" : indexDir, indexWriter.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 초기화 실패: " + indexDir, e);
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부. 비어 있는 색인이 최초 구축되기 전에는 false.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int numDocs() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    /**
+     * 레시피 문서 추가/갱신. 게시·공개 상태가 아니면 색인에서 제거한다.
+     */
+    public void upsert(RecipeSearchDocument document) {
+        if (!document.searchable()) {
+            delete(document.recipeId());
+            return;
+        }
+        try {
+            indexWriter.updateDocument(idTerm(document.recipeId()), toLuceneDocument(document));
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 갱신 실패: recipeId=" + document.recipeId(), e);
+        }
+    }
+
+    public void delete(Long recipeId) {
+        try {
+            indexWriter.deleteDocuments(idTerm(recipeId));
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 삭제 실패: recipeId=" + recipeId, e);
+        }
+    }
+
+    /**
+     * 전체 재구축 시작. 이후 upsert 되는 문서는 새 세대로 기록된다.
+     * 재구축 중에도 기존 문서는 그대로 검색되며, {@link #finishRebuild(long)}에서 이전 세대만 지운다.
+     */
+    public long startRebuild() {
+        generation = Math.max(System.currentTimeMillis(), generation + 1);
+        return generation;
+    }
+
+    /**
+     * 전체 재구축 완료. 재구축 중 다시 쓰이지 않은(=삭제된) 문서를 제거하고 커밋한다.
+     */
+    public void finishRebuild(long rebuildGeneration) {
+        try {
+            indexWriter.deleteDocuments(LongPoint.newRangeQuery(FIELD_GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 재구축 마무리 실패", e);
+        }
+        commit();
+        refresh();
+        ready = true;
+    }
+
+    /**
+     * 커밋하지 않은 변경 사항까지 검색기에 반영 (near-real-time).
+     * 변경이 없으면 아무 일도 하지 않는다.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 갱신 반영 실패", e);
+        }
+    }
+
+    /**
+     * 변경 사항을 디스크에 커밋 (재기동 시 보존)
+     */
+    public void commit() {
+        if (!indexWriter.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            indexWriter.commit();
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 키워드로 레시피 검색 (BM25 x 정적 순위 점수순)
+     *
+     * @param keyword 검색어
+     * @param limit   최대 결과 수
+     * @return 관련도 순 레시피 ID 목록
+     */
+    public List<Long> search(String keyword, int limit) {
+        Query query = withStaticRank(buildQuery(keyword));
+        if (query == null) {
+            return Collections.emptyList();
+        }
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> recipeIds = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                recipeIds.add(Long.valueOf(storedFields.document(scoreDoc.doc, ID_ONLY).get(FIELD_ID)));
+            }
+            return recipeIds;
+        } catch (IOException e) {
+            throw new RuntimeException("레시피 검색 실패: " + keyword, e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 키워드로 레시피 한 페이지 검색 (search-after 커서 방식).
+     * 앞 페이지를 다시 수집하지 않으므로 페이지 깊이와 무관하게 size 만큼만 읽는다.
+     * 전체 건수는 TOTAL_HITS_THRESHOLD 까지만 정확히 세고, 넘으면 하한값으로 돌려준다.
+     *
+     * @param keyword 검색어
+     * @param filter  허용 레시피 ID (패싯 필터 등, 제한 없으면 null)
+     * @param after   이전 페이지 마지막 위치 (첫 페이지면 null)
+     * @param size    페이지 크기
+     * @return 레시피 ID 페이지
+     */
+    public RecipeSearchHits searchPage(String keyword, RoaringBitmap filter, RecipeSearchCursor after, int size) {
+        Query query = withStaticRank(withFilter(buildQuery(keyword), filter));
+        if (query == null) {
+            return RecipeSearchHits.empty();
+        }
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            FieldDoc afterDoc = after == null
+                    ? null
+                    : new FieldDoc(Integer.MAX_VALUE, after.score(), new Object[]{after.score(), after.recipeId()});
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            TopFieldDocs topDocs = searcher.search(query,
+                    new TopFieldCollectorManager(RELEVANCE_THEN_ID, size + 1, afterDoc, TOTAL_HITS_THRESHOLD));
+            int pageSize = Math.min(size, topDocs.scoreDocs.length);
+            List<Long> recipeIds = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                recipeIds.add((Long) ((FieldDoc) topDocs.scoreDocs[i]).fields[1]);
+            }
+            RecipeSearchCursor nextCursor = null;
+            if (topDocs.scoreDocs.length > size) {
+                FieldDoc last = (FieldDoc) topDocs.scoreDocs[size - 1];
+                nextCursor = new RecipeSearchCursor((Float) last.fields[0], (Long) last.fields[1]);
+            }
+            TotalHits totalHits = topDocs.totalHits;
+            return new RecipeSearchHits(recipeIds, nextCursor, totalHits.value,
+                    totalHits.relation == TotalHits.Relation.EQUAL_TO);
+        } catch (IOException e) {
+            throw new RuntimeException("레시피 검색 실패: " + keyword, e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 키워드와 일치하는 모든 레시피 ID (점수 계산 없이 수집). 패싯 건수 계산용.
+     *
+     * @param keyword 검색어
+     * @return 일치 레시피 ID 비트맵
+     */
+    public RoaringBitmap matchingIds(String keyword) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new RoaringBitmap();
+        }
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            return searcher.search(query, new CollectorManager<IdBitmapCollector, RoaringBitmap>() {
+                @Override
+                public IdBitmapCollector newCollector() {
+                    return new IdBitmapCollector();
+                }
+
+                @Override
+                public RoaringBitmap reduce(Collection<IdBitmapCollector> collectors) {
+                    return FastAggregation.or(collectors.stream().map(IdBitmapCollector::ids).iterator());
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("레시피 검색 실패: " + keyword, e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Failed to close recipe search index: {}", e.getMessage());
+        }
+    }
+
+    private Query buildQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        // 연산자 문법은 끄고 공백만 단어 구분자로 사용 (사용자 입력의 특수문자로 인한 파싱 오류 방지)
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS, SimpleQueryParser.WHITESPACE_OPERATOR);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(keyword.trim());
+    }
+
+    /**
+     * 텍스트 점수에 정적 순위 배수를 곱한다 (배수는 문서의 레시피 ID로 배열에서 찾는다)
+     */
+    private Query withStaticRank(Query query) {
+        return query == null ? null : FunctionScoreQuery.boostByValue(query, recipeStaticRank.boostSource());
+    }
+
+    /**
+     * 허용 ID 집합을 점수에 영향 없는 필터 절로 추가
+     */
+    private Query withFilter(Query query, RoaringBitmap filter) {
+        if (query == null || filter == null) {
+            return query;
+        }
+        if (filter.isEmpty()) {
+            return null;
+        }
+        long[] ids = filter.stream().asLongStream().toArray();
+        return new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(LongPoint.newSetQuery(FIELD_ID_POINT, ids), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private Document toLuceneDocument(RecipeSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(source.recipeId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, source.recipeId()));
+        document.add(new LongPoint(FIELD_ID_POINT, source.recipeId()));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        addText(document, FIELD_TITLE, source.title());
+        addText(document, FIELD_INTRODUCTION, source.introduction());
+        source.ingredientNames().forEach(name -> addText(document, FIELD_INGREDIENT, name));
+        source.steps().forEach(step -> addText(document, FIELD_STEP, step));
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private Term idTerm(Long recipeId) {
+        return new Term(FIELD_ID, String.valueOf(recipeId));
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일치 문서의 레시피 ID를 비트맵으로 모으는 수집기 (세그먼트 단위 병렬 수집 후 합침)
+     */
+    private static final class IdBitmapCollector extends SimpleCollector {
+        private final RoaringBitmap ids = new RoaringBitmap();
+        private NumericDocValues idValues;
+
+        RoaringBitmap ids() {
+            return ids;
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            idValues = DocValues.getNumeric(context.reader(), FIELD_ID_SORT);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (idValues.advanceExact(doc)) {
+                ids.add(Math.toIntExact(idValues.longValue()));
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
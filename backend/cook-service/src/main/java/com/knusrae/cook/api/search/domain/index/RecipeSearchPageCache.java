@@ -0,0 +1,73 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 첫 페이지 결과 캐시 (검색어·페이지 크기별 레시피 ID, 패싯 건수).
+ * 인기 검색어는 검색 집계에서 미리 채워 두어, 몰리는 검색어의 전문 검색·패싯 집계를 요청마다 반복하지 않는다.
+ * 색인 변경을 따로 추적하지 않고 TTL 로만 만료시키므로, 새 레시피는 최대 TTL 만큼 늦게 첫 페이지에 보일 수 있다.
+ */
+@Component
+public class RecipeSearchPageCache {
+    private final long ttlMs;
+    private final Map<String, Entry> entries;
+
+    public RecipeSearchPageCache(
+            @Value("${app.search.page-cache.ttl-ms:120000}") long ttlMs,
+            @Value("${app.search.page-cache.max-entries:500}") int maxEntries
+    ) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return 만료되지 않은 캐시 결과 (없으면 null)
+     */
+    public synchronized RecipeSearchResult get(String keyword, int pageSize) {
+        String key = key(keyword, pageSize);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.cachedAt() > ttlMs) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.result();
+    }
+
+    public synchronized void put(String keyword, int pageSize, RecipeSearchResult result) {
+        entries.put(key(keyword, pageSize), new Entry(result, System.currentTimeMillis()));
+    }
+
+    private static String key(String keyword, int pageSize) {
+        return pageSize + ":" + keyword;
+    }
+
+    private record Entry(RecipeSearchResult result, long cachedAt) {
+    }
+
+    /**
+     * 검색 한 페이지의 색인 조회 결과 (레시피 조회 전)
+     *
+     * @param hits             레시피 ID 페이지
+     * @param facets           패싯별 건수 (첫 페이지가 아니면 빈 목록)
+     * @param correctedKeyword 오타 교정으로 다시 검색한 검색어 (없으면 null)
+     */
+    public record RecipeSearchResult(
+            RecipeSearchHits hits,
+            List<FacetBitmapIndex.FacetCount> facets,
+            String correctedKeyword
+    ) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.DoubleValues;
+import org.apache.lucene.search.DoubleValuesSource;
+import org.apache.lucene.search.IndexSearcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.FIELD_ID_SORT;
+
+/**
+ * 레시피 정적 순위 (검색어와 무관한 품질 점수).
+ * 인기도 점수·최신성·찜 수를 가중 평균한 0~1 값을 레시피 ID를 인덱스로 하는 배열에 미리 계산해 둔다.
+ * 검색 시에는 BM25 점수에 (1 + static-weight x 정적 순위)를 곱하므로, 질의마다 recipe_popularity 를 조인하지 않는다.
+ *
+ * 배열은 주기적으로 통째로 다시 만들어 교체하며, 그 사이 새로 생긴 레시피(배열 범위 밖 ID)는 방금 작성된 레시피로 취급한다.
+ * 배열이 바뀌면 같은 검색어의 점수도 바뀌므로, 교체 직후에는 이전 커서의 다음 페이지 경계가 조금 어긋날 수 있다.
+ */
+@Component
+@Slf4j
+public class RecipeStaticRank {
+    private static final double LN_2 = Math.log(2);
+
+    private final double staticWeight;
+    private final double popularityWeight;
+    private final double recencyWeight;
+    private final double favoriteWeight;
+    private final double recencyHalfLifeDays;
+
+    private volatile float[] ranks = new float[0];
+
+    public RecipeStaticRank(
+            @Value("${app.search.ranking.static-weight:1.0}") double staticWeight,
+            @Value("${app.search.ranking.popularity-weight:0.5}") double popularityWeight,
+            @Value("${app.search.ranking.recency-weight:0.3}") double recencyWeight,
+            @Value("${app.search.ranking.favorite-weight:0.2}") double favoriteWeight,
+            @Value("${app.search.ranking.recency-half-life-days:30}") double recencyHalfLifeDays
+    ) {
+        if (staticWeight < 0 || popularityWeight < 0 || recencyWeight < 0 || favoriteWeight < 0 || recencyHalfLifeDays <= 0) {
+            throw new IllegalArgumentException("검색 순위 가중치는 0 이상, 최신성 반감기는 0보다 커야 합니다.");
+        }
+        this.staticWeight = staticWeight;
+        this.popularityWeight = popularityWeight;
+        this.recencyWeight = recencyWeight;
+        this.favoriteWeight = favoriteWeight;
+        this.recencyHalfLifeDays = recencyHalfLifeDays;
+    }
+
+    /**
+     * 정적 순위 배열을 새로 계산해 교체.
+     * 인기도 점수·찜 수는 편차가 커서 로그 스케일로 최댓값 대비 정규화한다.
+     *
+     * @param signals 공개 레시피별 원천 값
+     */
+    public void rebuild(Collection<RankSignal> signals) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        long maxId = 0;
+        double maxPopularity = 0;
+        long maxFavorites = 0;
+        for (RankSignal signal : signals) {
+            maxId = Math.max(maxId, signal.recipeId());
+            maxPopularity = Math.max(maxPopularity, signal.popularityScore());
+            maxFavorites = Math.max(maxFavorites, signal.favoriteCount());
+        }
+        double popularityScale = Math.log1p(maxPopularity);
+        double favoriteScale = Math.log1p(maxFavorites);
+
+        float[] next = new float[Math.toIntExact(maxId + 1)];
+        for (RankSignal signal : signals) {
+            double popularity = popularityScale > 0 ? Math.log1p(Math.max(0, signal.popularityScore())) / popularityScale : 0;
+            double favorites = favoriteScale > 0 ? Math.log1p(Math.max(0, signal.favoriteCount())) / favoriteScale : 0;
+            next[Math.toIntExact(signal.recipeId())] = (float) blend(popularity, recency(signal.createdAt(), now), favorites);
+        }
+        ranks = next;
+        log.info("Recipe static rank rebuilt: recipes={}, maxId={} in {} ms",
+                signals.size(), maxId, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 레시피 정적 순위 (0~1)
+     */
+    public float rankOf(long recipeId) {
+        float[] current = ranks;
+        if (recipeId >= current.length) {
+            // 마지막 재계산 이후 생성된 레시피: 인기도·찜은 없고 최신성만 최대
+            return (float) blend(0, 1, 0);
+        }
+        return recipeId < 0 ? 0f : current[(int) recipeId];
+    }
+
+    /**
+     * BM25 점수에 곱할 배수 (1 + static-weight x 정적 순위)
+     */
+    public DoubleValuesSource boostSource() {
+        return new BoostValuesSource(this);
+    }
+
+    private double blend(double popularity, double recency, double favorites) {
+        double totalWeight = popularityWeight + recencyWeight + favoriteWeight;
+        if (totalWeight == 0) {
+            return 0;
+        }
+        return (popularityWeight * popularity + recencyWeight * recency + favoriteWeight * favorites) / totalWeight;
+    }
+
+    /**
+     * 반감기 기준 지수 감쇠 (작성 직후 1, 반감기마다 절반)
+     */
+    private double recency(LocalDateTime createdAt, LocalDateTime now) {
+        if (createdAt == null) {
+            return 0;
+        }
+        double ageDays = Math.max(0, Duration.between(createdAt, now).toMinutes() / (60.0 * 24));
+        return Math.exp(-LN_2 * ageDays / recencyHalfLifeDays);
+    }
+
+    /**
+     * 정적 순위 원천 값
+     *
+     * @param recipeId        레시피 ID
+     * @param popularityScore recipe_popularity.popularity_score (없으면 0)
+     * @param favoriteCount   recipe_popularity.favorite_count (없으면 0)
+     * @param createdAt       recipe.created_at
+     */
+    public record RankSignal(long recipeId, double popularityScore, long favoriteCount, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 문서의 레시피 ID(doc values)로 정적 순위 배열을 찾아 배수를 돌려주는 값 소스
+     */
+    private static final class BoostValuesSource extends DoubleValuesSource {
+        private final RecipeStaticRank staticRank;
+
+        private BoostValuesSource(RecipeStaticRank staticRank) {
+            this.staticRank = staticRank;
+        }
+
+        @Override
+        public DoubleValues getValues(LeafReaderContext ctx, DoubleValues scores) throws IOException {
+            NumericDocValues idValues = DocValues.getNumeric(ctx.reader(), FIELD_ID_SORT);
+            double weight = staticRank.staticWeight;
+            return new DoubleValues() {
+                private double value;
+
+                @Override
+                public double doubleValue() {
+                    return value;
+                }
+
+                @Override
+                public boolean advanceExact(int doc) throws IOException {
+                    float rank = idValues.advanceExact(doc) ? staticRank.rankOf(idValues.longValue()) : 0f;
+                    value = 1 + weight * rank;
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public boolean needsScores() {
+            return false;
+        }
+
+        @Override
+        public DoubleValuesSource rewrite(IndexSearcher reader) {
+            return this;
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            // 배열이 주기적으로 바뀌므로 세그먼트 단위로 캐시하지 않는다
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(staticRank);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof BoostValuesSource other && other.staticRank == staticRank;
+        }
+
+        @Override
+        public String toString() {
+            return "recipeStaticRank";
+        }
+    }
+}
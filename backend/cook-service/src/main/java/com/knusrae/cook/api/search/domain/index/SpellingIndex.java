@@ -0,0 +1,398 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import com.knusrae.common.utils.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 오타 교정 사전 (SymSpell 삭제 사전).
+ * 레시피 제목 단어·레시피 재료명·재료 마스터 이름을 어휘로 삼고, 각 어휘의 자모 문자열 앞부분에서
+ * 최대 MAX_EDIT_DISTANCE 글자를 지운 문자열을 미리 색인해 둔다.
+ * 검색어도 같은 방식으로 지운 문자열만 만들어 사전을 찾으므로 어휘 수와 관계없이 조회 비용이 일정하다.
+ * 편집 거리는 자모 단위로 계산한다. 예) "김치찌게" -> 김치찌개 (ㅔ/ㅐ 한 글자 차이)
+ *
+ * 레시피 어휘는 검색 색인과 함께 레시피 단위로 증분 갱신되고, 재료 마스터 이름은 자동완성 사전 갱신 시 차이만 반영한다.
+ */
+@Component
+@Slf4j
+public class SpellingIndex {
+    /** 최대 편집 거리 (자모 단위) */
+    private static final int MAX_EDIT_DISTANCE = 2;
+    /** 삭제 문자열을 만드는 자모 앞부분 길이. 긴 어휘도 삭제 문자열 수가 일정하게 유지된다. */
+    private static final int PREFIX_LENGTH = 10;
+    /** 검색어 하나당 편집 거리를 계산하는 최대 후보 수 */
+    private static final int MAX_CANDIDATES = 500;
+    /** 검색어에서 교정하는 최대 단어 수 */
+    private static final int MAX_QUERY_TOKENS = 8;
+    /** 어휘로 쓰는 최소 글자 수 */
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    /** 편집 거리 오름차순, 빈도 내림차순, 사전 순 */
+    private static final Comparator<SpellingCandidate> RANKING = Comparator
+            .comparingInt(SpellingCandidate::distance)
+            .thenComparing(Comparator.comparingInt(SpellingCandidate::frequency).reversed())
+            .thenComparing(SpellingCandidate::term);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 어휘 -> 자모 문자열·빈도 */
+    private final Map<String, Term> terms = new HashMap<>();
+    /** 삭제 문자열 -> 어휘 */
+    private final Map<String, List<String>> deletes = new HashMap<>();
+    /** 레시피 ID -> 어휘. 갱신 시 이전 어휘 빈도를 빼기 위해 보관 */
+    private final Map<Integer, List<String>> termsByRecipe = new HashMap<>();
+    /** 재료 마스터 이름 (빈도 1씩 기여) */
+    private Set<String> ingredientNames = Set.of();
+
+    /** 재구축 중 다시 쓰인 레시피. 재구축 완료 시 여기에 없는 레시피를 제거한다. */
+    private RoaringBitmap rebuildSeen;
+
+    /**
+     * 레시피 어휘 추가/갱신. 게시·공개 상태가 아니면 제거한다.
+     */
+    public void upsert(RecipeSearchDocument document) {
+        int recipeId = Math.toIntExact(document.recipeId());
+        List<String> recipeTerms = document.searchable() ? termsOf(document) : List.of();
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen != null) {
+                rebuildSeen.add(recipeId);
+            }
+            removeRecipe(recipeId);
+            if (!recipeTerms.isEmpty()) {
+                recipeTerms.forEach(this::addTerm);
+                termsByRecipe.put(recipeId, recipeTerms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long recipeId) {
+        lock.writeLock().lock();
+        try {
+            removeRecipe(Math.toIntExact(recipeId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 시작. 재구축 중에도 기존 어휘로 교정된다.
+     */
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildSeen = new RoaringBitmap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구축 완료. 재구축 중 다시 쓰이지 않은(=삭제·비공개된) 레시피의 어휘를 뺀다.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen == null) {
+                return;
+            }
+            List<Integer> stale = termsByRecipe.keySet().stream()
+                    .filter(recipeId -> !rebuildSeen.contains(recipeId))
+                    .toList();
+            stale.forEach(this::removeRecipe);
+            rebuildSeen = null;
+            log.info("Spelling index rebuilt: terms={}, deletes={}, removed={}", terms.size(), deletes.size(), stale.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재료 마스터 이름 교체. 이전 목록과의 차이만 사전에 반영한다.
+     */
+    public void replaceIngredientNames(Collection<String> names) {
+        Set<String> next = new HashSet<>();
+        for (String name : names) {
+            String normalized = AutocompleteIndex.normalize(name);
+            if (normalized.length() >= MIN_TERM_LENGTH) {
+                next.add(normalized);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            for (String name : ingredientNames) {
+                if (!next.contains(name)) {
+                    removeTerm(name);
+                }
+            }
+            for (String name : next) {
+                if (!ingredientNames.contains(name)) {
+                    addTerm(name);
+                }
+            }
+            ingredientNames = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 교정 후보 조회
+     *
+     * @param text  교정할 단어 (재료명처럼 띄어쓰기가 있어도 하나의 어휘로 본다)
+     * @param limit 최대 후보 수
+     * @return 편집 거리·빈도 순 후보 (사전에 있는 단어면 거리 0인 자신만)
+     */
+    public List<SpellingCandidate> lookup(String text, int limit) {
+        String normalized = AutocompleteIndex.normalize(text);
+        if (normalized.length() < MIN_TERM_LENGTH || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String jamo = HangulUtils.toJamo(normalized);
+        int maxDistance = maxDistanceOf(jamo);
+
+        lock.readLock().lock();
+        try {
+            Term exact = terms.get(normalized);
+            if (exact != null) {
+                return new ArrayList<>(List.of(new SpellingCandidate(normalized, 0, exact.frequency)));
+            }
+            if (maxDistance == 0) {
+                return new ArrayList<>();
+            }
+            List<SpellingCandidate> found = new ArrayList<>();
+            Set<String> compared = new HashSet<>();
+            for (String delete : deletesOf(prefixOf(jamo), maxDistance)) {
+                List<String> matches = deletes.get(delete);
+                if (matches == null) {
+                    continue;
+                }
+                for (String candidate : matches) {
+                    if (compared.size() >= MAX_CANDIDATES) {
+                        break;
+                    }
+                    if (!compared.add(candidate)) {
+                        continue;
+                    }
+                    Term term = terms.get(candidate);
+                    int distance = distance(jamo, term.jamo, maxDistance);
+                    if (distance >= 0) {
+                        found.add(new SpellingCandidate(candidate, distance, term.frequency));
+                    }
+                }
+            }
+            return found.stream().sorted(RANKING).limit(limit).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 단어 하나를 가장 가까운 어휘로 교정
+     *
+     * @return 교정된 어휘 (사전에 있는 단어이거나 후보가 없으면 null)
+     */
+    public String correct(String text) {
+        List<SpellingCandidate> candidates = lookup(text, 1);
+        if (candidates.isEmpty() || candidates.get(0).distance() == 0) {
+            return null;
+        }
+        return candidates.get(0).term();
+    }
+
+    /**
+     * 검색어 교정. 단어별로 사전에 없으면 가장 가까운 어휘로 바꾼다.
+     *
+     * @param query 검색어
+     * @return 교정된 검색어 (바뀐 단어가 없으면 null)
+     */
+    public String correctQuery(String query) {
+        String normalized = AutocompleteIndex.normalize(query);
+        String whole = correct(normalized);
+        if (whole != null) {
+            return whole;
+        }
+        String[] tokens = normalized.split(" ");
+        if (tokens.length < 2 || tokens.length > MAX_QUERY_TOKENS) {
+            return null;
+        }
+        boolean changed = false;
+        for (int i = 0; i < tokens.length; i++) {
+            String corrected = correct(tokens[i]);
+            if (corrected != null) {
+                tokens[i] = corrected;
+                changed = true;
+            }
+        }
+        return changed ? String.join(" ", tokens) : null;
+    }
+
+    private static List<String> termsOf(RecipeSearchDocument document) {
+        Set<String> result = new LinkedHashSet<>();
+        if (document.title() != null) {
+            for (String token : TOKEN_DELIMITER.split(AutocompleteIndex.normalize(document.title()))) {
+                if (token.length() >= MIN_TERM_LENGTH) {
+                    result.add(token);
+                }
+            }
+        }
+        for (String name : document.ingredientNames()) {
+            String normalized = AutocompleteIndex.normalize(name);
+            if (normalized.length() >= MIN_TERM_LENGTH) {
+                result.add(normalized);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private void removeRecipe(int recipeId) {
+        List<String> previous = termsByRecipe.remove(recipeId);
+        if (previous != null) {
+            previous.forEach(this::removeTerm);
+        }
+    }
+
+    private void addTerm(String text) {
+        Term term = terms.get(text);
+        if (term != null) {
+            term.frequency++;
+            return;
+        }
+        String jamo = HangulUtils.toJamo(text);
+        terms.put(text, new Term(jamo));
+        for (String delete : deletesOf(prefixOf(jamo), MAX_EDIT_DISTANCE)) {
+            deletes.computeIfAbsent(delete, key -> new ArrayList<>(1)).add(text);
+        }
+    }
+
+    private void removeTerm(String text) {
+        Term term = terms.get(text);
+        if (term == null || --term.frequency > 0) {
+            return;
+        }
+        terms.remove(text);
+        for (String delete : deletesOf(prefixOf(term.jamo), MAX_EDIT_DISTANCE)) {
+            List<String> matches = deletes.get(delete);
+            if (matches != null) {
+                matches.remove(text);
+                if (matches.isEmpty()) {
+                    deletes.remove(delete);
+                }
+            }
+        }
+    }
+
+    /**
+     * 자모 길이별 허용 편집 거리. 짧은 단어는 한두 글자만 바꿔도 다른 단어가 되므로 교정하지 않는다.
+     */
+    private static int maxDistanceOf(String jamo) {
+        if (jamo.length() < 4) {
+            return 0;
+        }
+        return jamo.length() < 8 ? 1 : MAX_EDIT_DISTANCE;
+    }
+
+    private static String prefixOf(String jamo) {
+        return jamo.length() > PREFIX_LENGTH ? jamo.substring(0, PREFIX_LENGTH) : jamo;
+    }
+
+    /**
+     * 최대 maxDistance 글자를 지운 문자열 전체 (자신 포함)
+     */
+    private static Set<String> deletesOf(String text, int maxDistance) {
+        Set<String> result = new HashSet<>();
+        result.add(text);
+        List<String> frontier = List.of(text);
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            List<String> next = new ArrayList<>();
+            for (String word : frontier) {
+                if (word.length() <= 1) {
+                    continue;
+                }
+                for (int i = 0; i < word.length(); i++) {
+                    String delete = word.substring(0, i) + word.substring(i + 1);
+                    if (result.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * 제한 편집 거리 (인접 글자 자리바꿈 포함, Optimal String Alignment)
+     *
+     * @return 편집 거리 (maxDistance 를 넘으면 -1)
+     */
+    static int distance(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return -1;
+        }
+        int[] previousPrevious = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1
+                        && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        int result = previous[target.length()];
+        return result <= maxDistance ? result : -1;
+    }
+
+    private static final class Term {
+        private final String jamo;
+        private int frequency = 1;
+
+        private Term(String jamo) {
+            this.jamo = jamo;
+        }
+    }
+
+    /**
+     * 교정 후보
+     *
+     * @param term      어휘 (정규화된 형태)
+     * @param distance  자모 단위 편집 거리
+     * @param frequency 어휘를 쓰는 공개 레시피·재료 수
+     */
+    public record SpellingCandidate(String term, int distance, int frequency) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.knusrae.cook.api.search.domain.index;
+
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+
+/**
+ * 자동완성 후보 한 건.
+ *
+ * @param type   후보 종류 (레시피 제목 / 재료명)
+ * @param id     레시피 ID 또는 재료 ID
+ * @param text   표시 문자열
+ * @param weight 정렬 가중치 (레시피: 조회수, 재료: 사용 레시피 수)
+ */
+public record Suggestion(SuggestionType type, Long id, String text, long weight) {
+}
@@ -0,0 +1,111 @@
+package com.knusrae.cook.api.search.domain.service;
+
+import com.knusrae.cook.api.ingredient.domain.event.IngredientChangedEvent;
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+import com.knusrae.cook.api.search.domain.index.AutocompleteIndex;
+import com.knusrae.cook.api.search.domain.index.IngredientBitmapIndex;
+import com.knusrae.cook.api.search.domain.index.JamoNgramIndex;
+import com.knusrae.cook.api.search.domain.index.SpellingIndex;
+import com.knusrae.cook.api.search.domain.index.Suggestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자동완성 사전 갱신 서비스 (접두어 FST, 초성·자모 n-gram 색인, 오타 교정 사전의 재료 마스터 이름).
+ * 레시피·재료 변경 이벤트는 변경 표시만 하고, 주기적인 점검에서 변경이 있으면 사전을 다시 만든다.
+ * 조회수 가중치가 오래되지 않도록 변경이 없어도 max-age 가 지나면 다시 만든다.
+ * 최초 사전은 기동 직후 첫 점검에서 만들어진다.
+ */
+@Service
+@Slf4j
+public class AutocompleteIndexer {
+    private static final String SELECT_RECIPE_TITLES = """
+            SELECT id, title, hits
+            FROM recipe
+            WHERE status = 'PUBLISHED' AND visibility = 'PUBLIC'
+            """;
+    private static final String SELECT_INGREDIENT_NAMES = """
+            SELECT id, name
+            FROM ingredient
+            """;
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final JamoNgramIndex jamoNgramIndex;
+    private final SpellingIndex spellingIndex;
+    private final IngredientBitmapIndex ingredientBitmapIndex;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final long maxAgeMs;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile long lastBuiltAt;
+
+    public AutocompleteIndexer(
+            AutocompleteIndex autocompleteIndex,
+            JamoNgramIndex jamoNgramIndex,
+            SpellingIndex spellingIndex,
+            IngredientBitmapIndex ingredientBitmapIndex,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${app.search.autocomplete.max-age-ms:600000}") long maxAgeMs
+    ) {
+        this.autocompleteIndex = autocompleteIndex;
+        this.jamoNgramIndex = jamoNgramIndex;
+        this.spellingIndex = spellingIndex;
+        this.ingredientBitmapIndex = ingredientBitmapIndex;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    @TransactionalEventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener
+    public void onIngredientChanged(IngredientChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 변경이 있었거나 사전이 오래되었으면 다시 만든다
+     */
+    @Scheduled(fixedDelayString = "${app.search.autocomplete.refresh-interval-ms:30000}")
+    public void refreshIfNeeded() {
+        boolean expired = System.currentTimeMillis() - lastBuiltAt >= maxAgeMs;
+        if (!dirty.getAndSet(false) && !expired) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("Autocomplete index rebuild failed", e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        List<Suggestion> recipes = namedParameterJdbcTemplate.getJdbcTemplate().query(SELECT_RECIPE_TITLES,
+                (rs, rowNum) -> new Suggestion(SuggestionType.RECIPE, rs.getLong("id"), rs.getString("title"), rs.getLong("hits")));
+        // 재료 가중치는 해당 재료를 쓰는 공개 레시피 수
+        List<Suggestion> ingredients = namedParameterJdbcTemplate.getJdbcTemplate().query(SELECT_INGREDIENT_NAMES,
+                (rs, rowNum) -> {
+                    String name = rs.getString("name");
+                    return new Suggestion(SuggestionType.INGREDIENT, rs.getLong("id"), name, ingredientBitmapIndex.recipeCount(name));
+                });
+        autocompleteIndex.rebuild(recipes, ingredients);
+        jamoNgramIndex.rebuild(recipes, ingredients);
+        spellingIndex.replaceIngredientNames(ingredients.stream().map(Suggestion::text).toList());
+        lastBuiltAt = System.currentTimeMillis();
+        if (!ingredientBitmapIndex.isReady()) {
+            // 재료 색인이 아직 구축 전이라 재료 가중치가 비어 있음 - 다음 점검에서 다시 만든다
+            dirty.set(true);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.knusrae.cook.api.search.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.enums.Status;
+import com.knusrae.cook.api.recipe.domain.enums.Visibility;
+import com.knusrae.cook.api.search.domain.index.RecipeFacet;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 색인용 레시피 문서 조회 전용 서비스.
+ * 엔티티 그래프를 거치지 않고 JDBC로 필요한 컬럼만 읽으며,
+ * 조리 단계·재료명·공통 코드(패싯)는 레시피 묶음 단위의 IN 조회로 한 번에 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecipeSearchDocumentReader {
+    private static final String SELECT_PUBLIC_RECIPES = """
+            SELECT id, title, introduction, status, visibility
+            FROM recipe
+            WHERE status = 'PUBLISHED' AND visibility = 'PUBLIC'
+            ORDER BY id
+            """;
+    private static final String SELECT_RECIPES_BY_IDS = """
+            SELECT id, title, introduction, status, visibility
+            FROM recipe
+            WHERE id IN (:ids)
+            """;
+    private static final String SELECT_STEPS = """
+            SELECT recipe_id, description
+            FROM recipe_detail
+            WHERE recipe_id IN (:ids)
+            ORDER BY recipe_id, step
+            """;
+    private static final String SELECT_INGREDIENT_NAMES = """
+            SELECT g.recipe_id, i.name
+            FROM recipe_ingredient_item i
+            JOIN recipe_ingredient_group g ON g.id = i.recipe_ingredient_group_id
+            WHERE g.recipe_id IN (:ids)
+            ORDER BY g.recipe_id, g.group_order, i.item_order
+            """;
+    private static final String SELECT_FACETS = """
+            SELECT rc.recipe_id, rc.code_group, rc.code_id, rc.detail_code_id, d.code_name
+            FROM recipe_category rc
+            JOIN common_code_detail d ON d.code_id = rc.code_id AND d.detail_code_id = rc.detail_code_id
+            WHERE rc.recipe_id IN (:ids)
+            ORDER BY rc.recipe_id, d.sort
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 공개 레시피 전체를 서버 측 커서(fetch size)로 스트리밍하며 batchSize 단위로 전달.
+     * 전체 결과를 메모리에 올리지 않으므로 카탈로그 크기와 무관하게 일정한 메모리로 동작한다.
+     *
+     * @return 전달한 문서 수
+     */
+    public int streamPublicRecipes(int batchSize, Consumer<List<RecipeSearchDocument>> consumer) {
+        List<RecipeRow> buffer = new ArrayList<>(batchSize);
+        AtomicInteger count = new AtomicInteger();
+        namedParameterJdbcTemplate.getJdbcTemplate().query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_PUBLIC_RECIPES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(batchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            buffer.add(mapRecipeRow(rs));
+            if (buffer.size() >= batchSize) {
+                consumer.accept(toDocuments(buffer));
+                count.addAndGet(buffer.size());
+                buffer.clear();
+            }
+        });
+        if (!buffer.isEmpty()) {
+            consumer.accept(toDocuments(buffer));
+            count.addAndGet(buffer.size());
+        }
+        return count.get();
+    }
+
+    /**
+     * 지정한 레시피들의 문서 조회 (상태 무관). 존재하지 않는 ID는 결과에서 빠진다.
+     */
+    public List<RecipeSearchDocument> readByIds(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<RecipeRow> rows = namedParameterJdbcTemplate.query(SELECT_RECIPES_BY_IDS,
+                Map.of("ids", recipeIds), (rs, rowNum) -> mapRecipeRow(rs));
+        return toDocuments(rows);
+    }
+
+    private List<RecipeSearchDocument> toDocuments(List<RecipeRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = rows.stream().map(RecipeRow::id).toList();
+        Map<Long, List<String>> stepsByRecipe = groupTextByRecipe(SELECT_STEPS, ids, "description");
+        Map<Long, List<String>> ingredientsByRecipe = groupTextByRecipe(SELECT_INGREDIENT_NAMES, ids, "name");
+        Map<Long, List<RecipeFacet>> facetsByRecipe = groupFacetsByRecipe(ids);
+
+        List<RecipeSearchDocument> documents = new ArrayList<>(rows.size());
+        for (RecipeRow row : rows) {
+            documents.add(new RecipeSearchDocument(
+                    row.id(),
+                    row.title(),
+                    row.introduction(),
+                    stepsByRecipe.getOrDefault(row.id(), List.of()),
+                    ingredientsByRecipe.getOrDefault(row.id(), List.of()),
+                    facetsByRecipe.getOrDefault(row.id(), List.of()),
+                    row.searchable()
+            ));
+        }
+        return documents;
+    }
+
+    private Map<Long, List<String>> groupTextByRecipe(String sql, List<Long> recipeIds, String column) {
+        Map<Long, List<String>> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", recipeIds), (RowCallbackHandler) rs ->
+                result.computeIfAbsent(rs.getLong("recipe_id"), id -> new ArrayList<>())
+                        .add(rs.getString(column)));
+        return result;
+    }
+
+    private Map<Long, List<RecipeFacet>> groupFacetsByRecipe(List<Long> recipeIds) {
+        Map<Long, List<RecipeFacet>> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_FACETS, Map.of("ids", recipeIds), (RowCallbackHandler) rs ->
+                result.computeIfAbsent(rs.getLong("recipe_id"), id -> new ArrayList<>())
+                        .add(new RecipeFacet(
+                                rs.getString("code_group"),
+                                rs.getString("code_id"),
+                                rs.getString("detail_code_id"),
+                                rs.getString("code_name"))));
+        return result;
+    }
+
+    private RecipeRow mapRecipeRow(ResultSet rs) throws SQLException {
+        boolean searchable = Status.PUBLISHED.name().equals(rs.getString("status"))
+                && Visibility.PUBLIC.name().equals(rs.getString("visibility"));
+        return new RecipeRow(rs.getLong("id"), rs.getString("title"), rs.getString("introduction"), searchable);
+    }
+
+    private record RecipeRow(Long id, String title, String introduction, boolean searchable) {
+    }
+}
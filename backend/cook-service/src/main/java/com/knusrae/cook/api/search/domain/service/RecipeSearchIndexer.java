@@ -0,0 +1,275 @@
+package com.knusrae.cook.api.search.domain.service;
+
+import com.knusrae.cook.api.recipe.domain.event.RecipeChangedEvent;
+import com.knusrae.cook.api.search.domain.index.FacetBitmapIndex;
+import com.knusrae.cook.api.search.domain.index.IngredientBitmapIndex;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchDocument;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchIndex;
+import com.knusrae.cook.api.search.domain.index.SpellingIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.INDEX_REBUILD_BATCH_SIZE;
+
+/**
+ * 레시피 검색 색인 유지 서비스 (전문 검색 색인, 재료·패싯 비트맵 색인, 오타 교정 사전).
+ * 레시피 변경 이벤트(커밋 이후)를 bounded 큐에 적재하고, 백그라운드 워커가 마이크로 배치로 색인에 반영한다.
+ * 쓰기 요청 스레드는 큐 적재만 하므로 색인 비용이 요청 지연에 더해지지 않는다.
+ * 반영된 변경은 주기적인 refresh로 수 초 내 검색에 노출된다.
+ */
+@Service
+@Slf4j
+public class RecipeSearchIndexer {
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final IngredientBitmapIndex ingredientBitmapIndex;
+    private final FacetBitmapIndex facetBitmapIndex;
+    private final SpellingIndex spellingIndex;
+    private final RecipeSearchDocumentReader recipeSearchDocumentReader;
+    private final BlockingQueue<RecipeChangedEvent> changeQueue;
+    private final int batchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    /**
+     * 재구축 중에 이벤트로 반영(추가·수정·삭제)한 레시피. 재구축 스트림이 변경 커밋 전의 행을 읽어 새 세대에 넣었을 수 있으므로
+     * finishRebuild 전에 DB 에서 다시 읽어 한 번 더 반영한다
+     */
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    /** 큐가 넘쳐 이벤트가 유실되었거나 배치 반영이 실패한 경우 전체 재구축으로 복구 */
+    private volatile boolean rebuildRequested;
+    private volatile Thread worker;
+
+    public RecipeSearchIndexer(
+            RecipeSearchIndex recipeSearchIndex,
+            IngredientBitmapIndex ingredientBitmapIndex,
+            FacetBitmapIndex facetBitmapIndex,
+            SpellingIndex spellingIndex,
+            RecipeSearchDocumentReader recipeSearchDocumentReader,
+            @Value("${app.search.indexer.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.search.indexer.batch-size:100}") int batchSize
+    ) {
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.ingredientBitmapIndex = ingredientBitmapIndex;
+        this.facetBitmapIndex = facetBitmapIndex;
+        this.spellingIndex = spellingIndex;
+        this.recipeSearchDocumentReader = recipeSearchDocumentReader;
+        this.changeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 애플리케이션 기동 후 색인 워커를 시작하고 백그라운드에서 전체 재구축.
+     * 재구축이 끝나기 전까지는 기존 색인(있다면)으로 검색하고, 없으면 DB 검색으로 대체된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        worker = Thread.ofPlatform()
+                .name("recipe-search-indexer")
+                .daemon(true)
+                .start(this::drainChanges);
+        rebuildInBackground();
+    }
+
+    /**
+     * 레시피 변경 이벤트 수신 (커밋 이후). 큐에 적재만 하고 즉시 반환한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!changeQueue.offer(event)) {
+            rebuildRequested = true;
+            log.warn("Search index queue is full, dropping change and scheduling full rebuild: {}", event);
+        }
+    }
+
+    /**
+     * 반영된 변경을 검색기에 노출 (near-real-time refresh)
+     */
+    @Scheduled(fixedDelayString = "${app.search.indexer.refresh-interval-ms:1000}")
+    public void refreshIndex() {
+        recipeSearchIndex.refresh();
+        if (rebuildRequested) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * 변경 사항을 디스크에 주기적으로 커밋
+     */
+    @Scheduled(fixedDelayString = "${app.search.indexer.commit-interval-ms:60000}")
+    public void commitIndex() {
+        recipeSearchIndex.commit();
+    }
+
+    /**
+     * 매일 새벽 전체 재구축 (이벤트 유실 등으로 생긴 차이 보정)
+     */
+    @Scheduled(cron = "${app.search.indexer.rebuild-cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        rebuildInBackground();
+    }
+
+    public void rebuildInBackground() {
+        if (rebuilding.get()) {
+            return;
+        }
+        Thread.ofVirtual()
+                .name("recipe-search-rebuild")
+                .start(() -> {
+                    try {
+                        rebuildIndex();
+                    } catch (Exception e) {
+                        log.error("Recipe search index rebuild failed", e);
+                    }
+                });
+    }
+
+    /**
+     * 공개 레시피 전체를 JDBC 커서로 스트리밍하여 색인 재구축.
+     * 재구축 중에도 이벤트 반영은 계속되며, 끝난 뒤 재구축에서 다시 쓰이지 않은 문서만 제거된다.
+     * 재구축 중에 바뀐 레시피는 스트림이 변경 커밋 전의 행을 읽었을 수 있으므로 끝내기 전에 다시 읽어 반영한다.
+     *
+     * @return 색인된 레시피 수 (이미 재구축 중이면 -1)
+     */
+    public int rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Recipe search index rebuild already in progress");
+            return -1;
+        }
+        try {
+            rebuildRequested = false;
+            synchronized (changedDuringRebuild) {
+                changedDuringRebuild.clear();
+            }
+            long startedAt = System.currentTimeMillis();
+            long generation = recipeSearchIndex.startRebuild();
+            ingredientBitmapIndex.startRebuild();
+            facetBitmapIndex.startRebuild();
+            spellingIndex.startRebuild();
+            int indexedCount = recipeSearchDocumentReader.streamPublicRecipes(INDEX_REBUILD_BATCH_SIZE,
+                    batch -> batch.forEach(this::upsert));
+            synchronized (changedDuringRebuild) {
+                reapply(changedDuringRebuild);
+                changedDuringRebuild.clear();
+            }
+            recipeSearchIndex.finishRebuild(generation);
+            ingredientBitmapIndex.finishRebuild();
+            facetBitmapIndex.finishRebuild();
+            spellingIndex.finishRebuild();
+            log.info("Recipe search index rebuilt: {} recipes in {} ms", indexedCount, System.currentTimeMillis() - startedAt);
+            return indexedCount;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current == null) {
+            return;
+        }
+        current.interrupt();
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainChanges() {
+        List<RecipeChangedEvent> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                RecipeChangedEvent first = changeQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                changeQueue.drainTo(batch, batchSize - 1);
+                applyChanges(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                rebuildRequested = true;
+                log.error("Failed to apply {} recipe changes to search index, scheduling full rebuild", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 같은 레시피의 연속 변경은 마지막 상태 하나로 합쳐서 반영
+     */
+    private void applyChanges(List<RecipeChangedEvent> events) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        for (RecipeChangedEvent event : events) {
+            if (event.changeType() == RecipeChangedEvent.ChangeType.DELETED) {
+                changedIds.remove(event.recipeId());
+                deletedIds.add(event.recipeId());
+            } else {
+                deletedIds.remove(event.recipeId());
+                changedIds.add(event.recipeId());
+            }
+        }
+        List<RecipeSearchDocument> documents = recipeSearchDocumentReader.readByIds(changedIds);
+        synchronized (changedDuringRebuild) {
+            if (rebuilding.get()) {
+                changedDuringRebuild.addAll(changedIds);
+                changedDuringRebuild.addAll(deletedIds);
+            }
+            for (RecipeSearchDocument document : documents) {
+                upsert(document);
+                changedIds.remove(document.recipeId());
+            }
+            // 조회되지 않은 레시피는 그 사이 삭제된 것
+            deletedIds.addAll(changedIds);
+            deletedIds.forEach(this::delete);
+        }
+        log.debug("Applied recipe changes to search index: upserted={}, deleted={}", documents.size(), deletedIds.size());
+    }
+
+    /**
+     * 레시피들의 현재 상태를 DB 에서 다시 읽어 반영 (검색 대상이 아니면 upsert 가 제거하고, 없으면 삭제)
+     */
+    private void reapply(Set<Long> recipeIds) {
+        Set<Long> missingIds = new LinkedHashSet<>(recipeIds);
+        for (RecipeSearchDocument document : recipeSearchDocumentReader.readByIds(recipeIds)) {
+            upsert(document);
+            missingIds.remove(document.recipeId());
+        }
+        missingIds.forEach(this::delete);
+        log.debug("Re-applied {} recipes changed during search index rebuild", recipeIds.size());
+    }
+
+    private void upsert(RecipeSearchDocument document) {
+        recipeSearchIndex.upsert(document);
+        ingredientBitmapIndex.upsert(document);
+        facetBitmapIndex.upsert(document);
+        spellingIndex.upsert(document);
+    }
+
+    private void delete(Long recipeId) {
+        recipeSearchIndex.delete(recipeId);
+        ingredientBitmapIndex.delete(recipeId);
+        facetBitmapIndex.delete(recipeId);
+        spellingIndex.delete(recipeId);
+    }
+}
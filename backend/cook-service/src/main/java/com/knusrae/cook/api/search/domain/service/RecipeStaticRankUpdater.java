@@ -0,0 +1,68 @@
+package com.knusrae.cook.api.search.domain.service;
+
+import com.knusrae.cook.api.search.domain.index.RecipeStaticRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 정적 순위 갱신 서비스.
+ * 공개 레시피의 인기도 점수·찜 수·작성일을 한 번의 조회로 읽어 정적 순위 배열을 다시 만든다.
+ * 인기도 배치(매시 정각) 직후와 기동 시에 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeStaticRankUpdater {
+    private static final String SELECT_RANK_SIGNALS = """
+            SELECT r.id, r.created_at,
+                   COALESCE(p.popularity_score, 0) AS popularity_score,
+                   COALESCE(p.favorite_count, 0) AS favorite_count
+            FROM recipe r
+            LEFT JOIN recipe_popularity p ON p.recipe_id = r.id
+            WHERE r.status = 'PUBLISHED' AND r.visibility = 'PUBLIC'
+            """;
+
+    private final RecipeStaticRank recipeStaticRank;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnReady() {
+        Thread.ofVirtual()
+                .name("recipe-static-rank")
+                .start(this::refresh);
+    }
+
+    /**
+     * 매시 5분 (인기도 배치 이후) 정적 순위 재계산
+     */
+    @Scheduled(cron = "${app.search.ranking.refresh-cron:0 5 * * * *}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Recipe static rank rebuild failed", e);
+        }
+    }
+
+    public void rebuild() {
+        List<RecipeStaticRank.RankSignal> signals = new ArrayList<>();
+        namedParameterJdbcTemplate.getJdbcTemplate().query(SELECT_RANK_SIGNALS, rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            signals.add(new RecipeStaticRank.RankSignal(
+                    rs.getLong("id"),
+                    rs.getDouble("popularity_score"),
+                    rs.getLong("favorite_count"),
+                    createdAt == null ? null : createdAt.toLocalDateTime()));
+        });
+        recipeStaticRank.rebuild(signals);
+    }
+}
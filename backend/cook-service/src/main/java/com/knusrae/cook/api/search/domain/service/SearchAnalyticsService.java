@@ -0,0 +1,278 @@
+package com.knusrae.cook.api.search.domain.service;
+
+import com.knusrae.cook.api.search.domain.analytics.KeywordCount;
+import com.knusrae.cook.api.search.domain.analytics.SearchQueryTracker;
+import com.knusrae.cook.api.scheduler.domain.lock.SchedulerLock;
+import com.knusrae.cook.api.search.dto.SearchKeywordDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.DEFAULT_KEYWORD_RANKING_SIZE;
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.MAX_KEYWORD_RANKING_SIZE;
+
+/**
+ * 검색어 집계 서비스 (인기·급상승 검색어, 인기 검색어 결과 캐시 예열).
+ * 검색어 빈도는 {@link SearchQueryTracker} 가 메모리에서 집계하고, 이 서비스는 슬롯이 닫힐 때마다
+ * 상위 K 검색어의 횟수만 시간 단위 집계 테이블에 한 번의 배치로 누적한다 (검색 요청마다 쓰지 않는다).
+ * 인기·급상승 순위는 같은 주기에 다시 계산해 두므로 조회 API는 DB를 읽지 않는다.
+ */
+@Service
+@Slf4j
+public class SearchAnalyticsService {
+    private static final String UPSERT_KEYWORD_STAT = """
+            INSERT INTO search_keyword_stat (keyword, bucket_start, search_count)
+            VALUES (:keyword, :bucketStart, :searchCount)
+            ON CONFLICT (bucket_start, keyword)
+            DO UPDATE SET search_count = search_keyword_stat.search_count + EXCLUDED.search_count
+            """;
+    private static final String SELECT_POPULAR_KEYWORDS = """
+            SELECT keyword, SUM(search_count) AS total
+            FROM search_keyword_stat
+            WHERE bucket_start >= :from
+            GROUP BY keyword
+            ORDER BY total DESC, keyword
+            LIMIT :limit
+            """;
+    private static final String SELECT_RECENT_KEYWORDS = """
+            SELECT keyword, SUM(search_count) AS total
+            FROM search_keyword_stat
+            WHERE bucket_start >= :from
+            GROUP BY keyword
+            HAVING SUM(search_count) >= :minCount
+            ORDER BY total DESC, keyword
+            LIMIT :limit
+            """;
+    private static final String SELECT_KEYWORD_TOTALS = """
+            SELECT keyword, SUM(search_count) AS total
+            FROM search_keyword_stat
+            WHERE bucket_start >= :from AND bucket_start < :to AND keyword IN (:keywords)
+            GROUP BY keyword
+            """;
+    private static final String DELETE_EXPIRED_STATS = """
+            DELETE FROM search_keyword_stat
+            WHERE bucket_start < :cutoff
+            """;
+    /** 급상승 비교 기준 기간 (시간) */
+    private static final int BASELINE_HOURS = 24;
+    /** 급상승 후보로 읽는 최근 검색어 수 */
+    private static final int RISING_CANDIDATE_SIZE = 200;
+
+    private final SearchQueryTracker searchQueryTracker;
+    private final SearchService searchService;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final int prewarmSize;
+    private final long minRisingCount;
+    private final int retentionDays;
+
+    private volatile List<SearchKeywordDto> popularKeywords = List.of();
+    private volatile List<SearchKeywordDto> risingKeywords = List.of();
+
+    public SearchAnalyticsService(
+            SearchQueryTracker searchQueryTracker,
+            SearchService searchService,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            SchedulerLock schedulerLock,
+            @Value("${app.search.analytics.prewarm-size:20}") int prewarmSize,
+            @Value("${app.search.analytics.min-rising-count:5}") long minRisingCount,
+            @Value("${app.search.analytics.retention-days:30}") int retentionDays
+    ) {
+        this.searchQueryTracker = searchQueryTracker;
+        this.searchService = searchService;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.schedulerLock = schedulerLock;
+        this.prewarmSize = prewarmSize;
+        this.minRisingCount = minRisingCount;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 인기 검색어 (지난 24시간)
+     *
+     * @param size 개수 (null이면 DEFAULT_KEYWORD_RANKING_SIZE, 최대 MAX_KEYWORD_RANKING_SIZE)
+     */
+    public List<SearchKeywordDto> getPopularKeywords(Integer size) {
+        return limit(popularKeywords, size);
+    }
+
+    /**
+     * 급상승 검색어 (직전 정시부터 지금까지의 시간당 검색 횟수 / 그 전 24시간 시간당 평균, 모두 클러스터 전체 집계)
+     *
+     * @param size 개수 (null이면 DEFAULT_KEYWORD_RANKING_SIZE, 최대 MAX_KEYWORD_RANKING_SIZE)
+     */
+    public List<SearchKeywordDto> getRisingKeywords(Integer size) {
+        return limit(risingKeywords, size);
+    }
+
+    /**
+     * 기동 시 DB에 누적된 집계로 인기 검색어를 미리 채운다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnReady() {
+        try {
+            refreshRankings();
+        } catch (Exception e) {
+            log.error("Failed to load search keyword rankings", e);
+        }
+    }
+
+    /**
+     * 슬롯 마감: 닫힌 슬롯의 상위 검색어 횟수를 시간 단위 집계에 누적하고 순위를 다시 계산
+     */
+    @Scheduled(fixedRateString = "${app.search.analytics.slot-ms:300000}",
+            initialDelayString = "${app.search.analytics.slot-ms:300000}")
+    public void closeSlot() {
+        SearchQueryTracker.SlotCounts slot = searchQueryTracker.rotate();
+        try {
+            persist(slot);
+            refreshRankings();
+        } catch (Exception e) {
+            log.error("Failed to persist search keyword stats: {} keywords", slot.counts().size(), e);
+        }
+    }
+
+    /**
+     * 현재 가장 많이 검색되는 검색어의 첫 페이지를 결과 캐시에 미리 채운다
+     */
+    @Scheduled(fixedDelayString = "${app.search.analytics.prewarm-interval-ms:60000}",
+            initialDelayString = "${app.search.analytics.prewarm-interval-ms:60000}")
+    public void prewarmHotQueries() {
+        for (KeywordCount hot : searchQueryTracker.topKeywords(prewarmSize)) {
+            try {
+                searchService.prewarmRecipePage(hot.keyword());
+            } catch (Exception e) {
+                log.warn("Failed to prewarm search page for keyword: {}", hot.keyword(), e);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 검색어 집계 삭제 - 매일 새벽 (클러스터에서 한 인스턴스만)
+     */
+    @Scheduled(cron = "${app.search.analytics.purge-cron:0 50 4 * * *}")
+    public void purgeExpiredStats() {
+        schedulerLock.runExclusively("search-keyword-stat-purge", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(retentionDays);
+            int deleted = namedParameterJdbcTemplate.update(DELETE_EXPIRED_STATS, new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)));
+            log.info("Purged {} search keyword stats before {}", deleted, cutoff);
+        });
+    }
+
+    private void persist(SearchQueryTracker.SlotCounts slot) {
+        if (slot.counts().isEmpty()) {
+            return;
+        }
+        Timestamp bucketStart = Timestamp.valueOf(LocalDateTime
+                .ofInstant(Instant.ofEpochMilli(slot.startedAt()), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.HOURS));
+        SqlParameterSource[] params = slot.counts().stream()
+                .map(count -> new MapSqlParameterSource()
+                        .addValue("keyword", count.keyword())
+                        .addValue("bucketStart", bucketStart)
+                        .addValue("searchCount", count.count()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_KEYWORD_STAT, params);
+        log.debug("Persisted {} search keyword counts for bucket {}", params.length, bucketStart);
+    }
+
+    private void refreshRankings() {
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        Timestamp baselineFrom = Timestamp.valueOf(currentHour.minusHours(BASELINE_HOURS));
+
+        List<KeywordCount> popular = namedParameterJdbcTemplate.query(SELECT_POPULAR_KEYWORDS,
+                new MapSqlParameterSource()
+                        .addValue("from", baselineFrom)
+                        .addValue("limit", MAX_KEYWORD_RANKING_SIZE),
+                (rs, rowNum) -> new KeywordCount(rs.getString("keyword"), rs.getLong("total")));
+        if (popular.isEmpty()) {
+            // 아직 누적된 집계가 없으면 현재 윈도우 집계로 대신한다
+            popular = searchQueryTracker.topKeywords(MAX_KEYWORD_RANKING_SIZE);
+        }
+        popularKeywords = toRanking(popular);
+        risingKeywords = computeRising(currentHour.minusHours(1));
+    }
+
+    /**
+     * 직전 정시 이후 많이 검색된 검색어 중 그 전 24시간 시간당 평균보다 많이 검색된 검색어.
+     * 최근 횟수와 기준 평균을 모두 search_keyword_stat(모든 인스턴스의 누적)에서 읽어 같은 범위끼리 비교한다.
+     *
+     * @param recentFrom 최근 구간 시작 (직전 정시). 기준 구간은 그 앞 24시간이다
+     */
+    private List<SearchKeywordDto> computeRising(LocalDateTime recentFrom) {
+        List<KeywordCount> recent = namedParameterJdbcTemplate.query(SELECT_RECENT_KEYWORDS,
+                new MapSqlParameterSource()
+                        .addValue("from", Timestamp.valueOf(recentFrom))
+                        .addValue("minCount", minRisingCount)
+                        .addValue("limit", RISING_CANDIDATE_SIZE),
+                (rs, rowNum) -> new KeywordCount(rs.getString("keyword"), rs.getLong("total")));
+        if (recent.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> baselineTotals = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_KEYWORD_TOTALS,
+                new MapSqlParameterSource()
+                        .addValue("from", Timestamp.valueOf(recentFrom.minusHours(BASELINE_HOURS)))
+                        .addValue("to", Timestamp.valueOf(recentFrom))
+                        .addValue("keywords", recent.stream().map(KeywordCount::keyword).toList()),
+                rs -> {
+                    baselineTotals.put(rs.getString("keyword"), rs.getLong("total"));
+                });
+
+        // 최근 구간은 직전 한 시간에 진행 중인 현재 시간이 더해진 길이다
+        double recentHours = ChronoUnit.SECONDS.between(recentFrom, LocalDateTime.now()) / 3600.0;
+        List<Map.Entry<KeywordCount, Double>> rising = new ArrayList<>();
+        for (KeywordCount count : recent) {
+            double hourlyAverage = baselineTotals.getOrDefault(count.keyword(), 0L) / (double) BASELINE_HOURS;
+            double growthRate = (count.count() / recentHours + 1) / (hourlyAverage + 1);
+            if (growthRate > 1.0) {
+                rising.add(Map.entry(count, growthRate));
+            }
+        }
+        rising.sort(Map.Entry.<KeywordCount, Double>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().keyword()));
+        List<SearchKeywordDto> result = new ArrayList<>();
+        for (Map.Entry<KeywordCount, Double> entry : rising.subList(0, Math.min(rising.size(), MAX_KEYWORD_RANKING_SIZE))) {
+            result.add(SearchKeywordDto.builder()
+                    .rank(result.size() + 1)
+                    .keyword(entry.getKey().keyword())
+                    .searchCount(entry.getKey().count())
+                    .growthRate(Math.round(entry.getValue() * 100) / 100.0)
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<SearchKeywordDto> toRanking(List<KeywordCount> counts) {
+        List<SearchKeywordDto> result = new ArrayList<>(counts.size());
+        for (KeywordCount count : counts) {
+            result.add(SearchKeywordDto.builder()
+                    .rank(result.size() + 1)
+                    .keyword(count.keyword())
+                    .searchCount(count.count())
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<SearchKeywordDto> limit(List<SearchKeywordDto> ranking, Integer size) {
+        int limit = size == null ? DEFAULT_KEYWORD_RANKING_SIZE : Math.max(1, Math.min(size, MAX_KEYWORD_RANKING_SIZE));
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+}
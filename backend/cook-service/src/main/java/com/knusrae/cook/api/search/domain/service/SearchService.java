@@ -1,23 +1,48 @@
 package com.knusrae.cook.api.search.domain.service;
 
 import com.knusrae.common.domain.entity.Member;
+import com.knusrae.common.utils.HangulUtils;
 import com.knusrae.cook.api.recipe.domain.entity.Recipe;
 import com.knusrae.cook.api.recipe.domain.entity.RecipeImage;
+import com.knusrae.cook.api.recipe.domain.enums.Status;
+import com.knusrae.cook.api.recipe.domain.enums.Visibility;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeCommentRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeImageRepository;
 import com.knusrae.cook.api.recipe.domain.repository.RecipeRepository;
 import com.knusrae.cook.api.recipe.dto.RecipeDto;
 import com.knusrae.common.domain.repository.MemberRepository;
+import com.knusrae.cook.api.search.domain.analytics.SearchQueryTracker;
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+import com.knusrae.cook.api.search.domain.index.AutocompleteIndex;
+import com.knusrae.cook.api.search.domain.index.FacetBitmapIndex;
+import com.knusrae.cook.api.search.domain.index.IngredientBitmapIndex;
+import com.knusrae.cook.api.search.domain.index.JamoNgramIndex;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchCursor;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchHits;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchIndex;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchPageCache;
+import com.knusrae.cook.api.search.domain.index.RecipeSearchPageCache.RecipeSearchResult;
+import com.knusrae.cook.api.search.domain.index.SpellingIndex;
+import com.knusrae.cook.api.search.domain.index.Suggestion;
+import com.knusrae.cook.api.search.dto.RecipeIngredientMatchDto;
+import com.knusrae.cook.api.search.dto.RecipeSearchPageDto;
+import com.knusrae.cook.api.search.dto.SearchFacetDto;
+import com.knusrae.cook.api.search.dto.SearchSuggestionDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.knusrae.cook.api.search.domain.constants.SearchConstants.*;
+
 /**
  * 검색 기능을 제공하는 서비스
  * 여러 도메인(레시피 등)의 검색 기능을 통합 관리
@@ -31,12 +56,25 @@ public class SearchService {
     private final RecipeImageRepository recipeImageRepository;
     private final MemberRepository memberRepository;
     private final RecipeCommentRepository recipeCommentRepository;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final IngredientBitmapIndex ingredientBitmapIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final JamoNgramIndex jamoNgramIndex;
+    private final FacetBitmapIndex facetBitmapIndex;
+    private final SpellingIndex spellingIndex;
+    private final RecipeSearchPageCache recipeSearchPageCache;
+    private final SearchQueryTracker searchQueryTracker;
 
     /**
-     * 레시피 제목으로 검색 (공개된 레시피만)
+     * 레시피 검색 (공개된 레시피만)
+     * 검색 색인에서 제목·소개·재료·조리 단계를 대상으로 관련도 순 ID를 얻은 뒤 해당 레시피만 조회한다.
+     * 색인이 아직 준비되지 않았으면 제목 LIKE 검색으로 대체한다.
+     * 초성·조합 중인 글자가 섞인 검색어는 초성·자모 색인에서 제목을 찾는다.
+     * 색인 검색 결과가 없으면 오타 교정 사전으로 교정한 검색어로 한 번 더 검색한다.
+     * 페이지가 필요한 화면은 {@link #searchRecipePage(String, String, Integer, List)} 사용.
      * 
      * @param keyword 검색어
-     * @return 제목에 검색어가 포함된 공개 레시피 목록 (썸네일, 작성자 정보, 댓글 개수 포함)
+     * @return 관련도 순 공개 레시피 목록 (썸네일, 작성자 정보, 댓글 개수 포함, 최대 MAX_SEARCH_RESULTS건)
      */
     public List<RecipeDto> searchRecipesByTitle(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
@@ -45,12 +83,306 @@ public class SearchService {
         }
         
         log.debug("Searching recipes with keyword: {}", keyword);
-        List<Recipe> recipeList = recipeRepository.searchRecipesByTitle(keyword.trim());
-        log.info("Found {} recipes matching keyword: {}", recipeList.size(), keyword);
+        recordQuery(keyword.trim());
+        List<Recipe> recipeList = HangulUtils.containsJamo(keyword)
+                ? findPublicRecipesInOrder(searchTitleIdsByJamo(keyword.trim()))
+                : recipeSearchIndex.isReady()
+                ? findPublicRecipesInOrder(searchIdsWithCorrection(keyword.trim()))
+                : recipeRepository.searchRecipesByTitle(keyword.trim(), null, MAX_SEARCH_RESULTS);
+        log.debug("Found {} recipes matching keyword: {}", recipeList.size(), keyword);
         
         return setThumbnailsForRecipeList(recipeList);
     }
 
+    /**
+     * 레시피 검색 - 커서 기반 페이지 (공개된 레시피만)
+     * 검색어가 아무리 넓어도 한 페이지(최대 MAX_SEARCH_PAGE_SIZE건)만 조회하고,
+     * 썸네일·작성자·댓글 개수도 그 페이지에 대해서만 채운다.
+     * 색인이 아직 준비되지 않았으면 제목 LIKE 검색(ID 내림차순 키셋)으로 대체하며, 이때 전체 건수는 근사값이고 패싯은 제공하지 않는다.
+     * 초성·조합 중인 글자가 섞인 검색어는 초성·자모 색인에서 제목을 찾는다 (최대 MAX_SEARCH_RESULTS건).
+     * 첫 페이지에는 검색 결과 비트맵과 패싯 비트맵의 교집합으로 계산한 패싯별 건수를 함께 내려준다.
+     * 첫 페이지 색인 검색 결과가 없으면 오타 교정한 검색어로 다시 검색하고 correctedKeyword 로 알려준다.
+     * 패싯 필터가 없는 첫 페이지는 짧은 기간 캐시되며, 인기 검색어는 검색 집계에서 미리 채워 둔다.
+     *
+     * @param keyword   검색어
+     * @param cursor    이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size      페이지 크기 (null이면 DEFAULT_SEARCH_PAGE_SIZE)
+     * @param facetKeys 패싯 필터 ("codeId:detailCodeId", 같은 코드끼리 OR, 다른 코드끼리 AND)
+     * @return 검색 결과 페이지
+     */
+    public RecipeSearchPageDto searchRecipePage(String keyword, String cursor, Integer size, List<String> facetKeys) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            log.warn("Empty keyword provided for recipe search");
+            return RecipeSearchPageDto.empty();
+        }
+        String query = keyword.trim();
+        RecipeSearchCursor after = RecipeSearchCursor.decode(cursor);
+        int pageSize = size == null ? DEFAULT_SEARCH_PAGE_SIZE : Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        boolean filtered = facetKeys != null && !facetKeys.isEmpty();
+        boolean cacheable = after == null && !filtered;
+        if (after == null) {
+            recordQuery(query);
+        }
+
+        RecipeSearchResult result = cacheable ? recipeSearchPageCache.get(SearchQueryTracker.normalize(query), pageSize) : null;
+        if (result == null) {
+            result = findPage(query, filtered ? facetBitmapIndex.filter(facetKeys) : null, after, pageSize);
+            if (cacheable && recipeSearchIndex.isReady()) {
+                recipeSearchPageCache.put(SearchQueryTracker.normalize(query), pageSize, result);
+            }
+        }
+        RecipeSearchHits hits = result.hits();
+        List<Recipe> recipeList = findPublicRecipesInOrder(hits.recipeIds());
+        log.debug("Found {} recipes (total {}{}) matching keyword: {}",
+                recipeList.size(), hits.totalHits(), hits.totalHitsExact() ? "" : "+", keyword);
+
+        return RecipeSearchPageDto.builder()
+                .recipes(setThumbnailsForRecipeList(recipeList))
+                .nextCursor(hits.nextCursor() == null ? null : hits.nextCursor().encode())
+                .hasNext(hits.nextCursor() != null)
+                .totalCount(hits.totalHits())
+                .totalCountExact(hits.totalHitsExact())
+                .correctedKeyword(result.correctedKeyword())
+                .facets(result.facets().stream()
+                        .map(SearchFacetDto::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * 검색 첫 페이지(기본 페이지 크기, 패싯 필터 없음)를 미리 계산해 캐시에 넣는다.
+     * 검색 집계에는 기록하지 않는다.
+     *
+     * @param keyword 검색어
+     */
+    public void prewarmRecipePage(String keyword) {
+        if (keyword == null || keyword.isBlank() || !recipeSearchIndex.isReady()) {
+            return;
+        }
+        String query = keyword.trim();
+        recipeSearchPageCache.put(SearchQueryTracker.normalize(query), DEFAULT_SEARCH_PAGE_SIZE,
+                findPage(query, null, null, DEFAULT_SEARCH_PAGE_SIZE));
+    }
+
+    /**
+     * 검색 한 페이지의 레시피 ID와 (첫 페이지면) 패싯 건수 조회
+     */
+    private RecipeSearchResult findPage(String query, RoaringBitmap facetFilter, RecipeSearchCursor after, int pageSize) {
+        if (HangulUtils.containsJamo(query)) {
+            List<Long> recipeIds = searchTitleIdsByJamo(query);
+            if (facetFilter != null) {
+                recipeIds.removeIf(recipeId -> !facetFilter.contains(Math.toIntExact(recipeId)));
+            }
+            RecipeSearchHits hits = pageOf(recipeIds, after, pageSize);
+            if (after != null) {
+                return new RecipeSearchResult(hits, List.of(), null);
+            }
+            RoaringBitmap results = new RoaringBitmap();
+            recipeIds.forEach(recipeId -> results.add(Math.toIntExact(recipeId)));
+            return new RecipeSearchResult(hits, countFacets(results), null);
+        }
+        if (!recipeSearchIndex.isReady()) {
+            return new RecipeSearchResult(searchByTitleFallback(query, after, pageSize), List.of(), null);
+        }
+
+        RecipeSearchHits hits = recipeSearchIndex.searchPage(query, facetFilter, after, pageSize);
+        if (after != null) {
+            return new RecipeSearchResult(hits, List.of(), null);
+        }
+        String correctedKeyword = null;
+        if (hits.recipeIds().isEmpty()) {
+            correctedKeyword = spellingIndex.correctQuery(query);
+            if (correctedKeyword != null) {
+                log.debug("No recipes for keyword: {}, retrying with correction: {}", query, correctedKeyword);
+                query = correctedKeyword;
+                hits = recipeSearchIndex.searchPage(query, facetFilter, null, pageSize);
+            }
+        }
+        RoaringBitmap results = recipeSearchIndex.matchingIds(query);
+        if (facetFilter != null) {
+            results.and(facetFilter);
+        }
+        return new RecipeSearchResult(hits, countFacets(results), correctedKeyword);
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 레시피 검색 (공개된 레시피만)
+     * 재료 비트맵 색인에서 충족률·부족 재료 수 기준으로 순위를 매긴 뒤 상위 결과만 조회한다.
+     * minMatch 가 1이면 OR, 재료 수 이상이면 AND, 그 사이면 "최소 k개 일치" 검색이 된다.
+     *
+     * @param ingredients 보유 재료명 (최대 MAX_PANTRY_INGREDIENTS개)
+     * @param minMatch    최소 일치 재료 수 (null이면 1)
+     * @param size        최대 결과 수 (null이면 DEFAULT_SEARCH_PAGE_SIZE, 최대 MAX_SEARCH_PAGE_SIZE)
+     * @return 순위순 검색 결과 (썸네일, 작성자 정보, 댓글 개수 포함)
+     */
+    public List<RecipeIngredientMatchDto> searchRecipesByIngredients(List<String> ingredients, Integer minMatch, Integer size) {
+        if (ingredients == null || ingredients.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (ingredients.size() > MAX_PANTRY_INGREDIENTS) {
+            throw new IllegalArgumentException("재료는 최대 " + MAX_PANTRY_INGREDIENTS + "개까지 입력할 수 있습니다.");
+        }
+        if (!ingredientBitmapIndex.isReady()) {
+            log.warn("Ingredient bitmap index is not ready yet");
+            return new ArrayList<>();
+        }
+        int limit = size == null ? DEFAULT_SEARCH_PAGE_SIZE : Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        List<IngredientBitmapIndex.IngredientMatch> matches =
+                ingredientBitmapIndex.match(ingredients, minMatch == null ? 1 : minMatch, limit);
+
+        List<Recipe> recipeList = findPublicRecipesInOrder(matches.stream().map(IngredientBitmapIndex.IngredientMatch::recipeId).toList());
+        Map<Long, RecipeDto> recipeDtoMap = setThumbnailsForRecipeList(recipeList).stream()
+                .collect(Collectors.toMap(RecipeDto::getId, dto -> dto));
+
+        List<RecipeIngredientMatchDto> result = new ArrayList<>();
+        for (IngredientBitmapIndex.IngredientMatch match : matches) {
+            RecipeDto recipeDto = recipeDtoMap.get(match.recipeId());
+            if (recipeDto == null) {
+                continue;
+            }
+            result.add(RecipeIngredientMatchDto.builder()
+                    .recipe(recipeDto)
+                    .matchedCount(match.matchedCount())
+                    .requiredCount(match.requiredCount())
+                    .coverage(match.coverage())
+                    .missingIngredients(match.missingIngredients())
+                    .build());
+        }
+        log.debug("Found {} recipes for ingredients: {}", result.size(), ingredients);
+        return result;
+    }
+
+    /**
+     * 검색어 자동완성 (레시피 제목·재료명 접두어)
+     * 메모리 사전만 조회하므로 DB 조회가 없다.
+     * 접두어 사전 결과가 부족하면 초성·자모 색인의 부분 일치로 채우며, 초성·조합 중인 글자가 섞인 입력은 초성·자모 색인만 사용한다.
+     * 종류를 지정하지 않으면 재료명을 최대 절반까지 먼저 채우고 나머지를 레시피 제목으로 채운다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param type   후보 종류 (RECIPE / INGREDIENT, null이면 둘 다)
+     * @param size   최대 후보 수 (null이면 DEFAULT_SUGGESTION_SIZE, 최대 MAX_SUGGESTION_SIZE)
+     * @return 자동완성 후보
+     */
+    public List<SearchSuggestionDto> suggest(String prefix, SuggestionType type, Integer size) {
+        int limit = size == null ? DEFAULT_SUGGESTION_SIZE : Math.max(1, Math.min(size, MAX_SUGGESTION_SIZE));
+        List<Suggestion> suggestions;
+        if (type != null) {
+            suggestions = suggestOfType(prefix, type, limit);
+        } else {
+            suggestions = new ArrayList<>(suggestOfType(prefix, SuggestionType.INGREDIENT, limit / 2));
+            suggestions.addAll(suggestOfType(prefix, SuggestionType.RECIPE, limit - suggestions.size()));
+        }
+        return suggestions.stream()
+                .map(SearchSuggestionDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private List<Suggestion> suggestOfType(String prefix, SuggestionType type, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        if (HangulUtils.containsJamo(prefix)) {
+            return jamoNgramIndex.search(prefix, type, limit);
+        }
+        List<Suggestion> suggestions = new ArrayList<>(autocompleteIndex.suggest(prefix, type, limit));
+        if (suggestions.size() < limit) {
+            Set<Long> seenIds = suggestions.stream().map(Suggestion::id).collect(Collectors.toSet());
+            jamoNgramIndex.search(prefix, type, limit).stream()
+                    .filter(suggestion -> seenIds.add(suggestion.id()))
+                    .limit(limit - suggestions.size())
+                    .forEach(suggestions::add);
+        }
+        return suggestions;
+    }
+
+    /**
+     * 초성·자모 색인으로 레시피 제목 검색 (최대 MAX_SEARCH_RESULTS건)
+     */
+    private List<Long> searchTitleIdsByJamo(String keyword) {
+        return jamoNgramIndex.search(keyword, SuggestionType.RECIPE, MAX_SEARCH_RESULTS).stream()
+                .map(Suggestion::id)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 색인 검색 결과가 없으면 오타 교정한 검색어로 한 번 더 검색
+     */
+    private List<Long> searchIdsWithCorrection(String keyword) {
+        List<Long> recipeIds = recipeSearchIndex.search(keyword, MAX_SEARCH_RESULTS);
+        if (!recipeIds.isEmpty()) {
+            return recipeIds;
+        }
+        String corrected = spellingIndex.correctQuery(keyword);
+        if (corrected == null) {
+            return recipeIds;
+        }
+        log.debug("No recipes for keyword: {}, retrying with correction: {}", keyword, corrected);
+        return recipeSearchIndex.search(corrected, MAX_SEARCH_RESULTS);
+    }
+
+    /**
+     * 순위가 정해진 결과 목록(초성·자모 검색)에서 커서의 레시피 다음부터 한 페이지를 자른다.
+     */
+    private RecipeSearchHits pageOf(List<Long> recipeIds, RecipeSearchCursor after, int pageSize) {
+        int from = 0;
+        if (after != null) {
+            int position = recipeIds.indexOf(after.recipeId());
+            // 커서 레시피가 결과에서 빠졌으면(사전 갱신 등) 더 이어 줄 수 없으므로 끝으로 처리
+            from = position < 0 ? recipeIds.size() : position + 1;
+        }
+        int to = Math.min(from + pageSize, recipeIds.size());
+        List<Long> page = from < to ? recipeIds.subList(from, to) : List.of();
+        RecipeSearchCursor nextCursor = to < recipeIds.size() ? new RecipeSearchCursor(0f, recipeIds.get(to - 1)) : null;
+        return new RecipeSearchHits(page, nextCursor, recipeIds.size(), recipeIds.size() < MAX_SEARCH_RESULTS);
+    }
+
+    private List<FacetBitmapIndex.FacetCount> countFacets(RoaringBitmap results) {
+        return facetBitmapIndex.isReady() ? facetBitmapIndex.count(results) : List.of();
+    }
+
+    /**
+     * 검색어 집계 기록. 초성·조합 중인 입력은 완성된 검색어가 아니므로 제외한다.
+     */
+    private void recordQuery(String query) {
+        if (!HangulUtils.containsJamo(query)) {
+            searchQueryTracker.record(query);
+        }
+    }
+
+    /**
+     * 색인 준비 전 대체 검색. 커서의 레시피 ID를 키셋 기준으로 사용한다.
+     */
+    private RecipeSearchHits searchByTitleFallback(String keyword, RecipeSearchCursor after, int pageSize) {
+        List<Long> recipeIds = recipeRepository
+                .searchRecipesByTitle(keyword, after == null ? null : after.recipeId(), pageSize + 1)
+                .stream()
+                .map(Recipe::getId)
+                .collect(Collectors.toList());
+        boolean hasNext = recipeIds.size() > pageSize;
+        if (hasNext) {
+            recipeIds = recipeIds.subList(0, pageSize);
+        }
+        RecipeSearchCursor nextCursor = hasNext ? new RecipeSearchCursor(0f, recipeIds.get(pageSize - 1)) : null;
+        return new RecipeSearchHits(recipeIds, nextCursor, recipeIds.size() + (hasNext ? 1 : 0), !hasNext && after == null);
+    }
+
+    /**
+     * 색인 결과 ID 순서를 유지하며 레시피 조회.
+     * 색인 반영 전에 비공개로 바뀐 레시피는 제외한다.
+     */
+    private List<Recipe> findPublicRecipesInOrder(List<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Recipe> recipeMap = recipeRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, recipe -> recipe));
+        return recipeIds.stream()
+                .map(recipeMap::get)
+                .filter(Objects::nonNull)
+                .filter(recipe -> recipe.getStatus() == Status.PUBLISHED && recipe.getVisibility() == Visibility.PUBLIC)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 레시피 목록에 썸네일, 작성자 정보, 댓글 개수 설정
      * 
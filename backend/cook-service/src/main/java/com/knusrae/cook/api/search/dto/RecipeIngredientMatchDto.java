@@ -0,0 +1,27 @@
+package com.knusrae.cook.api.search.dto;
+
+import com.knusrae.cook.api.recipe.dto.RecipeDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 보유 재료 기반 레시피 검색 결과 한 건
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecipeIngredientMatchDto {
+    private RecipeDto recipe;
+    /** 보유 재료 중 레시피에 쓰이는 재료 수 */
+    private Integer matchedCount;
+    /** 레시피 전체 재료 수 */
+    private Integer requiredCount;
+    /** 재료 충족률 (matchedCount / requiredCount) */
+    private Double coverage;
+    /** 부족한 재료 */
+    private List<String> missingIngredients;
+}
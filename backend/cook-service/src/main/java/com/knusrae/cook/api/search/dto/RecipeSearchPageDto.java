@@ -0,0 +1,39 @@
+package com.knusrae.cook.api.search.dto;
+
+import com.knusrae.cook.api.recipe.dto.RecipeDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 레시피 검색 결과 페이지
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecipeSearchPageDto {
+    private List<RecipeDto> recipes;
+    /** 다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+    private boolean hasNext;
+    /** 전체 일치 건수. totalCountExact 가 false면 "N건 이상"을 뜻하는 근사값 */
+    private Long totalCount;
+    private boolean totalCountExact;
+    /** 검색 결과가 없어 오타 교정한 검색어로 다시 검색한 경우 그 검색어. 다음 페이지는 이 검색어로 요청한다. */
+    private String correctedKeyword;
+    /** 패싯별 건수 (첫 페이지에만 포함) */
+    private List<SearchFacetDto> facets;
+
+    public static RecipeSearchPageDto empty() {
+        return RecipeSearchPageDto.builder()
+                .recipes(List.of())
+                .hasNext(false)
+                .totalCount(0L)
+                .totalCountExact(true)
+                .facets(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.knusrae.cook.api.search.dto;
+
+import com.knusrae.cook.api.search.domain.index.FacetBitmapIndex;
+import lombok.*;
+
+/**
+ * 검색 결과 패싯 (공통 코드별 레시피 수)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SearchFacetDto {
+    private String codeGroup;
+    private String codeId;
+    private String detailCodeId;
+    private String codeName;
+    /** 필터 요청 시 facets 파라미터로 전달할 값 ("codeId:detailCodeId") */
+    private String key;
+    private Integer count;
+
+    public static SearchFacetDto from(FacetBitmapIndex.FacetCount facetCount) {
+        return SearchFacetDto.builder()
+                .codeGroup(facetCount.facet().codeGroup())
+                .codeId(facetCount.facet().codeId())
+                .detailCodeId(facetCount.facet().detailCodeId())
+                .codeName(facetCount.facet().codeName())
+                .key(facetCount.facet().key())
+                .count(facetCount.count())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.knusrae.cook.api.search.dto;
+
+import lombok.*;
+
+/**
+ * 인기·급상승 검색어 항목
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SearchKeywordDto {
+    private int rank;
+    private String keyword;
+    /** 집계 구간 검색 횟수 (추정값) */
+    private Long searchCount;
+    /** 급상승 배율 (최근 1시간 / 지난 24시간 시간당 평균). 인기 검색어에서는 null */
+    private Double growthRate;
+}
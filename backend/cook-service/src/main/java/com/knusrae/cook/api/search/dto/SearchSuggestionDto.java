@@ -0,0 +1,29 @@
+package com.knusrae.cook.api.search.dto;
+
+import com.knusrae.cook.api.search.domain.index.Suggestion;
+import lombok.*;
+
+/**
+ * 검색어 자동완성 항목
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SearchSuggestionDto {
+    /** RECIPE / INGREDIENT */
+    private String type;
+    /** 레시피 ID 또는 재료 ID */
+    private Long id;
+    private String text;
+
+    public static SearchSuggestionDto from(Suggestion suggestion) {
+        return SearchSuggestionDto.builder()
+                .type(suggestion.type().name())
+                .id(suggestion.id())
+                .text(suggestion.text())
+                .build();
+    }
+}
@@ -1,7 +1,13 @@
 package com.knusrae.cook.api.search.web;
 
+import com.knusrae.cook.api.search.domain.enums.SuggestionType;
+import com.knusrae.cook.api.search.domain.service.SearchAnalyticsService;
 import com.knusrae.cook.api.search.domain.service.SearchService;
 import com.knusrae.cook.api.recipe.dto.RecipeDto;
+import com.knusrae.cook.api.search.dto.RecipeIngredientMatchDto;
+import com.knusrae.cook.api.search.dto.RecipeSearchPageDto;
+import com.knusrae.cook.api.search.dto.SearchKeywordDto;
+import com.knusrae.cook.api.search.dto.SearchSuggestionDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,13 +26,14 @@ import java.util.List;
 @Slf4j
 public class SearchController {
     private final SearchService searchService;
+    private final SearchAnalyticsService searchAnalyticsService;
 
     /**
-     * 레시피 제목으로 검색
+     * 레시피 검색 (제목·소개·재료·조리 단계)
      * 
      * @param keyword 검색어
      * @param authentication 인증 정보 (선택적)
-     * @return 제목에 검색어가 포함된 공개 레시피 목록
+     * @return 관련도 순 공개 레시피 목록
      */
     @GetMapping("/recipes")
     public ResponseEntity<List<RecipeDto>> searchRecipes(
@@ -35,9 +42,85 @@ public class SearchController {
         log.debug("Searching recipes with keyword: {}", keyword);
         
         List<RecipeDto> recipeList = searchService.searchRecipesByTitle(keyword);
-        log.info("Found {} recipes matching keyword: {}", recipeList.size(), keyword);
+        log.debug("Found {} recipes matching keyword: {}", recipeList.size(), keyword);
         
         return ResponseEntity.ok(recipeList);
     }
-}
 
+    /**
+     * 레시피 검색 - 커서 기반 페이지
+     * 
+     * @param keyword 검색어
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 50)
+     * @param facets 패싯 필터 (응답 facets[].key 값, 여러 개 가능)
+     * @return 관련도 순 공개 레시피 한 페이지와 다음 커서, 전체 건수(근사), 패싯별 건수(첫 페이지)
+     */
+    @GetMapping("/recipes/page")
+    public ResponseEntity<RecipeSearchPageDto> searchRecipePage(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) List<String> facets) {
+        log.debug("Searching recipe page with keyword: {}, cursor: {}, size: {}, facets: {}", keyword, cursor, size, facets);
+        return ResponseEntity.ok(searchService.searchRecipePage(keyword, cursor, size, facets));
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 레시피 검색
+     * 예) /api/cook/search/recipes/by-ingredients?ingredients=계란,대파,두부&minMatch=2
+     * 
+     * @param ingredients 보유 재료명 목록
+     * @param minMatch 최소 일치 재료 수 (1: 하나라도 일치, 재료 수: 모두 일치)
+     * @param size 최대 결과 수 (최대 50)
+     * @return 재료 충족률 순 공개 레시피 목록 (부족한 재료 포함)
+     */
+    @GetMapping("/recipes/by-ingredients")
+    public ResponseEntity<List<RecipeIngredientMatchDto>> searchRecipesByIngredients(
+            @RequestParam(required = false) List<String> ingredients,
+            @RequestParam(required = false) Integer minMatch,
+            @RequestParam(required = false) Integer size) {
+        log.debug("Searching recipes by ingredients: {}, minMatch: {}", ingredients, minMatch);
+        return ResponseEntity.ok(searchService.searchRecipesByIngredients(ingredients, minMatch, size));
+    }
+
+    /**
+     * 검색어 자동완성 (레시피 제목·재료명)
+     * 
+     * @param q 입력 중인 검색어
+     * @param type RECIPE / INGREDIENT (생략 시 둘 다)
+     * @param size 최대 후보 수 (최대 20)
+     * @return 인기순 자동완성 후보
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SearchSuggestionDto>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) SuggestionType type,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchService.suggest(q, type, size));
+    }
+
+    /**
+     * 인기 검색어 (지난 24시간)
+     *
+     * @param size 개수 (최대 20)
+     * @return 검색 횟수 순 검색어
+     */
+    @GetMapping("/keywords/popular")
+    public ResponseEntity<List<SearchKeywordDto>> getPopularKeywords(
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchAnalyticsService.getPopularKeywords(size));
+    }
+
+    /**
+     * 급상승 검색어 (최근 1시간, 지난 24시간 시간당 평균 대비)
+     *
+     * @param size 개수 (최대 20)
+     * @return 상승 배율 순 검색어
+     */
+    @GetMapping("/keywords/rising")
+    public ResponseEntity<List<SearchKeywordDto>> getRisingKeywords(
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchAnalyticsService.getRisingKeywords(size));
+    }
+}
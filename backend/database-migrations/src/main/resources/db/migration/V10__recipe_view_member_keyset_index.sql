@@ -0,0 +1,3 @@
+-- 최근 본 레시피 목록을 (조회 시각, 레시피 ID) keyset 으로 읽으므로 회원 인덱스에 레시피 ID 를 덧붙인다.
+CREATE INDEX idx_member_viewed_at_recipe ON recipe_view (member_id, viewed_at DESC, recipe_id DESC);
+DROP INDEX idx_member_viewed_at;
@@ -0,0 +1,7 @@
+-- 회원별 카테고리 선호도 벡터. 조회 기록을 저장할 때마다 조회한 레시피의 카테고리 가중치를 더하고,
+-- 가중치는 반감기에 따라 시간이 지날수록 줄어든다. 상위 카테고리 조회는 이 행 하나만 읽는다.
+CREATE TABLE member_category_affinity (
+    member_id   BIGINT PRIMARY KEY,
+    vector      BYTEA NOT NULL,
+    updated_at  TIMESTAMP NOT NULL
+);
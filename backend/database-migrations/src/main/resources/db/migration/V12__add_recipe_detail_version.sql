@@ -0,0 +1,3 @@
+-- 레시피 상세 캐시 버전. 레시피 수정·댓글 작성/수정/삭제 때마다 올리며,
+-- 상세 조회는 캐시에 든 버전과 같을 때만 캐시의 본문(카테고리·재료·단계·이미지·댓글)을 쓴다.
+ALTER TABLE recipe ADD COLUMN detail_version BIGINT NOT NULL DEFAULT 0;
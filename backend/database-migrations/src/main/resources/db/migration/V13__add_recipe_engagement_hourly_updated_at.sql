@@ -0,0 +1,4 @@
+-- 체크포인트를 인스턴스별 증감분 합산으로 바꾸면서, 다른 인스턴스가 바꾼 버킷만 다시 읽을 수 있도록 갱신 시각을 둔다.
+ALTER TABLE recipe_engagement_hourly ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_recipe_engagement_hourly_updated_at ON recipe_engagement_hourly (updated_at);
@@ -0,0 +1,10 @@
+-- 검색어 집계 (시간 단위). 검색 요청마다 쓰지 않고, 메모리 집계의 상위 검색어만 주기적으로 누적한다.
+CREATE TABLE search_keyword_stat (
+    id            BIGSERIAL PRIMARY KEY,
+    keyword       VARCHAR(100) NOT NULL,
+    bucket_start  TIMESTAMP NOT NULL,
+    search_count  BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_search_keyword_stat_bucket_keyword UNIQUE (bucket_start, keyword)
+);
+
+CREATE INDEX idx_search_keyword_stat_bucket_start ON search_keyword_stat (bucket_start DESC);
@@ -0,0 +1,12 @@
+-- 레시피 시간 단위 조회·찜 집계 (클러스터 전체 값). 메모리 실시간 집계기의 체크포인트로,
+-- 각 인스턴스가 주기적으로 자기가 받은 버킷별 증감분을 더한다 (count = count + 증감분, 덮어쓰지 않는다).
+CREATE TABLE recipe_engagement_hourly (
+    id              BIGSERIAL PRIMARY KEY,
+    recipe_id       BIGINT NOT NULL,
+    bucket_hour     TIMESTAMP NOT NULL,
+    view_count      INTEGER NOT NULL DEFAULT 0,
+    favorite_count  INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT uk_recipe_engagement_hourly_recipe_bucket UNIQUE (recipe_id, bucket_hour)
+);
+
+CREATE INDEX idx_recipe_engagement_hourly_bucket_hour ON recipe_engagement_hourly (bucket_hour);
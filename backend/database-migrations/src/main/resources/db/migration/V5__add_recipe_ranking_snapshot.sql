@@ -0,0 +1,28 @@
+-- 인기도 순위 스냅샷. 매시 상위 순위를 행 하나(순위 순 레시피 ID 배열 + 점수 배열)로 기록하고,
+-- 보관 기간이 지난 시간 단위 스냅샷은 날짜별 하나만 남겨 DAILY 로 축약한다.
+CREATE TABLE recipe_ranking_snapshot (
+    id                 BIGSERIAL PRIMARY KEY,
+    recorded_at        TIMESTAMP NOT NULL,
+    granularity        VARCHAR(10) NOT NULL DEFAULT 'HOURLY',
+    recipe_ids         BIGINT[] NOT NULL,
+    popularity_scores  DOUBLE PRECISION[] NOT NULL
+);
+
+CREATE INDEX idx_recipe_ranking_snapshot_recorded_at ON recipe_ranking_snapshot (recorded_at DESC);
+
+-- 기존 순위 히스토리(레시피별 행)를 기록 시각(시 단위)별 스냅샷으로 옮긴다.
+-- 여러 인스턴스가 같은 시간에 순위를 기록했으면 (시간, 레시피) 가 겹치므로, 가장 높은 순위 행 하나만 남긴 뒤 모은다
+-- (스냅샷은 배열 위치를 순위로 쓰므로 중복이 남으면 뒤 순위가 밀린다).
+INSERT INTO recipe_ranking_snapshot (recorded_at, granularity, recipe_ids, popularity_scores)
+SELECT MIN(recorded_at),
+       'HOURLY',
+       ARRAY_AGG(recipe_id ORDER BY rank, recipe_id),
+       ARRAY_AGG(popularity_score ORDER BY rank, recipe_id)
+FROM (
+    SELECT DISTINCT ON (DATE_TRUNC('hour', recorded_at), recipe_id)
+           DATE_TRUNC('hour', recorded_at) AS bucket_hour, recipe_id, rank, popularity_score, recorded_at
+    FROM recipe_popularity_history
+    ORDER BY DATE_TRUNC('hour', recorded_at), recipe_id, rank, recorded_at
+) deduplicated
+GROUP BY bucket_hour
+ORDER BY MIN(recorded_at);
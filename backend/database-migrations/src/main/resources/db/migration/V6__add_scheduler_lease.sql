@@ -0,0 +1,10 @@
+-- 배치 작업 임대(lease). 여러 인스턴스 중 임대를 가진 하나만 작업을 실행한다.
+-- 만료된 임대를 다른 인스턴스가 가져갈 때마다 fencing_token 이 증가하므로, 이전 보유자의 갱신은 실패한다.
+CREATE TABLE scheduler_lease (
+    lease_name     VARCHAR(100) PRIMARY KEY,
+    owner_id       VARCHAR(200) NOT NULL,
+    fencing_token  BIGINT NOT NULL,
+    acquired_at    TIMESTAMP NOT NULL,
+    renewed_at     TIMESTAMP NOT NULL,
+    expires_at     TIMESTAMP NOT NULL
+);
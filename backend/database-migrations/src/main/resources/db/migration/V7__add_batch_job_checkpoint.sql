@@ -0,0 +1,14 @@
+-- 청크 단위 배치 작업의 진행 상황. 청크가 끝날 때마다 마지막으로 처리한 키(last_key)를 기록하고,
+-- 배포·장애로 중단된 작업은 다음 실행 때 last_key 다음 청크부터 이어서 처리한다.
+CREATE TABLE batch_job_checkpoint (
+    job_name       VARCHAR(100) PRIMARY KEY,
+    status         VARCHAR(20) NOT NULL,
+    last_key       BIGINT NOT NULL DEFAULT 0,
+    chunk_count    BIGINT NOT NULL DEFAULT 0,
+    read_count     BIGINT NOT NULL DEFAULT 0,
+    written_count  BIGINT NOT NULL DEFAULT 0,
+    failed_chunks  BIGINT NOT NULL DEFAULT 0,
+    started_at     TIMESTAMP NOT NULL,
+    updated_at     TIMESTAMP NOT NULL,
+    finished_at    TIMESTAMP
+);
@@ -0,0 +1,2 @@
+-- 순위 이력은 V5 에서 recipe_ranking_snapshot 으로 옮겼고 이후로는 아무것도 쓰지 않으므로 지운다.
+DROP TABLE IF EXISTS recipe_popularity_history;
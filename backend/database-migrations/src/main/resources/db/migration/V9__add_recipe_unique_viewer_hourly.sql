@@ -0,0 +1,15 @@
+-- 레시피 시간 단위 순 방문자 HyperLogLog 스케치. 비회원을 포함한 방문자 해시를 시간 버킷별로 모으며,
+-- 여러 인스턴스의 스케치는 행 잠금 후 레지스터별 최댓값으로 합친다.
+CREATE TABLE recipe_unique_viewer_hourly (
+    id           BIGSERIAL PRIMARY KEY,
+    recipe_id    BIGINT NOT NULL,
+    bucket_hour  TIMESTAMP NOT NULL,
+    sketch       BYTEA NOT NULL,
+    CONSTRAINT uk_recipe_unique_viewer_hourly_recipe_bucket UNIQUE (recipe_id, bucket_hour)
+);
+
+CREATE INDEX idx_recipe_unique_viewer_hourly_bucket_hour ON recipe_unique_viewer_hourly (bucket_hour);
+
+-- 인기도에 순 방문자(추정) 지표 추가
+ALTER TABLE recipe_popularity ADD COLUMN unique_viewers_24h BIGINT DEFAULT 0;
+ALTER TABLE recipe_popularity ADD COLUMN unique_viewers_7d BIGINT DEFAULT 0;
@@ -32,7 +32,6 @@ public class MemberWithdrawalService {
         exec("DELETE FROM inquiry WHERE member_id = ?", memberId);
 
         // 2) 본인이 작성한 레시피와 하위 데이터
-        exec("DELETE FROM recipe_popularity_history WHERE recipe_id IN (SELECT id FROM recipe WHERE member_id = ?)", memberId);
         exec("DELETE FROM recipe_popularity WHERE recipe_id IN (SELECT id FROM recipe WHERE member_id = ?)", memberId);
         exec("DELETE FROM recipe_view WHERE recipe_id IN (SELECT id FROM recipe WHERE member_id = ?)", memberId);
         exec("DELETE FROM recipe_favorite WHERE recipe_id IN (SELECT id FROM recipe WHERE member_id = ?)", memberId);
@@ -50,10 +49,11 @@ public class MemberWithdrawalService {
         exec("DELETE FROM theme_collection_recipe WHERE recipe_id IN (SELECT id FROM recipe WHERE member_id = ?)", memberId);
         exec("DELETE FROM recipe WHERE member_id = ?", memberId);
 
-        // 3) 타인 레시피에 남긴 댓글·찜·최근 본
+        // 3) 타인 레시피에 남긴 댓글·찜·최근 본, 최근 본 레시피로 쌓은 카테고리 선호도
         exec("DELETE FROM recipe_comment WHERE member_id = ?", memberId);
         exec("DELETE FROM recipe_favorite WHERE member_id = ?", memberId);
         exec("DELETE FROM recipe_view WHERE member_id = ?", memberId);
+        exec("DELETE FROM member_category_affinity WHERE member_id = ?", memberId);
 
         // 4) 레시피북·북마크
         exec("DELETE FROM recipe_bookmark WHERE recipebook_id IN (SELECT id FROM recipebook WHERE member_id = ?)", memberId);
@@ -1,5 +1,6 @@
 import { httpJson, httpForm } from '@/utils/http';
 import { getApiBaseUrl } from '@/utils/constants';
+import { getVisitorId } from '@/utils/visitor';
 import type { PopularRecipeItem, Recipe, RecipeDetail, RecipeComment, FavoriteItem, MyCommentItem } from '@/types/recipe';
 
 const BASE_URL = getApiBaseUrl('cook');
@@ -17,7 +18,10 @@ export async function getPopularRecipes(limit: number = 10, period: '24h' | '7d'
  * 레시피 상세 조회
  */
 export async function getRecipeDetail(recipeId: number): Promise<RecipeDetail> {
-    return await httpJson<RecipeDetail>(BASE_URL, `/api/cook/recipe/${recipeId}`, { method: 'GET' });
+    return await httpJson<RecipeDetail>(BASE_URL, `/api/cook/recipe/${recipeId}`, {
+        method: 'GET',
+        headers: { 'X-Visitor-Id': getVisitorId() }
+    });
 }
 
 /**
@@ -24,22 +24,24 @@ export async function createRecipeView(recipeId: number): Promise<CreateViewResp
  * 최근 본 레시피 목록 조회
  *
  * @param memberId 회원 ID
- * @param limit 조회할 개수 (기본값: 10)
- * @param offset 건너뛸 개수 (기본값: 0)
+ * @param limit 조회할 개수 (기본값: 10, 최대 50)
+ * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
  * @returns 최근 본 레시피 목록
  */
-export async function getRecentViews(memberId: number, limit: number = 10, offset: number = 0): Promise<RecentViewsResponse> {
+export async function getRecentViews(memberId: number, limit: number = 10, cursor?: string | null): Promise<RecentViewsResponse> {
     const params = new URLSearchParams({
-        limit: limit.toString(),
-        offset: offset.toString()
+        limit: limit.toString()
     });
+    if (cursor) {
+        params.set('cursor', cursor);
+    }
 
     const url = `/api/cook/members/${memberId}/recent-views?${params}`;
     const response = await httpJson<ApiResponse<RecentViewsResponse>>(BASE_URL, url, {
         method: 'GET'
     });
     const payload = response?.data;
-    return payload ?? { views: [], totalCount: 0 };
+    return payload ?? { views: [], hasNext: false, nextCursor: null };
 }
 
 /**
@@ -166,6 +166,8 @@ export interface PopularityStats {
     favoriteCount: number;
     commentCount: number;
     favoriteIncrease24h?: number;
+    uniqueViewers24h?: number;
+    uniqueViewers7d?: number;
 }
 
 // 트렌드 상태
@@ -189,9 +191,9 @@ export interface PopularRecipesResponse {
     totalCount?: number;
 }
 
-// 레시피 조회 기록
+// 레시피 조회 기록 (목록 조회는 최근 조회 캐시에서 만들어 id 가 없을 수 있다)
 export interface RecipeView {
-    id: number;
+    id?: number;
     memberId: number;
     recipeId: number;
     viewedAt: string;
@@ -212,13 +214,14 @@ export interface RecipeSimple {
 // 최근 본 레시피 API 응답
 export interface RecentViewsResponse {
     views: RecipeView[];
-    totalCount: number;
+    hasNext: boolean;
+    nextCursor: string | null;
 }
 
-// 조회 기록 생성 API 응답
+// 조회 기록 생성 API 응답 (조회 기록은 서버에서 모아 저장하므로 id 없이 반환된다)
 export interface CreateViewResponse {
-    view: RecipeView;
-    isNew: boolean;
+    view: Omit<RecipeView, 'id'>;
+    accepted: boolean;
 }
 
 // 추천 레시피
@@ -0,0 +1,20 @@
+/**
+ * 비회원 순 방문자 집계용 방문자 ID
+ * (브라우저별 임의 UUID, 개인정보를 담지 않으며 저장소를 쓸 수 없으면 빈 값)
+ */
+
+const VISITOR_ID_KEY = 'knusrae.visitorId';
+
+/** 방문자 ID 조회 (없으면 새로 만들어 저장) */
+export function getVisitorId(): string {
+    try {
+        let visitorId = localStorage.getItem(VISITOR_ID_KEY);
+        if (!visitorId) {
+            visitorId = crypto.randomUUID();
+            localStorage.setItem(VISITOR_ID_KEY, visitorId);
+        }
+        return visitorId;
+    } catch {
+        return '';
+    }
+}